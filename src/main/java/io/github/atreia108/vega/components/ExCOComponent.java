@@ -49,6 +49,8 @@ public final class ExCOComponent implements Component, Poolable
 	public ExecutionMode currentExecutionMode = null;
 	public ExecutionMode nextExecutionMode = null;
 	public long leastCommonTimeStep = 0L;
+	public double scenarioTimeEpoch = 0.0;
+	public double nextModeScheduledTime = -1.0;
 
 	@Override
 	public void reset()
@@ -57,5 +59,7 @@ public final class ExCOComponent implements Component, Poolable
 		currentExecutionMode = null;
 		nextExecutionMode = null;
 		leastCommonTimeStep = 0L;
+		scenarioTimeEpoch = 0.0;
+		nextModeScheduledTime = -1.0;
 	}
 }
@@ -45,9 +45,14 @@ public final class HLAInteractionComponent implements Component, Poolable
 {
 	public String className = null;
 
+	// Logical time of the interaction if it was delivered in timestamp order,
+	// otherwise -1.
+	public long timestamp = -1L;
+
 	@Override
 	public void reset()
 	{
 		className = null;
+		timestamp = -1L;
 	}
 }
@@ -46,10 +46,15 @@ public final class HLAObjectComponent implements Component, Poolable
 	public String className = null;
 	public String instanceName = null;
 
+	// Logical time of the latest reflection if it was delivered in timestamp
+	// order, otherwise -1.
+	public long timestamp = -1L;
+
 	@Override
 	public void reset()
 	{
 		className = null;
 		instanceName = null;
+		timestamp = -1L;
 	}
 }
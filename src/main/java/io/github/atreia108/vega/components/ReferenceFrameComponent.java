@@ -0,0 +1,77 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+/**
+ * The component type for storing data corresponding to the attributes of a
+ * SpaceFOM ReferenceFrame object instance as an ECS component. The state is
+ * expressed relative to the parent frame; the attitude quaternion is stored
+ * as <code>{scalar, x, y, z}</code>.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class ReferenceFrameComponent implements Component, Poolable
+{
+	public String name = null;
+	public String parentName = null;
+
+	public final double[] position = new double[3];
+	public final double[] velocity = new double[3];
+	public final double[] attitude = { 1.0, 0.0, 0.0, 0.0 };
+	public final double[] angularVelocity = new double[3];
+	public double time = 0.0;
+
+	@Override
+	public void reset()
+	{
+		name = null;
+		parentName = null;
+
+		for (int i = 0; i < 3; ++i)
+		{
+			position[i] = 0.0;
+			velocity[i] = 0.0;
+			angularVelocity[i] = 0.0;
+		}
+
+		attitude[0] = 1.0;
+		attitude[1] = 0.0;
+		attitude[2] = 0.0;
+		attitude[3] = 0.0;
+
+		time = 0.0;
+	}
+}
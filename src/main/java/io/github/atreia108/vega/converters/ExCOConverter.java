@@ -39,6 +39,7 @@ import com.badlogic.ashley.core.Entity;
 
 import hla.rti1516e.encoding.DecoderException;
 import hla.rti1516e.encoding.EncoderFactory;
+import hla.rti1516e.encoding.HLAfloat64LE;
 import hla.rti1516e.encoding.HLAinteger16LE;
 import hla.rti1516e.encoding.HLAinteger64BE;
 import hla.rti1516e.encoding.HLAunicodeString;
@@ -85,8 +86,14 @@ public final class ExCOConverter implements IMultiDataConverter
 			case 3:
 				decodeLeastCommonTimeStep(encoder, buffer, component);
 				break;
+			case 4:
+				decodeNextModeScheduledTime(encoder, buffer, component);
+				break;
+			case 5:
+				decodeScenarioTimeEpoch(encoder, buffer, component);
+				break;
 			default:
-				LOGGER.warn("Out of bounds value supplied for trigger ({}) in ExCOConverter. Only values between 0-3 are valid");
+				LOGGER.warn("Out of bounds value supplied for trigger ({}) in ExCOConverter. Only values between 0-5 are valid", trigger);
 				break;
 		}
 	}
@@ -155,6 +162,38 @@ public final class ExCOConverter implements IMultiDataConverter
 		}
 	}
 
+	private void decodeNextModeScheduledTime(EncoderFactory encoder, byte[] buffer, ExCOComponent component)
+	{
+		HLAfloat64LE target = encoder.createHLAfloat64LE();
+
+		try
+		{
+			target.decode(buffer);
+			component.nextModeScheduledTime = target.getValue();
+		}
+		catch (DecoderException e)
+		{
+			LOGGER.error("Failed to decode the next_mode_scheduled_time attribute of the ExCO object instance: ", e);
+			System.exit(1);
+		}
+	}
+
+	private void decodeScenarioTimeEpoch(EncoderFactory encoder, byte[] buffer, ExCOComponent component)
+	{
+		HLAfloat64LE target = encoder.createHLAfloat64LE();
+
+		try
+		{
+			target.decode(buffer);
+			component.scenarioTimeEpoch = target.getValue();
+		}
+		catch (DecoderException e)
+		{
+			LOGGER.error("Failed to decode the scenario_time_epoch attribute of the ExCO object instance: ", e);
+			System.exit(1);
+		}
+	}
+
 	@Override
 	public byte[] encode(Entity entity, EncoderFactory encoder, int trigger)
 	{
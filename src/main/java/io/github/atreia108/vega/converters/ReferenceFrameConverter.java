@@ -0,0 +1,164 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.converters;
+
+import java.nio.ByteOrder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderException;
+import hla.rti1516e.encoding.EncoderFactory;
+import hla.rti1516e.encoding.HLAunicodeString;
+import io.github.atreia108.vega.components.ReferenceFrameComponent;
+import io.github.atreia108.vega.converters.spacefom.SpaceFomCodec;
+import io.github.atreia108.vega.core.IMultiDataConverter;
+import io.github.atreia108.vega.utils.ProjectSettings;
+
+/**
+ * This converter is used for translating the data in
+ * {@link io.github.atreia108.vega.components.ReferenceFrameComponent
+ * ReferenceFrameComponent} to the respective attributes of the
+ * <code>ReferenceFrame</code> object class and vice versa. The
+ * <code>state</code> attribute is a <code>SpaceTimeCoordinateState</code>
+ * handled by {@link io.github.atreia108.vega.converters.spacefom.SpaceFomCodec
+ * SpaceFomCodec}, in the byte order set in the project file unless one is
+ * passed to the constructor.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class ReferenceFrameConverter implements IMultiDataConverter
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private ComponentMapper<ReferenceFrameComponent> mapper;
+	private final ByteOrder order;
+
+	public ReferenceFrameConverter()
+	{
+		this(null);
+	}
+
+	/**
+	 * @param order byte order of the encoded state, or null to follow the project
+	 *              file.
+	 */
+	public ReferenceFrameConverter(ByteOrder order)
+	{
+		mapper = ComponentMapper.getFor(ReferenceFrameComponent.class);
+		this.order = order;
+	}
+
+	@Override
+	public void decode(Entity entity, EncoderFactory encoder, byte[] buffer, int trigger) throws DecoderException
+	{
+		ReferenceFrameComponent component = mapper.get(entity);
+
+		switch (trigger)
+		{
+			case 0:
+				component.name = decodeString(encoder, buffer);
+				break;
+			case 1:
+				component.parentName = decodeString(encoder, buffer);
+				break;
+			case 2:
+				decodeState(buffer, component);
+				break;
+			default:
+				LOGGER.warn("Out of bounds value supplied for trigger ({}) in ReferenceFrameConverter. Only values between 0-2 are valid", trigger);
+				break;
+		}
+	}
+
+	private String decodeString(EncoderFactory encoder, byte[] buffer) throws DecoderException
+	{
+		HLAunicodeString target = encoder.createHLAunicodeString();
+		target.decode(buffer);
+
+		return target.getValue();
+	}
+
+	private void decodeState(byte[] buffer, ReferenceFrameComponent component) throws DecoderException
+	{
+		SpaceFomCodec.requireLength(buffer, SpaceFomCodec.STATE_SIZE, "SpaceTimeCoordinateState");
+		component.time = SpaceFomCodec.readState(buffer, 0, component.position, component.velocity, component.attitude, component.angularVelocity, getByteOrder());
+	}
+
+	@Override
+	public byte[] encode(Entity entity, EncoderFactory encoder, int trigger)
+	{
+		ReferenceFrameComponent component = mapper.get(entity);
+
+		try
+		{
+			switch (trigger)
+			{
+				case 0:
+					return encoder.createHLAunicodeString(component.name).toByteArray();
+				case 1:
+					return encoder.createHLAunicodeString(component.parentName != null ? component.parentName : "").toByteArray();
+				case 2:
+					return encodeState(component);
+				default:
+					LOGGER.warn("Out of bounds value supplied for trigger ({}) in ReferenceFrameConverter. Only values between 0-2 are valid", trigger);
+					return null;
+			}
+		}
+		catch (EncoderException e)
+		{
+			LOGGER.error("Failed to encode the reference frame \"{}\": ", component.name, e);
+			return null;
+		}
+	}
+
+	private byte[] encodeState(ReferenceFrameComponent component)
+	{
+		byte[] buffer = new byte[SpaceFomCodec.STATE_SIZE];
+		SpaceFomCodec.writeState(buffer, 0, component.position, component.velocity, component.attitude, component.angularVelocity, component.time, getByteOrder());
+
+		return buffer;
+	}
+
+	/**
+	 * @return the byte order the state is encoded and decoded with.
+	 */
+	public ByteOrder getByteOrder()
+	{
+		return order != null ? order : ProjectSettings.current().spaceFomByteOrder;
+	}
+}
@@ -0,0 +1,123 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.converters.spacefom;
+
+import java.nio.ByteOrder;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+
+import hla.rti1516e.encoding.DecoderException;
+import hla.rti1516e.encoding.EncoderFactory;
+import io.github.atreia108.vega.core.IDataConverter;
+import io.github.atreia108.vega.utils.ProjectSettings;
+
+/**
+ * <p>
+ * Base class of the converters for the fixed-size SpaceFOM datatypes. It checks
+ * the length of incoming buffers, allocates outgoing ones and resolves the byte
+ * order, so that a subclass only reads and writes the fields of its component
+ * through {@link io.github.atreia108.vega.converters.spacefom.SpaceFomCodec
+ * SpaceFomCodec}.
+ * </p>
+ * 
+ * <p>
+ * Converters created with their no-argument constructor, as the project loader
+ * does, use the byte order set with the <code>ByteOrder</code> attribute of the
+ * <code>SpaceFom</code> element in the project file, which defaults to
+ * little-endian. Converters created with an explicit byte order ignore it.
+ * </p>
+ * 
+ * @param <C> type of the component translated by the converter.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public abstract class ASpaceFomConverter<C extends Component> implements IDataConverter
+{
+	private final ComponentMapper<C> mapper;
+	private final int size;
+	private final String typeName;
+	private final ByteOrder order;
+
+	/**
+	 * @param componentType type of the component translated by the converter.
+	 * @param size          length of the encoded datatype in bytes.
+	 * @param typeName      name of the datatype in the FOM, used in errors.
+	 * @param order         byte order of the encoding, or null to follow the
+	 *                      project file.
+	 */
+	protected ASpaceFomConverter(Class<C> componentType, int size, String typeName, ByteOrder order)
+	{
+		mapper = ComponentMapper.getFor(componentType);
+		this.size = size;
+		this.typeName = typeName;
+		this.order = order;
+	}
+
+	/**
+	 * Reads the fields of the component from a buffer of at least the size of the
+	 * datatype.
+	 */
+	protected abstract void read(C component, byte[] buffer, ByteOrder order);
+
+	/**
+	 * Writes the fields of the component into a buffer of the size of the
+	 * datatype.
+	 */
+	protected abstract void write(C component, byte[] buffer, ByteOrder order);
+
+	@Override
+	public final void decode(Entity entity, EncoderFactory encoderFactory, byte[] buffer) throws DecoderException
+	{
+		SpaceFomCodec.requireLength(buffer, size, typeName);
+		read(mapper.get(entity), buffer, getByteOrder());
+	}
+
+	@Override
+	public final byte[] encode(Entity entity, EncoderFactory encoderFactory)
+	{
+		byte[] buffer = new byte[size];
+		write(mapper.get(entity), buffer, getByteOrder());
+
+		return buffer;
+	}
+
+	/**
+	 * @return the byte order the converter encodes and decodes with.
+	 */
+	public ByteOrder getByteOrder()
+	{
+		return order != null ? order : ProjectSettings.current().spaceFomByteOrder;
+	}
+}
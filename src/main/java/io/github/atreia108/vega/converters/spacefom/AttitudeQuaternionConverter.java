@@ -0,0 +1,73 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.converters.spacefom;
+
+import java.nio.ByteOrder;
+
+import io.github.atreia108.vega.components.spacefom.AttitudeQuaternionComponent;
+
+/**
+ * Translates the data in
+ * {@link io.github.atreia108.vega.components.spacefom.AttitudeQuaternionComponent
+ * AttitudeQuaternionComponent} to and from the
+ * SpaceFOM <code>AttitudeQuaternion</code> datatype.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class AttitudeQuaternionConverter extends ASpaceFomConverter<AttitudeQuaternionComponent>
+{
+	public AttitudeQuaternionConverter()
+	{
+		this(null);
+	}
+
+	/**
+	 * @param order byte order of the encoding, or null to follow the project file.
+	 */
+	public AttitudeQuaternionConverter(ByteOrder order)
+	{
+		super(AttitudeQuaternionComponent.class, SpaceFomCodec.QUATERNION_SIZE, "AttitudeQuaternion", order);
+	}
+
+	@Override
+	protected void read(AttitudeQuaternionComponent component, byte[] buffer, ByteOrder order)
+	{
+		SpaceFomCodec.readQuaternion(buffer, 0, component.attitude, order);
+	}
+
+	@Override
+	protected void write(AttitudeQuaternionComponent component, byte[] buffer, ByteOrder order)
+	{
+		SpaceFomCodec.writeQuaternion(buffer, 0, component.attitude, order);
+	}
+}
@@ -0,0 +1,216 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.converters.spacefom;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import hla.rti1516e.encoding.DecoderException;
+
+/**
+ * <p>
+ * Encoding and decoding of the SpaceFOM datatypes made up entirely of 64-bit
+ * floating point values. Since every field of these records shares the same
+ * size and alignment, their HLA encoding carries no padding or length prefixes
+ * and each record is simply a contiguous run of doubles:
+ * </p>
+ * 
+ * <pre>
+ * Vector                     3 doubles (24 bytes)
+ * AttitudeQuaternion         scalar, vector (32 bytes)
+ * ReferenceFrameTranslation  position, velocity (48 bytes)
+ * ReferenceFrameRotation     attitude_quaternion, angular_velocity (56 bytes)
+ * SpaceTimeCoordinateState   translational_state, rotational_state, time (112 bytes)
+ * </pre>
+ * 
+ * <p>
+ * Values are read from and written to primitive arrays directly through
+ * byte-array views, so none of the methods allocate beyond the returned
+ * buffers. SpaceFOM uses little-endian encodings throughout; the big-endian
+ * order is accepted for FOMs that redefine these types with HLAfloat64BE, and
+ * is selected for the converters with the <code>ByteOrder</code> attribute of
+ * the <code>SpaceFom</code> element in the project file.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class SpaceFomCodec
+{
+	public static final int DOUBLE_SIZE = Double.BYTES;
+	public static final int VECTOR_SIZE = 3 * DOUBLE_SIZE;
+	public static final int QUATERNION_SIZE = 4 * DOUBLE_SIZE;
+	public static final int TRANSLATION_SIZE = 2 * VECTOR_SIZE;
+	public static final int ROTATION_SIZE = QUATERNION_SIZE + VECTOR_SIZE;
+	public static final int STATE_SIZE = TRANSLATION_SIZE + ROTATION_SIZE + DOUBLE_SIZE;
+
+	private static final VarHandle LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+
+	private SpaceFomCodec()
+	{
+	}
+
+	/**
+	 * Check that a buffer holds at least the number of bytes a record requires.
+	 */
+	public static void requireLength(byte[] buffer, int length, String typeName) throws DecoderException
+	{
+		if (buffer == null || buffer.length < length)
+		{
+			int actualLength = buffer == null ? 0 : buffer.length;
+			throw new DecoderException("Expected " + length + " bytes for " + typeName + " but received " + actualLength);
+		}
+	}
+
+	public static double readDouble(byte[] buffer, int offset, ByteOrder order)
+	{
+		return (double) view(order).get(buffer, offset);
+	}
+
+	public static void writeDouble(byte[] buffer, int offset, double value, ByteOrder order)
+	{
+		view(order).set(buffer, offset, value);
+	}
+
+	/**
+	 * Read <code>count</code> consecutive doubles from the buffer into the target
+	 * array.
+	 * 
+	 * @return the offset in the buffer just past the values read.
+	 */
+	public static int readDoubles(byte[] buffer, int offset, double[] target, int targetOffset, int count, ByteOrder order)
+	{
+		VarHandle view = view(order);
+
+		for (int i = 0; i < count; ++i)
+		{
+			target[targetOffset + i] = (double) view.get(buffer, offset);
+			offset += DOUBLE_SIZE;
+		}
+
+		return offset;
+	}
+
+	/**
+	 * Write <code>count</code> consecutive doubles from the source array into the
+	 * buffer.
+	 * 
+	 * @return the offset in the buffer just past the values written.
+	 */
+	public static int writeDoubles(byte[] buffer, int offset, double[] source, int sourceOffset, int count, ByteOrder order)
+	{
+		VarHandle view = view(order);
+
+		for (int i = 0; i < count; ++i)
+		{
+			view.set(buffer, offset, source[sourceOffset + i]);
+			offset += DOUBLE_SIZE;
+		}
+
+		return offset;
+	}
+
+	public static int readVector(byte[] buffer, int offset, double[] vector, ByteOrder order)
+	{
+		return readDoubles(buffer, offset, vector, 0, 3, order);
+	}
+
+	public static int writeVector(byte[] buffer, int offset, double[] vector, ByteOrder order)
+	{
+		return writeDoubles(buffer, offset, vector, 0, 3, order);
+	}
+
+	/**
+	 * The quaternion is stored as <code>{scalar, x, y, z}</code>, matching the
+	 * order of the fields in the encoded record.
+	 */
+	public static int readQuaternion(byte[] buffer, int offset, double[] quaternion, ByteOrder order)
+	{
+		return readDoubles(buffer, offset, quaternion, 0, 4, order);
+	}
+
+	public static int writeQuaternion(byte[] buffer, int offset, double[] quaternion, ByteOrder order)
+	{
+		return writeDoubles(buffer, offset, quaternion, 0, 4, order);
+	}
+
+	public static int readTranslation(byte[] buffer, int offset, double[] position, double[] velocity, ByteOrder order)
+	{
+		offset = readVector(buffer, offset, position, order);
+		return readVector(buffer, offset, velocity, order);
+	}
+
+	public static int writeTranslation(byte[] buffer, int offset, double[] position, double[] velocity, ByteOrder order)
+	{
+		offset = writeVector(buffer, offset, position, order);
+		return writeVector(buffer, offset, velocity, order);
+	}
+
+	public static int readRotation(byte[] buffer, int offset, double[] attitude, double[] angularVelocity, ByteOrder order)
+	{
+		offset = readQuaternion(buffer, offset, attitude, order);
+		return readVector(buffer, offset, angularVelocity, order);
+	}
+
+	public static int writeRotation(byte[] buffer, int offset, double[] attitude, double[] angularVelocity, ByteOrder order)
+	{
+		offset = writeQuaternion(buffer, offset, attitude, order);
+		return writeVector(buffer, offset, angularVelocity, order);
+	}
+
+	/**
+	 * Decode a SpaceTimeCoordinateState into its parts.
+	 * 
+	 * @return the time of the state.
+	 */
+	public static double readState(byte[] buffer, int offset, double[] position, double[] velocity, double[] attitude, double[] angularVelocity, ByteOrder order)
+	{
+		offset = readTranslation(buffer, offset, position, velocity, order);
+		offset = readRotation(buffer, offset, attitude, angularVelocity, order);
+		return readDouble(buffer, offset, order);
+	}
+
+	public static int writeState(byte[] buffer, int offset, double[] position, double[] velocity, double[] attitude, double[] angularVelocity, double time, ByteOrder order)
+	{
+		offset = writeTranslation(buffer, offset, position, velocity, order);
+		offset = writeRotation(buffer, offset, attitude, angularVelocity, order);
+		writeDouble(buffer, offset, time, order);
+		return offset + DOUBLE_SIZE;
+	}
+
+	private static VarHandle view(ByteOrder order)
+	{
+		return order == ByteOrder.BIG_ENDIAN ? BIG_ENDIAN : LITTLE_ENDIAN;
+	}
+}
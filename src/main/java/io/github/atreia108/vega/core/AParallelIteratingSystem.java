@@ -0,0 +1,145 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * <p>
+ * The parallel counterpart of Ashley's <code>IteratingSystem</code>. The
+ * entities of the family are split into chunks of {@link #getGrainSize()}
+ * entities, which are processed on the fork-join pool of the
+ * {@link io.github.atreia108.vega.core.SystemScheduler SystemScheduler}.
+ * </p>
+ * 
+ * <p>
+ * Chunks run concurrently, so {@link #processEntity(Entity, float)} must only
+ * modify the components of the entity it is given and must not add or remove
+ * entities or components. The grain size trades scheduling overhead against
+ * load balance; it should be large enough that a chunk takes a few
+ * microseconds to process.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public abstract class AParallelIteratingSystem extends EntitySystem
+{
+	public static final int DEFAULT_GRAIN_SIZE = 256;
+
+	private final Family family;
+	private int grainSize;
+	private ImmutableArray<Entity> entities;
+
+	public AParallelIteratingSystem(Family family)
+	{
+		this(family, 0, DEFAULT_GRAIN_SIZE);
+	}
+
+	public AParallelIteratingSystem(Family family, int priority)
+	{
+		this(family, priority, DEFAULT_GRAIN_SIZE);
+	}
+
+	public AParallelIteratingSystem(Family family, int priority, int grainSize)
+	{
+		super(priority);
+		this.family = family;
+		setGrainSize(grainSize);
+	}
+
+	/**
+	 * Called once per frame for every entity of the family, possibly on different
+	 * threads for entities of different chunks.
+	 */
+	protected abstract void processEntity(Entity entity, float deltaTime);
+
+	@Override
+	public void addedToEngine(Engine engine)
+	{
+		entities = engine.getEntitiesFor(family);
+	}
+
+	@Override
+	public void removedFromEngine(Engine engine)
+	{
+		entities = null;
+	}
+
+	@Override
+	public void update(float deltaTime)
+	{
+		ImmutableArray<Entity> entities = this.entities;
+		int size = entities.size();
+		int grainSize = this.grainSize;
+		int chunkCount = (size + grainSize - 1) / grainSize;
+
+		SystemScheduler.invokeChunks(chunkCount, (chunk) ->
+		{
+			int end = Math.min((chunk + 1) * grainSize, size);
+			for (int i = chunk * grainSize; i < end; ++i)
+				processEntity(entities.get(i), deltaTime);
+		});
+	}
+
+	public Family getFamily()
+	{
+		return family;
+	}
+
+	public ImmutableArray<Entity> getEntities()
+	{
+		return entities;
+	}
+
+	public int getGrainSize()
+	{
+		return grainSize;
+	}
+
+	/**
+	 * Set the number of entities processed by each chunk.
+	 * 
+	 * @throws IllegalArgumentException if the grain size is not positive.
+	 */
+	public void setGrainSize(int grainSize)
+	{
+		if (grainSize < 1)
+			throw new IllegalArgumentException("The grain size must be positive, got " + grainSize);
+
+		this.grainSize = grainSize;
+	}
+}
@@ -0,0 +1,184 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * <p>
+ * An iterating system that folds the entities of its family into a single
+ * result each frame, e.g. the center of mass of a formation or the closest
+ * pair of vehicles. The entities are split into chunks of
+ * {@link #getGrainSize()} entities that are accumulated in parallel on the
+ * fork-join pool of the {@link io.github.atreia108.vega.core.SystemScheduler
+ * SystemScheduler}, each starting from {@link #identity()}.
+ * </p>
+ * 
+ * <p>
+ * The reduction is deterministic: chunk boundaries only depend on the number of
+ * entities and the grain size, and the partial results are combined in chunk
+ * order on the updating thread. Floating-point results are therefore identical
+ * from one run to the next regardless of the number of threads, which keeps
+ * federates that replay the same scenario in agreement.
+ * </p>
+ * 
+ * <p>
+ * As with {@link io.github.atreia108.vega.core.AParallelIteratingSystem
+ * AParallelIteratingSystem}, entities are accumulated concurrently and must
+ * not be structurally modified.
+ * </p>
+ * 
+ * @param <T> the type of the result.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public abstract class AParallelReducingSystem<T> extends EntitySystem
+{
+	private final Family family;
+	private int grainSize;
+	private ImmutableArray<Entity> entities;
+
+	public AParallelReducingSystem(Family family)
+	{
+		this(family, 0, AParallelIteratingSystem.DEFAULT_GRAIN_SIZE);
+	}
+
+	public AParallelReducingSystem(Family family, int priority)
+	{
+		this(family, priority, AParallelIteratingSystem.DEFAULT_GRAIN_SIZE);
+	}
+
+	public AParallelReducingSystem(Family family, int priority, int grainSize)
+	{
+		super(priority);
+		this.family = family;
+		setGrainSize(grainSize);
+	}
+
+	/**
+	 * Returns a new, empty partial result. It is called once per chunk and once for
+	 * the final result, so it must not return a shared mutable instance.
+	 */
+	protected abstract T identity();
+
+	/**
+	 * Fold an entity into the partial result of its chunk and return the updated
+	 * partial result.
+	 */
+	protected abstract T accumulate(T partial, Entity entity, float deltaTime);
+
+	/**
+	 * Combine two partial results, the left one covering the entities before those
+	 * of the right one.
+	 */
+	protected abstract T combine(T left, T right);
+
+	/**
+	 * Called on the updating thread with the result of the frame.
+	 */
+	protected abstract void onReduced(T result, float deltaTime);
+
+	@Override
+	public void addedToEngine(Engine engine)
+	{
+		entities = engine.getEntitiesFor(family);
+	}
+
+	@Override
+	public void removedFromEngine(Engine engine)
+	{
+		entities = null;
+	}
+
+	@Override
+	public void update(float deltaTime)
+	{
+		ImmutableArray<Entity> entities = this.entities;
+		int size = entities.size();
+		int grainSize = this.grainSize;
+		int chunkCount = (size + grainSize - 1) / grainSize;
+		Object[] partials = new Object[chunkCount];
+
+		SystemScheduler.invokeChunks(chunkCount, (chunk) ->
+		{
+			T partial = identity();
+			int end = Math.min((chunk + 1) * grainSize, size);
+			for (int i = chunk * grainSize; i < end; ++i)
+				partial = accumulate(partial, entities.get(i), deltaTime);
+
+			partials[chunk] = partial;
+		});
+
+		T result = identity();
+		for (Object partial : partials)
+		{
+			@SuppressWarnings("unchecked")
+			T value = (T) partial;
+			result = combine(result, value);
+		}
+
+		onReduced(result, deltaTime);
+	}
+
+	public Family getFamily()
+	{
+		return family;
+	}
+
+	public ImmutableArray<Entity> getEntities()
+	{
+		return entities;
+	}
+
+	public int getGrainSize()
+	{
+		return grainSize;
+	}
+
+	/**
+	 * Set the number of entities accumulated by each chunk.
+	 * 
+	 * @throws IllegalArgumentException if the grain size is not positive.
+	 */
+	public void setGrainSize(int grainSize)
+	{
+		if (grainSize < 1)
+			throw new IllegalArgumentException("The grain size must be positive, got " + grainSize);
+
+		this.grainSize = grainSize;
+	}
+}
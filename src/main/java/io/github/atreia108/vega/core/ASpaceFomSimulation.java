@@ -31,11 +31,14 @@
 
 package io.github.atreia108.vega.core;
 
+import java.util.function.Predicate;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.badlogic.ashley.core.ComponentMapper;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.PooledEngine;
 
 import hla.rti1516e.CallbackModel;
@@ -43,18 +46,26 @@ import hla.rti1516e.RTIambassador;
 import hla.rti1516e.ResignAction;
 import io.github.atreia108.vega.archetypes.ExecutionConfiguration;
 import io.github.atreia108.vega.archetypes.ModeTransitionRequest;
+import io.github.atreia108.vega.archetypes.ReferenceFrame;
 import io.github.atreia108.vega.components.ExCOComponent;
 import io.github.atreia108.vega.converters.ExCOConverter;
 import io.github.atreia108.vega.converters.MTRConverter;
+import io.github.atreia108.vega.converters.ReferenceFrameConverter;
 import io.github.atreia108.vega.data.ExecutionMode;
 import io.github.atreia108.vega.utils.ExecutionLatch;
+import io.github.atreia108.vega.utils.ExecutionLatch.Reason;
+import io.github.atreia108.vega.utils.IProjectSnapshot;
+import io.github.atreia108.vega.utils.InstrumentedEngine;
 import io.github.atreia108.vega.utils.VegaUtilities;
 import io.github.atreia108.vega.utils.ProjectLoader;
 import io.github.atreia108.vega.utils.ProjectSettings;
+import io.github.atreia108.vega.utils.StartupTimer;
 
 /**
  * The base class for all SpaceFOM simulations using the Vega framework. It
  * implements the SpaceFOM late joiner initialization and execution sequences.
+ * The simulation belongs to the {@link FederateContext} of the thread it is
+ * created on, and must be initialized and run on a thread of that context.
  * 
  * @author Hridyanshu Aatreya
  * @since 1.0.0
@@ -63,7 +74,13 @@ public abstract class ASpaceFomSimulation
 {
 	protected static final Logger LOGGER = LogManager.getLogger();
 
+	private static final Predicate<EntitySystem> INDEPENDENT_SYSTEMS = (system) -> !(system instanceof IRemoteDependent);
+	private static final Predicate<EntitySystem> REMOTE_DEPENDENT_SYSTEMS = (system) -> system instanceof IRemoteDependent;
+
+	private static final double MICROSECONDS_PER_SECOND = 1_000_000.0;
+
 	protected final PooledEngine engine;
+	protected final ProjectSettings settings;
 
 	protected ExCOComponent exCOComponent;
 
@@ -71,6 +88,20 @@ public abstract class ASpaceFomSimulation
 	{
 		new ProjectLoader(projectFilePath);
 		engine = VegaUtilities.engine();
+		settings = ProjectSettings.current();
+	}
+
+	/**
+	 * Create the simulation from a precompiled snapshot of its project file rather
+	 * than the file itself.
+	 * 
+	 * @see io.github.atreia108.vega.utils.ProjectSnapshotGenerator
+	 */
+	public ASpaceFomSimulation(IProjectSnapshot projectSnapshot)
+	{
+		new ProjectLoader(projectSnapshot);
+		engine = VegaUtilities.engine();
+		settings = ProjectSettings.current();
 	}
 
 	/**
@@ -93,67 +124,130 @@ public abstract class ASpaceFomSimulation
 	 */
 	protected abstract void onShutdown();
 
+	/**
+	 * Called in pipelined mode (see the <code>Pipelined</code> attribute of the
+	 * <code>TimeManagement</code> element in the project file) after the request
+	 * to advance to the next time step has been issued but before it has been
+	 * granted. Computation for the next frame that does not depend on reflected
+	 * values can be done here so that it overlaps with the wait for the RTI. Remote
+	 * entities must not be read from this method as they are still being updated;
+	 * that work belongs in {@link #onRun()}, which follows once the grant arrives.
+	 * 
+	 * @see #updateIndependentSystems(float)
+	 */
+	protected void onRunAhead()
+	{
+	}
+
+	/**
+	 * Called once when the federation execution enters
+	 * <code>EXEC_MODE_FREEZE</code>, as soon as the federate has advanced to the
+	 * scheduled freeze time. The simulation thread is parked until execution
+	 * resumes.
+	 */
+	protected void onFreeze()
+	{
+	}
+
+	/**
+	 * Called once when the federation execution returns to
+	 * <code>EXEC_MODE_RUNNING</code> after having been frozen, right before the
+	 * next call to {@link #onRun()}.
+	 */
+	protected void onResume()
+	{
+	}
+
 	/**
 	 * Late joiner initialization steps for the simulation. This method must be
-	 * called to start the simulation. It can be overridden to implement custom
-	 * initialization sequences.
+	 * called to start the simulation and returns once the federate has resigned
+	 * after the federation execution was shut down. It can be overridden to
+	 * implement custom initialization sequences.
 	 */
 	protected void init()
 	{
-		final int TOTAL_STEPS = 9;
-		int currentStep = 0;
+		final int TOTAL_STEPS = ProjectRegistry.getRequiredObjects() != null ? 11 : 10;
+		final StartupTimer timer = new StartupTimer(TOTAL_STEPS);
+
+		// Tickets for one-off conditions are obtained up front so that releases
+		// arriving before the corresponding wait begins are not missed.
+		final long exCODiscovered = ExecutionLatch.arm(Reason.EXCO_DISCOVERED);
+		final long exCOInitialized = ExecutionLatch.arm(Reason.EXCO_INITIALIZED);
+		final long requiredObjectsDiscovered = ExecutionLatch.arm(Reason.REQUIRED_OBJECTS_DISCOVERED);
+
+		// Changes to the engine requested by the RTI callbacks are applied on this
+		// thread from now on.
+		EntityCommandBuffer.setOwner(Thread.currentThread());
 
+		timer.begin("Connecting to the RTI");
 		connect();
+		startTrafficMonitor();
 
-		LOGGER.debug("({}/{}) Subscribing to the ExecutionConfiguration (ExCO) object class", ++currentStep, TOTAL_STEPS);
+		timer.begin("Subscribing to the ExecutionConfiguration (ExCO) object class");
 		subscribeExCO();
 		LOGGER.debug("Subscribed to the ExCO object class");
 
-		LOGGER.debug("({}/{}) Declaring the ModeTransitionRequest (MTR) interaction class", ++currentStep, TOTAL_STEPS);
+		if (settings.referenceFrames)
+			subscribeReferenceFrames();
+
+		timer.begin("Declaring the ModeTransitionRequest (MTR) interaction class");
 		publishMTR();
 		LOGGER.debug("MTR interaction class has been declared");
 
-		LOGGER.debug("({}/{}) Waiting to discover the ExCO object instance", ++currentStep, TOTAL_STEPS);
-		ExecutionLatch.enable();
+		// Handles of the remaining classes are resolved while waiting for the ExCO.
+		HLADeclarationManager.resolveAllHandlesAsync();
+
+		timer.begin("Waiting to discover the ExCO object instance");
+		EntityCommandBuffer.await(Reason.EXCO_DISCOVERED, exCODiscovered);
 		LOGGER.debug("Discovered ExCO object instance");
 
-		LOGGER.debug("({}/{}) Waiting to receive the latest values of the ExCO object instance", ++currentStep, TOTAL_STEPS);
-		ExecutionLatch.enable();
+		timer.begin("Waiting to receive the latest values of the ExCO object instance");
+		EntityCommandBuffer.await(Reason.EXCO_INITIALIZED, exCOInitialized);
 		getExCOData();
 		LOGGER.debug("Latest values for ExCO have been received");
 
-		LOGGER.debug("({}/{}) Publishing all object and interaction classes used by this federate", ++currentStep, TOTAL_STEPS);
-		publishAllObjectClasses();
-		publishAllInteractionClasses();
+		timer.begin("Creating the DDM regions declared in the project file");
+		HLARegionManager.createDeclaredRegions();
+		LOGGER.debug("{} DDM region(s) created", ProjectRegistry.getRegionProfiles().size());
+
+		timer.begin("Publishing all object and interaction classes used by this federate");
+		HLADeclarationManager.publishAll();
 		LOGGER.debug("All object and interaction classes used by this federate have been published");
 
-		LOGGER.debug("({}/{}) Registering federate object instances", ++currentStep, TOTAL_STEPS);
+		timer.begin("Registering federate object instances");
 		onInit();
 
-		int registeredInstancesCount = HLAObjectManager.registeredInstancesCount;
+		int registeredInstancesCount = HLAObjectManager.getRegisteredInstancesCount();
 		String verb = registeredInstancesCount == 1 ? " was" : "s were";
 		LOGGER.debug("{} object instance{} successfully registered", registeredInstancesCount, verb);
 
-		LOGGER.debug("({}/{}) Subscribing to all object and interaction classes used by this federate", ++currentStep, TOTAL_STEPS);
-		subscribeAllObjectClasses();
-		subscribeAllInteractionClasses();
+		timer.begin("Subscribing to all object and interaction classes used by this federate");
+		HLADeclarationManager.subscribeAll();
 		LOGGER.debug("All object and interaction classes used by this federate have been subscribed to");
 
-		if (ProjectRegistry.requiredObjects != null)
+		if (ProjectRegistry.getRequiredObjects() != null)
 		{
-			LOGGER.debug("({}/{}) Waiting for all required object instances to be discovered", ++currentStep, TOTAL_STEPS);
-			ExecutionLatch.enable();
+			timer.begin("Waiting for all required object instances to be discovered");
+			EntityCommandBuffer.await(Reason.REQUIRED_OBJECTS_DISCOVERED, requiredObjectsDiscovered);
 			LOGGER.debug("All required object instances were discovered");
 		}
 
-		LOGGER.debug("({}/{}) Aligning simulation timeline with the HLA federation", ++currentStep, TOTAL_STEPS);
+		timer.begin("Aligning simulation timeline with the HLA federation");
 		setupTimeManagement();
 		LOGGER.debug("Simulation timeline is now in sync with the federation");
 
+		timer.report();
+
 		LOGGER.info("Starting execution of the simulation");
 		tick();
 	}
 
+	private void startTrafficMonitor()
+	{
+		if (settings.trafficSamplingInterval > 0)
+			HLATrafficMonitor.start(settings.trafficSamplingInterval, settings.trafficRateWindow, settings.trafficExportFile, settings.trafficExportFormat);
+	}
+
 	private void subscribeExCO()
 	{
 		final String className = "HLAobjectRoot.ExecutionConfiguration";
@@ -176,6 +270,12 @@ public abstract class ASpaceFomSimulation
 		exCoClass.addAttribute("least_common_time_step", HLASharingModel.SUBSCRIBE_ONLY);
 		exCoClass.addMultiConverter("least_common_time_step", converterName, 3);
 
+		exCoClass.addAttribute("next_mode_scheduled_time", HLASharingModel.SUBSCRIBE_ONLY);
+		exCoClass.addMultiConverter("next_mode_scheduled_time", converterName, 4);
+
+		exCoClass.addAttribute("scenario_time_epoch", HLASharingModel.SUBSCRIBE_ONLY);
+		exCoClass.addMultiConverter("scenario_time_epoch", converterName, 5);
+
 		ProjectRegistry.addObjectClass(exCoClass);
 		ProjectRegistry.addArchetype(archetypeName, exCoArchetype);
 		ProjectRegistry.addMultiConverter(converterName, exCoConverter);
@@ -183,6 +283,39 @@ public abstract class ASpaceFomSimulation
 		exCoClass.declare();
 	}
 
+	private void subscribeReferenceFrames()
+	{
+		final String className = "HLAobjectRoot.ReferenceFrame";
+		final String archetypeName = "io.github.atreia108.vega.archetypes.ReferenceFrame";
+		final String converterName = "io.github.atreia108.vega.converters.ReferenceFrameConverter";
+
+		if (ProjectRegistry.getObjectClass(className) != null)
+		{
+			LOGGER.warn("The reference frame tree will not be maintained\n[REASON] The object class \"{}\" is already declared in the project file", className);
+			return;
+		}
+
+		ObjectClassProfile referenceFrameClass = new ObjectClassProfile(className, archetypeName, false);
+		final IMultiDataConverter referenceFrameConverter = new ReferenceFrameConverter();
+		final IEntityArchetype referenceFrameArchetype = new ReferenceFrame();
+
+		referenceFrameClass.addAttribute("name", HLASharingModel.SUBSCRIBE_ONLY);
+		referenceFrameClass.addMultiConverter("name", converterName, 0);
+
+		referenceFrameClass.addAttribute("parent_name", HLASharingModel.SUBSCRIBE_ONLY);
+		referenceFrameClass.addMultiConverter("parent_name", converterName, 1);
+
+		referenceFrameClass.addAttribute("state", HLASharingModel.SUBSCRIBE_ONLY);
+		referenceFrameClass.addMultiConverter("state", converterName, 2);
+
+		ProjectRegistry.addObjectClass(referenceFrameClass);
+		ProjectRegistry.addArchetype(archetypeName, referenceFrameArchetype);
+		ProjectRegistry.addMultiConverter(converterName, referenceFrameConverter);
+
+		referenceFrameClass.declare();
+		LOGGER.debug("Subscribed to the ReferenceFrame object class");
+	}
+
 	private void publishMTR()
 	{
 		final String className = "HLAinteractionRoot.ModeTransitionRequest";
@@ -209,42 +342,15 @@ public abstract class ASpaceFomSimulation
 		exCOComponent = exCOMapper.get(exCO);
 	}
 
-	private void publishAllObjectClasses()
-	{
-		for (ObjectClassProfile objectClass : ProjectRegistry.objectClassProfiles)
-		{
-			if (!objectClass.isPublished)
-				objectClass.publish();
-		}
-	}
-
-	private static void publishAllInteractionClasses()
-	{
-		for (InteractionClassProfile interactionClass : ProjectRegistry.interactionClassProfiles)
-		{
-			if (!interactionClass.isPublished)
-				interactionClass.publish();
-		}
-	}
-
 	public static void subscribeAllObjectClasses()
 	{
-		for (ObjectClassProfile objectClass : ProjectRegistry.objectClassProfiles)
+		for (ObjectClassProfile objectClass : ProjectRegistry.getObjectClassProfiles())
 		{
 			if (!objectClass.isSubscribed)
 				objectClass.subscribe();
 		}
 	}
 
-	private void subscribeAllInteractionClasses()
-	{
-		for (InteractionClassProfile interactionClass : ProjectRegistry.interactionClassProfiles)
-		{
-			if (!interactionClass.isSubscribed)
-				interactionClass.subscribe();
-		}
-	}
-
 	private void setupTimeManagement()
 	{
 		HLATimeManager.enableTimeConstrained();
@@ -252,25 +358,153 @@ public abstract class ASpaceFomSimulation
 		HLATimeManager.advanceTime();
 	}
 
+	/**
+	 * The simulation loop. It acts as a state machine over the execution modes
+	 * of the ExCO object instance: frames are only executed in
+	 * <code>EXEC_MODE_RUNNING</code>, while in any other mode the simulation
+	 * thread is parked until the next reflection of ExCO arrives so that an
+	 * idle federate consumes no CPU time.
+	 */
 	private void tick()
 	{
+		boolean frozen = false;
 
 		while (true)
 		{
+			// Armed before the modes are read so that an ExCO update arriving in
+			// between wakes the thread up instead of being missed.
+			long exCOUpdate = ExecutionLatch.arm(Reason.EXCO_UPDATED);
+
 			ExecutionMode currentMode = exCOComponent.currentExecutionMode;
 			ExecutionMode nextMode = exCOComponent.nextExecutionMode;
 
-			if (currentMode == ExecutionMode.EXEC_MODE_RUNNING && nextMode == ExecutionMode.EXEC_MODE_RUNNING)
+			if (currentMode == ExecutionMode.EXEC_MODE_SHUTDOWN || nextMode == ExecutionMode.EXEC_MODE_SHUTDOWN)
+			{
+				onShutdown();
+				disconnect();
+				return;
+			}
+
+			boolean running = currentMode == ExecutionMode.EXEC_MODE_RUNNING && nextMode == ExecutionMode.EXEC_MODE_RUNNING;
+			boolean freezePending = currentMode == ExecutionMode.EXEC_MODE_RUNNING && nextMode == ExecutionMode.EXEC_MODE_FREEZE && !freezeTimeReached();
+
+			if (running || freezePending)
 			{
+				if (frozen)
+				{
+					frozen = false;
+					LOGGER.info("Resuming execution of the simulation");
+					onResume();
+				}
+
+				ProjectRegistry.commitStagedBindings();
+				EntityCommandBuffer.drain();
+
+				if (settings.bufferedReflections)
+					HLAReflectionBuffer.swap();
+
+				HLAInterestManager.refresh();
+				HLALifetimeReaper.expire();
+				HLADeadReckoning.extrapolate();
+				HLAObjectManager.completePendingRegistrations();
+				HLAObjectManager.completePendingDeletions();
+
 				onRun();
-				HLATimeManager.advanceTime();
+
+				if (settings.pipelinedTimeAdvance)
+					pipelinedTimeAdvance();
+				else
+					HLATimeManager.advanceTime();
 			}
-			else if (currentMode == ExecutionMode.EXEC_MODE_RUNNING && nextMode == ExecutionMode.EXEC_MODE_SHUTDOWN)
+			else if (currentMode == ExecutionMode.EXEC_MODE_FREEZE || nextMode == ExecutionMode.EXEC_MODE_FREEZE)
 			{
-				onShutdown();
-				disconnect();
+				if (!frozen)
+				{
+					frozen = true;
+					LOGGER.info("Simulation execution is frozen at the logical time {}", HLATimeManager.getPresentTime());
+					onFreeze();
+				}
+
+				EntityCommandBuffer.await(Reason.EXCO_UPDATED, exCOUpdate);
 			}
+			else
+				EntityCommandBuffer.await(Reason.EXCO_UPDATED, exCOUpdate);
+		}
+	}
+
+	private void pipelinedTimeAdvance()
+	{
+		long ticket = HLATimeManager.requestTimeAdvance();
+
+		HLATimeManager.setRunAheadThread(Thread.currentThread());
+		try
+		{
+			onRunAhead();
+		}
+		finally
+		{
+			HLATimeManager.setRunAheadThread(null);
 		}
+
+		HLATimeManager.awaitTimeAdvanceGrant(ticket);
+	}
+
+	/**
+	 * Updates every processing system of the engine through the
+	 * {@link io.github.atreia108.vega.core.SystemScheduler SystemScheduler}, so
+	 * that systems declaring their component access run in parallel. It is
+	 * intended to be called from {@link #onRun()} when the simulation does not use
+	 * pipelined time advance.
+	 * 
+	 * @param deltaTime the time passed since the last frame in seconds.
+	 */
+	protected void updateSystems(float deltaTime)
+	{
+		SystemScheduler.update(deltaTime);
+	}
+
+	/**
+	 * Updates every processing system of the engine that does not implement
+	 * {@link io.github.atreia108.vega.core.IRemoteDependent IRemoteDependent}. It
+	 * is intended to be called from {@link #onRunAhead()}, so that the
+	 * systems that only work on local state run while the time advance is
+	 * pending.
+	 * 
+	 * @param deltaTime the time passed since the last frame in seconds.
+	 */
+	protected void updateIndependentSystems(float deltaTime)
+	{
+		SystemScheduler.update(deltaTime, INDEPENDENT_SYSTEMS);
+	}
+
+	/**
+	 * Updates every processing system of the engine that implements
+	 * {@link io.github.atreia108.vega.core.IRemoteDependent IRemoteDependent}. It
+	 * is intended to be called from {@link #onRun()} in pipelined mode, once the
+	 * time advance has been granted and all reflections for the frame have
+	 * arrived.
+	 * 
+	 * @param deltaTime the time passed since the last frame in seconds.
+	 */
+	protected void updateRemoteDependentSystems(float deltaTime)
+	{
+		SystemScheduler.update(deltaTime, REMOTE_DEPENDENT_SYSTEMS);
+	}
+
+	// The SpaceFOM schedules the transition to EXEC_MODE_FREEZE for a specific
+	// scenario time in seconds. The federate keeps executing frames until it
+	// reaches that time so that all federates freeze on the same frame. Logical
+	// time starts at the scenario time epoch and counts microseconds.
+	private boolean freezeTimeReached()
+	{
+		double scheduledTime = exCOComponent.nextModeScheduledTime;
+
+		if (scheduledTime < 0.0)
+			return true;
+
+		long freezeTime = Math.round((scheduledTime - exCOComponent.scenarioTimeEpoch) * MICROSECONDS_PER_SECOND);
+
+		return HLATimeManager.getPresentTime() >= freezeTime;
 	}
 
 	/**
@@ -283,37 +517,45 @@ public abstract class ASpaceFomSimulation
 		try
 		{
 			rtiAmbassador.connect(new SpaceFomFederateAmbassador(), CallbackModel.HLA_IMMEDIATE);
-			if (ProjectSettings.FOM_MODULES != null)
-				rtiAmbassador.joinFederationExecution(ProjectSettings.FEDERATE_NAME, ProjectSettings.FEDERATION_NAME, ProjectSettings.FOM_MODULES);
+			if (settings.fomModules != null)
+				rtiAmbassador.joinFederationExecution(settings.federateName, settings.federationName, settings.fomModules);
 			else
-				rtiAmbassador.joinFederationExecution(ProjectSettings.FEDERATE_NAME, ProjectSettings.FEDERATION_NAME);
+				rtiAmbassador.joinFederationExecution(settings.federateName, settings.federationName);
 
-			LOGGER.info("Joined the HLA federation <" + ProjectSettings.FEDERATION_NAME + "> with the name \"" + ProjectSettings.FEDERATE_NAME + "\"");
+			LOGGER.info("Joined the HLA federation <" + settings.federationName + "> with the name \"" + settings.federateName + "\"");
 		}
 		catch (Exception e)
 		{
-			LOGGER.error("Failed to join the HLA federation <" + ProjectSettings.FEDERATION_NAME + ">\n[REASON]", e);
+			LOGGER.error("Failed to join the HLA federation <" + settings.federationName + ">\n[REASON]", e);
 			System.exit(1);
 		}
 	}
 
 	/**
-	 * Resign from the SpaceFOM federation execution.
+	 * Resign from the SpaceFOM federation execution and disconnect from the RTI.
+	 * The JVM is left running so that other federates hosted in it are not
+	 * affected; whether to exit is up to the application hosting the simulation.
 	 */
 	public void disconnect()
 	{
 		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
 
+		HLATrafficMonitor.stop();
+		if (settings.trafficExportFile != null)
+			HLATrafficMonitor.export(settings.trafficExportFile, settings.trafficExportFormat, true);
+
+		if (engine instanceof InstrumentedEngine instrumentedEngine)
+			instrumentedEngine.report();
+
 		try
 		{
 			rtiAmbassador.resignFederationExecution(ResignAction.CANCEL_THEN_DELETE_THEN_DIVEST);
+			rtiAmbassador.disconnect();
 			LOGGER.info("Federate was successfully terminated");
 		}
 		catch (Exception e)
 		{
 			LOGGER.error("Federate termination attempt failed unexpectedly\n[REASON]", e);
 		}
-
-		System.exit(1);
 	}
 }
@@ -0,0 +1,142 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Collections that forward every operation to the collection of the federate
+ * bound to the calling thread. They back the static fields that predate
+ * {@link io.github.atreia108.vega.core.FederateContext FederateContext}, so
+ * that code written against those fields keeps working whether it runs in the
+ * default context or in one of several co-hosted federates.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+final class ContextViews
+{
+	private ContextViews()
+	{
+	}
+
+	// Additions and removals are routed through the given functions so that views
+	// can keep the indices of the registry in step.
+	static <E> Set<E> set(Supplier<Set<E>> reader, Predicate<E> adder, Predicate<Object> remover)
+	{
+		return new AbstractSet<E>()
+		{
+			@Override
+			public Iterator<E> iterator()
+			{
+				return reader.get().iterator();
+			}
+
+			@Override
+			public int size()
+			{
+				return reader.get().size();
+			}
+
+			@Override
+			public boolean contains(Object element)
+			{
+				return reader.get().contains(element);
+			}
+
+			@Override
+			public boolean add(E element)
+			{
+				return adder.test(element);
+			}
+
+			@Override
+			public boolean remove(Object element)
+			{
+				return remover.test(element);
+			}
+		};
+	}
+
+	static <E> Set<E> set(Supplier<Set<E>> supplier)
+	{
+		return set(supplier, (element) -> supplier.get().add(element), (element) -> supplier.get().remove(element));
+	}
+
+	static <K, V> Map<K, V> map(Supplier<Map<K, V>> supplier)
+	{
+		return new AbstractMap<K, V>()
+		{
+			@Override
+			public Set<Entry<K, V>> entrySet()
+			{
+				return supplier.get().entrySet();
+			}
+
+			@Override
+			public int size()
+			{
+				return supplier.get().size();
+			}
+
+			@Override
+			public boolean containsKey(Object key)
+			{
+				return supplier.get().containsKey(key);
+			}
+
+			@Override
+			public V get(Object key)
+			{
+				return supplier.get().get(key);
+			}
+
+			@Override
+			public V put(K key, V value)
+			{
+				return supplier.get().put(key, value);
+			}
+
+			@Override
+			public V remove(Object key)
+			{
+				return supplier.get().remove(key);
+			}
+		};
+	}
+}
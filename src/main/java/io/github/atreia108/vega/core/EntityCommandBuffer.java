@@ -0,0 +1,217 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+
+import io.github.atreia108.vega.utils.ExecutionLatch;
+import io.github.atreia108.vega.utils.ExecutionLatch.Reason;
+import io.github.atreia108.vega.utils.VegaUtilities;
+
+/**
+ * <p>
+ * Defers changes to the engine that originate from threads other than the
+ * simulation thread. The pools of Ashley's <code>PooledEngine</code> are not
+ * thread-safe, so the RTI callback threads never create, modify or remove
+ * entities themselves. They enqueue a command instead, which returns at once
+ * without taking a lock, and the simulation thread applies all pending
+ * commands in one batch at the start of every frame and while it is waiting on
+ * the {@link io.github.atreia108.vega.utils.ExecutionLatch ExecutionLatch}.
+ * </p>
+ * 
+ * <p>
+ * Commands are applied in the order they were enqueued. User code running on
+ * threads of its own can use the same buffer to hand work over to the engine,
+ * as must systems run in parallel by the
+ * {@link io.github.atreia108.vega.core.SystemScheduler SystemScheduler}, which
+ * applies the pending commands after each of its stages.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class EntityCommandBuffer
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final Queue<Runnable> commands = new ConcurrentLinkedQueue<Runnable>();
+		private volatile Thread owner;
+	}
+
+	private EntityCommandBuffer()
+	{
+	}
+
+	/**
+	 * Enqueue a command to be run on the simulation thread.
+	 */
+	public static void enqueue(Runnable command)
+	{
+		State state = STATE.get();
+		state.commands.offer(command);
+
+		// Wakes the simulation thread if it is parked on the execution latch so that
+		// the command does not wait for the end of the current wait.
+		Thread owner = state.owner;
+		if (owner != null && owner != Thread.currentThread())
+			LockSupport.unpark(owner);
+	}
+
+	/**
+	 * Enqueue the creation of an entity from an archetype. The initializer is
+	 * called on the simulation thread with the new entity; it is not called if the
+	 * archetype fails to produce one.
+	 */
+	public static void createEntity(IEntityArchetype archetype, Consumer<Entity> initializer)
+	{
+		enqueue(() ->
+		{
+			Entity entity = archetype.createEntity();
+			if (entity == null)
+			{
+				LOGGER.warn("A deferred entity was discarded\n[REASON] The archetype <{}> produced NULL instead of a valid entity", archetype.getClass().getName());
+				return;
+			}
+
+			initializer.accept(entity);
+		});
+	}
+
+	/**
+	 * Enqueue the removal of an entity from the engine.
+	 */
+	public static void removeEntity(Entity entity)
+	{
+		enqueue(() -> VegaUtilities.engine().removeEntity(entity));
+	}
+
+	/**
+	 * Enqueue the addition of a pooled component to an entity. The initializer is
+	 * called on the simulation thread with the new component before it is added.
+	 */
+	public static <T extends Component> void addComponent(Entity entity, Class<T> componentType, Consumer<T> initializer)
+	{
+		enqueue(() ->
+		{
+			Engine engine = VegaUtilities.engine();
+			T component = engine.createComponent(componentType);
+			initializer.accept(component);
+			entity.add(component);
+		});
+	}
+
+	/**
+	 * Enqueue the removal of a component from an entity.
+	 */
+	public static void removeComponent(Entity entity, Class<? extends Component> componentType)
+	{
+		enqueue(() -> entity.remove(componentType));
+	}
+
+	/**
+	 * Apply all pending commands. It has no effect unless it is called on the
+	 * simulation thread, so it is safe to call from code that may also run on
+	 * other threads.
+	 * 
+	 * @return the number of commands that were applied.
+	 */
+	public static int drain()
+	{
+		State state = STATE.get();
+
+		if (state.owner != Thread.currentThread())
+			return 0;
+
+		int applied = 0;
+		Runnable command;
+		while ((command = state.commands.poll()) != null)
+		{
+			try
+			{
+				command.run();
+			}
+			catch (Exception e)
+			{
+				LOGGER.warn("A deferred engine command failed\n[REASON]", e);
+			}
+
+			++applied;
+		}
+
+		return applied;
+	}
+
+	/**
+	 * Wait on the {@link io.github.atreia108.vega.utils.ExecutionLatch
+	 * ExecutionLatch}, applying the commands deferred by the callback threads
+	 * while the simulation thread would otherwise sit idle.
+	 */
+	protected static void await(Reason reason, long ticket)
+	{
+		ExecutionLatch.await(reason, ticket, () -> drain() > 0);
+	}
+
+	/**
+	 * Returns whether commands are waiting to be applied.
+	 */
+	public static boolean isEmpty()
+	{
+		return STATE.get().commands.isEmpty();
+	}
+
+	protected static void setOwner(Thread thread)
+	{
+		STATE.get().owner = thread;
+	}
+
+	// Whether the calling thread is the simulation thread, or no simulation thread
+	// has been set up yet.
+	protected static boolean isOwner()
+	{
+		Thread owner = STATE.get().owner;
+		return owner == null || owner == Thread.currentThread();
+	}
+}
@@ -0,0 +1,253 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * The state of a single federate. The managers of the framework, the project
+ * settings and the registry keep their state in the context of the federate
+ * they are called on behalf of, so that several federates can be hosted in the
+ * same JVM and share its JIT and heap.
+ * </p>
+ * 
+ * <p>
+ * A context is bound to a thread, and threads started from a bound thread
+ * inherit it. Threads that were never bound use the default context, so a JVM
+ * running a single federate does not need to be aware of contexts at all. To
+ * host more than one, run each federate on a thread started with
+ * {@link #newThread(Runnable, String)}:
+ * </p>
+ * 
+ * <pre>
+ * new FederateContext("Lander").newThread(() -&gt; new LanderSimulation("lander.xml").run(), "lander").start();
+ * new FederateContext("Rover").newThread(() -&gt; new RoverSimulation("rover.xml").run(), "rover").start();
+ * </pre>
+ * 
+ * <p>
+ * RTI callbacks are delivered in the context the federate ambassador was
+ * created in, regardless of the thread the RTI delivers them on.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class FederateContext
+{
+	private static final AtomicInteger keyCount = new AtomicInteger();
+
+	private static final FederateContext DEFAULT = new FederateContext("default");
+
+	private static final InheritableThreadLocal<FederateContext> CURRENT = new InheritableThreadLocal<FederateContext>()
+	{
+		@Override
+		protected FederateContext initialValue()
+		{
+			return DEFAULT;
+		}
+	};
+
+	private final String name;
+
+	// Indexed by key. The array is replaced, never written in place, once it has
+	// been published so that a slot read without locking is fully constructed.
+	private volatile Object[] slots;
+
+	/**
+	 * A slot of per-federate state. Each context holds its own value for a key,
+	 * created on first use. The managers of the framework keep all of their state
+	 * behind a private static key, so that their static methods act on the state
+	 * of whichever federate is bound to the calling thread and every federate
+	 * hosted in the JVM has its own.
+	 * 
+	 * @param <T> the type of the state.
+	 */
+	public static final class Key<T>
+	{
+		private final int index;
+		private final Supplier<T> factory;
+
+		private Key(int index, Supplier<T> factory)
+		{
+			this.index = index;
+			this.factory = factory;
+		}
+
+		/**
+		 * Returns the value of this key in the context bound to the calling thread.
+		 */
+		public T get()
+		{
+			return CURRENT.get().get(this);
+		}
+	}
+
+	/**
+	 * A binding of a context to the current thread. Closing it restores the
+	 * binding that was in place before.
+	 */
+	public static final class Scope implements AutoCloseable
+	{
+		private final FederateContext previous;
+
+		private Scope(FederateContext previous)
+		{
+			this.previous = previous;
+		}
+
+		@Override
+		public void close()
+		{
+			CURRENT.set(previous);
+		}
+	}
+
+	public FederateContext(String name)
+	{
+		this.name = name;
+		this.slots = new Object[keyCount.get()];
+	}
+
+	/**
+	 * Create a new slot of per-federate state.
+	 * 
+	 * @param factory creates the initial value of the slot for each context.
+	 */
+	public static <T> Key<T> key(Supplier<T> factory)
+	{
+		return new Key<T>(keyCount.getAndIncrement(), factory);
+	}
+
+	/**
+	 * Returns the context bound to the calling thread.
+	 */
+	public static FederateContext current()
+	{
+		return CURRENT.get();
+	}
+
+	/**
+	 * Returns the context used by threads that have not been bound to one.
+	 */
+	public static FederateContext getDefault()
+	{
+		return DEFAULT;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Bind this context to the calling thread until the returned scope is closed.
+	 */
+	public Scope enter()
+	{
+		FederateContext previous = CURRENT.get();
+		CURRENT.set(this);
+
+		return new Scope(previous);
+	}
+
+	/**
+	 * Run a task on the calling thread with this context bound to it.
+	 */
+	@SuppressWarnings("try")
+	public void run(Runnable task)
+	{
+		try (Scope scope = enter())
+		{
+			task.run();
+		}
+	}
+
+	/**
+	 * Returns a task that runs in this context on whichever thread executes it.
+	 */
+	public Runnable wrap(Runnable task)
+	{
+		return () -> run(task);
+	}
+
+	/**
+	 * Create an unstarted thread bound to this context. Threads it starts in turn
+	 * inherit the context.
+	 */
+	public Thread newThread(Runnable task, String threadName)
+	{
+		return new Thread(wrap(task), threadName);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T get(Key<T> key)
+	{
+		Object[] current = slots;
+
+		if (key.index < current.length)
+		{
+			Object value = current[key.index];
+
+			if (value != null)
+				return (T) value;
+		}
+
+		return create(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized <T> T create(Key<T> key)
+	{
+		Object[] current = slots;
+
+		if (key.index < current.length && current[key.index] != null)
+			return (T) current[key.index];
+
+		T value = key.factory.get();
+
+		// The factory may itself have created other slots of this context.
+		Object[] replacement = Arrays.copyOf(slots, Math.max(keyCount.get(), key.index + 1));
+		replacement[key.index] = value;
+		slots = replacement;
+
+		return value;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "FederateContext[" + name + "]";
+	}
+}
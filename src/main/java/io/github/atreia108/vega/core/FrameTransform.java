@@ -0,0 +1,203 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+/**
+ * <p>
+ * A rigid transform between two reference frames, made up of a rotation matrix
+ * and a translation. A point expressed in the source frame is carried into the
+ * target frame as <code>p' = t + R p</code>. Transforms are immutable once they
+ * have been handed out; only the framework updates the instances it keeps to
+ * itself in place.
+ * </p>
+ * 
+ * <p>
+ * Only positions and directions are transformed. Velocities expressed in
+ * rotating frames additionally require the transport term of the angular
+ * velocity, which is not applied here.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class FrameTransform
+{
+	public static final FrameTransform IDENTITY = new FrameTransform(new double[] { 1, 0, 0, 0, 1, 0, 0, 0, 1 }, new double[3]);
+
+	// Row-major 3x3 rotation matrix.
+	private final double[] rotation;
+	private final double[] translation;
+
+	private FrameTransform(double[] rotation, double[] translation)
+	{
+		this.rotation = rotation;
+		this.translation = translation;
+	}
+
+	// An identity transform to be updated in place with setState().
+	protected FrameTransform()
+	{
+		this(new double[] { 1, 0, 0, 0, 1, 0, 0, 0, 1 }, new double[3]);
+	}
+
+	/**
+	 * Create the transform of a frame into its parent from the state of that frame.
+	 * 
+	 * @param position the origin of the frame expressed in its parent.
+	 * @param attitude the attitude quaternion of the frame relative to its parent,
+	 *                 stored as <code>{scalar, x, y, z}</code>.
+	 */
+	public static FrameTransform fromState(double[] position, double[] attitude)
+	{
+		FrameTransform transform = new FrameTransform();
+		transform.setState(position, attitude);
+		return transform;
+	}
+
+	// Overwrites the transform with the state of a frame without allocating.
+	protected void setState(double[] position, double[] attitude)
+	{
+		double s = attitude[0];
+		double x = attitude[1];
+		double y = attitude[2];
+		double z = attitude[3];
+
+		// Guard against quaternions that have drifted away from unit length.
+		double norm = Math.sqrt(s * s + x * x + y * y + z * z);
+		if (norm == 0.0)
+		{
+			s = 1.0;
+			norm = 1.0;
+		}
+
+		s /= norm;
+		x /= norm;
+		y /= norm;
+		z /= norm;
+
+		double[] r = rotation;
+		r[0] = 1 - 2 * (y * y + z * z);
+		r[1] = 2 * (x * y - s * z);
+		r[2] = 2 * (x * z + s * y);
+		r[3] = 2 * (x * y + s * z);
+		r[4] = 1 - 2 * (x * x + z * z);
+		r[5] = 2 * (y * z - s * x);
+		r[6] = 2 * (x * z - s * y);
+		r[7] = 2 * (y * z + s * x);
+		r[8] = 1 - 2 * (x * x + y * y);
+
+		translation[0] = position[0];
+		translation[1] = position[1];
+		translation[2] = position[2];
+	}
+
+	/**
+	 * @return the transform that applies <code>inner</code> first and this
+	 *         transform afterwards.
+	 */
+	public FrameTransform compose(FrameTransform inner)
+	{
+		double[] r = new double[9];
+
+		for (int row = 0; row < 3; ++row)
+		{
+			for (int column = 0; column < 3; ++column)
+			{
+				r[row * 3 + column] = rotation[row * 3] * inner.rotation[column] + rotation[row * 3 + 1] * inner.rotation[3 + column] + rotation[row * 3 + 2] * inner.rotation[6 + column];
+			}
+		}
+
+		double[] t = new double[3];
+		applyToPoint(inner.translation, t);
+
+		return new FrameTransform(r, t);
+	}
+
+	/**
+	 * @return the transform carrying points in the opposite direction.
+	 */
+	public FrameTransform inverse()
+	{
+		double[] r = new double[9];
+
+		for (int row = 0; row < 3; ++row)
+		{
+			for (int column = 0; column < 3; ++column)
+			{
+				r[row * 3 + column] = rotation[column * 3 + row];
+			}
+		}
+
+		double[] t = new double[3];
+		for (int i = 0; i < 3; ++i)
+			t[i] = -(r[i * 3] * translation[0] + r[i * 3 + 1] * translation[1] + r[i * 3 + 2] * translation[2]);
+
+		return new FrameTransform(r, t);
+	}
+
+	/**
+	 * Transform a point. The source and destination arrays may be the same.
+	 */
+	public void applyToPoint(double[] point, double[] result)
+	{
+		applyToVector(point, result);
+
+		result[0] += translation[0];
+		result[1] += translation[1];
+		result[2] += translation[2];
+	}
+
+	/**
+	 * Rotate a direction without translating it. The source and destination arrays
+	 * may be the same.
+	 */
+	public void applyToVector(double[] vector, double[] result)
+	{
+		double x = vector[0];
+		double y = vector[1];
+		double z = vector[2];
+
+		result[0] = rotation[0] * x + rotation[1] * y + rotation[2] * z;
+		result[1] = rotation[3] * x + rotation[4] * y + rotation[5] * z;
+		result[2] = rotation[6] * x + rotation[7] * y + rotation[8] * z;
+	}
+
+	public double[] getTranslation()
+	{
+		return translation.clone();
+	}
+
+	public double[] getRotation()
+	{
+		return rotation.clone();
+	}
+}
@@ -31,8 +31,11 @@
 
 package io.github.atreia108.vega.core;
 
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -63,6 +66,8 @@ import io.github.atreia108.vega.components.HLAInteractionComponent;
 import io.github.atreia108.vega.components.HLAObjectComponent;
 import io.github.atreia108.vega.data.ExecutionMode;
 import io.github.atreia108.vega.utils.ExecutionLatch;
+import io.github.atreia108.vega.utils.ExecutionLatch.Reason;
+import io.github.atreia108.vega.utils.ProjectSettings;
 import io.github.atreia108.vega.utils.VegaUtilities;
 
 /**
@@ -76,22 +81,52 @@ public final class HLACallbackManager
 	private static final Logger LOGGER = LogManager.getLogger();
 
 	private static final String EXCO_CLASS_NAME = "HLAobjectRoot.ExecutionConfiguration";
-	private static boolean exCOInitialized = false;
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
 
-	private static Set<String> objectsPendingDiscovery;
+	private static final class State
+	{
+		private final AtomicBoolean exCOInitialized = new AtomicBoolean(false);
+		private Set<String> objectsPendingDiscovery;
+
+		// Reflections of instances whose entity did not exist yet when they were
+		// processed, merged per instance. Only touched by the simulation thread.
+		private final Map<String, EarlyReflection> earlyReflections = new HashMap<String, EarlyReflection>();
 
-	private static final Object NAME_RESERVATION_SEMAPHORE = new Object();
-	private static boolean nameReservationStatus;
+		// Instances whose discovery has not been processed yet, mapped to whether they
+		// were removed in the meantime.
+		private final Map<ObjectInstanceHandle, Boolean> discoveriesInFlight = new ConcurrentHashMap<ObjectInstanceHandle, Boolean>();
+
+		private State()
+		{
+			Set<String> requiredObjects = ProjectRegistry.getRequiredObjects();
+			if (requiredObjects != null)
+			{
+				objectsPendingDiscovery = ConcurrentHashMap.newKeySet();
+				objectsPendingDiscovery.addAll(requiredObjects);
+			}
+		}
+	}
 
-	static
+	private static final class EarlyReflection
 	{
-		Set<String> requiredObjects = ProjectRegistry.requiredObjects;
-		if (requiredObjects != null)
-			objectsPendingDiscovery = new HashSet<String>(requiredObjects);
+		private final ObjectClassProfile objectClass;
+		private final Map<AttributeHandle, byte[]> values = new HashMap<AttributeHandle, byte[]>();
+		private long timestamp;
+
+		private EarlyReflection(ObjectClassProfile objectClass)
+		{
+			this.objectClass = objectClass;
+		}
 	}
 
 	protected static void discoverObjectInstance(final ObjectInstanceHandle theObject, ObjectClassHandle theObjectClass, String objectName)
 	{
+		State state = STATE.get();
+
+		// Recorded before the callback returns so that a removal of the instance that
+		// follows is never processed ahead of it.
+		state.discoveriesInFlight.put(theObject, Boolean.FALSE);
+
 		new Thread()
 		{
 			@Override
@@ -100,7 +135,6 @@ public final class HLACallbackManager
 				String className = null;
 				ObjectClassProfile objectClass = null;
 				IEntityArchetype archetype = null;
-				Entity entity = null;
 
 				try
 				{
@@ -110,44 +144,66 @@ public final class HLACallbackManager
 				catch (Exception e)
 				{
 					LOGGER.warn("The newly discovered object instance \"{}\" was discarded\n[REASON] Failed to acquire name of its associated object class", objectName);
+					state.discoveriesInFlight.remove(theObject);
 					return;
 				}
 
 				if ((objectClass = ProjectRegistry.getObjectClass(className)) == null)
 				{
 					LOGGER.warn("The newly discovered object instance \"{}\" was discarded\n[REASON] Failed to acquire name of its associated object class", objectName);
+					state.discoveriesInFlight.remove(theObject);
 					return;
 				}
 
 				if ((archetype = ProjectRegistry.getArchetype(objectClass.archetypeName)) == null)
 				{
 					LOGGER.warn("The newly discovered object instance \"{}\" was discarded\n[REASON]The archetype <{}> defined for the HLA object class <{}> is not defined", objectName, objectClass.name, objectClass.archetypeName);
+					state.discoveriesInFlight.remove(theObject);
 					return;
 				}
 
-				if ((entity = archetype.createEntity()) == null)
-				{
-					LOGGER.error("The newly discovered object instance \"{}\" was discarded\n[REASON] The archetype produced NULL instead of a valid entity", objectName);
-					return;
-				}
+				HLAInterestManager.discovered(theObject, objectName, objectClass);
 
-				HLAObjectManager.addRemoteEntity(entity);
-				HLAObjectManager.put(theObject, objectName);
+				final String discoveredClassName = className;
+				final ObjectClassProfile discoveredClass = objectClass;
+				final IEntityArchetype discoveredArchetype = archetype;
 
-				if (objectsPendingDiscovery != null && objectsPendingDiscovery.contains(objectName))
+				// The entity is created by the simulation thread as the pools of the engine
+				// are not thread-safe.
+				EntityCommandBuffer.enqueue(() ->
 				{
-					LOGGER.info("Discovered a new object instance \"{}\" of the class <{}>", objectName, className);
-					objectsPendingDiscovery.remove(objectName);
+					if (Boolean.TRUE.equals(state.discoveriesInFlight.remove(theObject)))
+					{
+						LOGGER.info("The newly discovered object instance \"{}\" was discarded\n[REASON] It was removed before its discovery was processed", objectName);
+						HLAInterestManager.discard(objectName);
+						state.earlyReflections.remove(objectName);
+						return;
+					}
 
-					if (objectsPendingDiscovery.isEmpty() && ExecutionLatch.isActive())
-						ExecutionLatch.disable();
-				}
+					Entity entity = null;
+					if ((entity = discoveredArchetype.createEntity()) == null)
+					{
+						LOGGER.error("The newly discovered object instance \"{}\" was discarded\n[REASON] The archetype produced NULL instead of a valid entity", objectName);
+						return;
+					}
 
-				createRemoteEntity(className, objectName, theObject, entity);
-				requestLatestAttributeValues(theObject, objectName, objectClass);
+					createRemoteEntity(discoveredClassName, objectName, theObject, entity);
 
-				if (className.equals(EXCO_CLASS_NAME) && !exCOInitialized)
-					ExecutionLatch.disable();
+					if (state.objectsPendingDiscovery != null && state.objectsPendingDiscovery.remove(objectName))
+					{
+						LOGGER.info("Discovered a new object instance \"{}\" of the class <{}>", objectName, discoveredClassName);
+
+						if (state.objectsPendingDiscovery.isEmpty())
+							ExecutionLatch.release(Reason.REQUIRED_OBJECTS_DISCOVERED);
+					}
+
+					// Requested only once the entity exists so that the values are not discarded
+					// for lack of an entity to decode them into.
+					requestLatestAttributeValues(theObject, objectName, discoveredClass);
+
+					if (discoveredClassName.equals(EXCO_CLASS_NAME))
+						ExecutionLatch.release(Reason.EXCO_DISCOVERED);
+				});
 			}
 		}.start();
 
@@ -162,10 +218,20 @@ public final class HLACallbackManager
 		objectComponent.instanceName = objectName;
 		// objectComponent.instanceHandle = instanceHandle;
 
+		// Lookups by instance name read the component, so it must be in place before
+		// the entity becomes visible.
+		entity.add(objectComponent);
+
+		// Values that arrived ahead of the discovery being processed are applied
+		// before the entity becomes visible, so that they cannot overwrite newer
+		// values reflected straight into it.
+		EarlyReflection early = STATE.get().earlyReflections.remove(objectName);
+		if (early != null)
+			deliverReflection(entity, objectName, early.objectClass, early.values, early.timestamp);
+
 		HLAObjectManager.put(instanceHandle, objectName);
 		HLAObjectManager.addRemoteEntity(entity);
-
-		entity.add(objectComponent);
+		HLALifetimeReaper.recordActivity(entity, className);
 	}
 
 	private static void requestLatestAttributeValues(ObjectInstanceHandle instanceHandle, String instanceName, ObjectClassProfile objectClass)
@@ -192,13 +258,29 @@ public final class HLACallbackManager
 			ExCOComponent exCOComponent = VegaUtilities.exCOComponentMapper().get(exCO);
 
 			exCOComponent.nextExecutionMode = ExecutionMode.EXEC_MODE_SHUTDOWN;
-			
+			ExecutionLatch.release(Reason.EXCO_UPDATED);
+
 			// We know it's ExCO that was deleted.
 			return;
 		}
 		
-		String instanceName = HLAObjectManager.translate(theObject);
-		HLAObjectManager.destroyRemoteEntity(instanceName);
+		State state = STATE.get();
+
+		EntityCommandBuffer.enqueue(() ->
+		{
+			// An instance whose discovery is still being processed is discarded once it
+			// is, instead of being created after its removal.
+			if (state.discoveriesInFlight.computeIfPresent(theObject, (handle, removed) -> Boolean.TRUE) != null)
+				return;
+
+			// Instances whose discovery was discarded were never known to the federate.
+			String instanceName = null;
+			if ((instanceName = HLAObjectManager.translate(theObject)) == null)
+				return;
+
+			state.earlyReflections.remove(instanceName);
+			HLAObjectManager.destroyRemoteEntity(instanceName);
+		});
 	}
 
 	// The change in ExCO execution mode to SHUTDOWN is faster than we can detect.
@@ -221,8 +303,13 @@ public final class HLACallbackManager
 		}
 	}
 
-	protected static void reflectAttributeValues(ObjectInstanceHandle theObject, AttributeHandleValueMap theAttributes)
+	protected static void reflectAttributeValues(ObjectInstanceHandle theObject, AttributeHandleValueMap theAttributes, long timestamp)
 	{
+		// Instances that are not of interest are dropped before anything else is done
+		// with their reflections.
+		if (HLAInterestManager.isFiltered(theObject, theAttributes))
+			return;
+
 		new Thread()
 		{
 			@Override
@@ -256,38 +343,124 @@ public final class HLACallbackManager
 					return;
 				}
 
-				/*
-				 * Entity entity = null; if ((entity =
-				 * ProjectRegistry.getRemoteEntityByHandle(theObject)) == null) { LOGGER.
-				 * warn("New values for the object instance \"{}\" were discarded: The entity associated with this object instance was not found"
-				 * , instanceName); return; }
-				 */
+				HLAObjectManager.recordReflection(objectClass, theAttributes);
+
+				final String reflectedName = instanceName;
+				final ObjectClassProfile reflectedClass = objectClass;
 
 				Entity entity = null;
 				if ((entity = HLAObjectManager.getRemoteEntity(instanceName)) == null)
 				{
-					LOGGER.warn("New values for the object instance \"{}\" were discarded: The entity associated with this object instance was not found", instanceName);
+					// The discovery of the instance may still be waiting in the command buffer,
+					// so the lookup is repeated after it.
+					EntityCommandBuffer.enqueue(() -> reflectEarly(theObject, reflectedName, reflectedClass, theAttributes, timestamp));
 					return;
 				}
 
-				try
-				{
-					updateRemoteEntityAttributes(entity, instanceName, objectClass, theAttributes);
-				}
-				catch (DecoderException e)
+				// Buffered values are decoded by the simulation thread at the start of the next
+				// frame.
+				if (ProjectSettings.current().bufferedReflections && !instanceName.equals("ExCO"))
 				{
-					LOGGER.error("Error encountered while attempting to decode attributes for the object instance \"{}\"", instanceName);
+					HLAReflectionBuffer.write(entity, instanceName, objectClass, theAttributes, timestamp);
+					return;
 				}
-				if (instanceName.equals("ExCO") && !exCOInitialized)
+
+				// Decoding writes to components that systems may be reading, so it is left to
+				// the simulation thread. The ExCO is the exception as the simulation thread
+				// waits on its values.
+				if (!instanceName.equals("ExCO"))
 				{
-					exCOInitialized = true;
-					ExecutionLatch.disable();
+					final Entity reflectedEntity = entity;
+
+					EntityCommandBuffer.enqueue(() -> applyReflection(reflectedEntity, reflectedName, reflectedClass, theAttributes, timestamp));
+					return;
 				}
+
+				applyExCOReflection(entity, objectClass, theAttributes, timestamp);
 			}
 		}.start();
 	}
 
-	private static void updateRemoteEntityAttributes(Entity entity, String instanceName, ObjectClassProfile objectClass, AttributeHandleValueMap latestValues) throws DecoderException
+	// Runs on the simulation thread for a reflection whose entity was missing.
+	// If it is still missing the values are kept until the instance is discovered,
+	// unless its discovery was discarded or it has been removed already.
+	private static void reflectEarly(ObjectInstanceHandle instanceHandle, String instanceName, ObjectClassProfile objectClass, Map<AttributeHandle, byte[]> values, long timestamp)
+	{
+		State state = STATE.get();
+		Entity entity = HLAObjectManager.getRemoteEntity(instanceName);
+
+		if (entity != null)
+		{
+			deliverReflection(entity, instanceName, objectClass, values, timestamp);
+			return;
+		}
+
+		if (!Boolean.FALSE.equals(state.discoveriesInFlight.get(instanceHandle)))
+			return;
+
+		EarlyReflection early = state.earlyReflections.computeIfAbsent(instanceName, (name) -> new EarlyReflection(objectClass));
+		early.values.putAll(values);
+		early.timestamp = timestamp;
+	}
+
+	// Hands a reflection over on the simulation thread.
+	private static void deliverReflection(Entity entity, String instanceName, ObjectClassProfile objectClass, Map<AttributeHandle, byte[]> values, long timestamp)
+	{
+		if (instanceName.equals("ExCO"))
+			applyExCOReflection(entity, objectClass, values, timestamp);
+		else if (ProjectSettings.current().bufferedReflections)
+			HLAReflectionBuffer.write(entity, instanceName, objectClass, values, timestamp);
+		else
+			applyReflection(entity, instanceName, objectClass, values, timestamp);
+	}
+
+	private static void applyExCOReflection(Entity entity, ObjectClassProfile objectClass, Map<AttributeHandle, byte[]> values, long timestamp)
+	{
+		State state = STATE.get();
+
+		applyReflection(entity, "ExCO", objectClass, values, timestamp);
+
+		if (state.exCOInitialized.compareAndSet(false, true))
+			ExecutionLatch.release(Reason.EXCO_INITIALIZED);
+
+		ExecutionLatch.release(Reason.EXCO_UPDATED);
+	}
+
+	private static void applyReflection(Entity entity, String instanceName, ObjectClassProfile objectClass, Map<AttributeHandle, byte[]> theAttributes, long timestamp)
+	{
+		try
+		{
+			updateRemoteEntityAttributes(entity, instanceName, objectClass, theAttributes);
+			remoteEntityUpdated(entity, objectClass, timestamp);
+		}
+		catch (DecoderException e)
+		{
+			LOGGER.error("Error encountered while attempting to decode attributes for the object instance \"{}\"", instanceName);
+		}
+	}
+
+	/**
+	 * Bring every view derived from the values of a remote entity up to date once
+	 * a reflection for it has been decoded.
+	 */
+	protected static void remoteEntityUpdated(Entity entity, ObjectClassProfile objectClass, long timestamp)
+	{
+		HLAObjectComponent objectComponent = VegaUtilities.objectComponentMapper().get(entity);
+		if (objectComponent != null)
+		{
+			objectComponent.timestamp = timestamp;
+			HLAInterestManager.evaluate(entity, objectComponent.instanceName);
+		}
+
+		HLADeadReckoning.recordReceived(entity, objectClass, timestamp);
+		HLALifetimeReaper.recordActivity(entity, objectClass.name);
+		HLASpatialIndex.update(entity, objectClass.name);
+
+		if (ProjectSettings.current().referenceFrames)
+			HLAReferenceFrameTree.update(entity);
+	}
+
+	protected static void updateRemoteEntityAttributes(Entity entity, String instanceName, ObjectClassProfile objectClass, Map<AttributeHandle, byte[]> latestValues) throws DecoderException
 	{
 		EncoderFactory encoderFactory = VegaUtilities.encoderFactory();
 
@@ -295,10 +468,11 @@ public final class HLACallbackManager
 		{
 			AttributeHandle attributeHandle = objectClass.getHandleForAttribute(attributeName);
 
+			// Reflections only carry the attributes that were updated by their owner.
 			if (!latestValues.containsKey(attributeHandle))
 			{
-				LOGGER.warn("Updated values from the RTI for object instance \"{}\" does not include the attribute \"{}\"", instanceName, attributeName);
-				return;
+				LOGGER.debug("Updated values from the RTI for object instance \"{}\" does not include the attribute \"{}\"", instanceName, attributeName);
+				continue;
 			}
 
 			byte[] newValue = latestValues.get(attributeHandle);
@@ -321,44 +495,46 @@ public final class HLACallbackManager
 
 	protected static void objectInstanceNameReservationSucceeded(String objectName)
 	{
-		nameReservationStatus = true;
-		synchronized (NAME_RESERVATION_SEMAPHORE)
-		{
-			NAME_RESERVATION_SEMAPHORE.notify();
-		}
+		HLANameReservationManager.complete(objectName, true);
 	}
 
 	protected static void objectInstanceNameReservationFailed(String objectName)
 	{
-		nameReservationStatus = false;
-		synchronized (NAME_RESERVATION_SEMAPHORE)
-		{
-			NAME_RESERVATION_SEMAPHORE.notify();
-		}
+		HLANameReservationManager.complete(objectName, false);
+	}
+
+	protected static void multipleObjectInstanceNameReservationSucceeded(Set<String> objectNames)
+	{
+		HLANameReservationManager.completeAll(objectNames, true);
+	}
+
+	protected static void multipleObjectInstanceNameReservationFailed(Set<String> objectNames)
+	{
+		HLANameReservationManager.completeAll(objectNames, false);
 	}
 
 	@SuppressWarnings("rawtypes")
 	protected static void timeConstrainedEnabled(LogicalTime time) throws FederateInternalError
 	{
 		LOGGER.info("The federate is now HLA time constrained");
-		ExecutionLatch.disable();
+		ExecutionLatch.release(Reason.TIME_CONSTRAINED_ENABLED);
 	}
 
 	@SuppressWarnings("rawtypes")
 	protected static void timeRegulationEnabled(LogicalTime time) throws FederateInternalError
 	{
 		LOGGER.info("HLA time regulation has been enabled");
-		ExecutionLatch.disable();
+		ExecutionLatch.release(Reason.TIME_REGULATION_ENABLED);
 	}
 
 	@SuppressWarnings("rawtypes")
 	protected static void timeAdvanceGrant(LogicalTime theTime) throws FederateInternalError
 	{
 		HLATimeManager.setPresentTime((HLAinteger64Time) theTime);
-		ExecutionLatch.disable();
+		ExecutionLatch.release(Reason.TIME_ADVANCE_GRANT);
 	}
 
-	protected static void receiveInteraction(InteractionClassHandle interactionClass, ParameterHandleValueMap theParameters)
+	protected static void receiveInteraction(InteractionClassHandle interactionClass, ParameterHandleValueMap theParameters, long timestamp)
 	{
 		new Thread()
 		{
@@ -368,8 +544,6 @@ public final class HLACallbackManager
 				try
 				{
 					RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
-					Engine engine = VegaUtilities.engine();
-
 					String className = rtiAmbassador.getInteractionClassName(interactionClass);
 
 					InteractionClassProfile interactionClassType = null;
@@ -380,21 +554,10 @@ public final class HLACallbackManager
 					}
 
 					IEntityArchetype archetype = ProjectRegistry.getArchetype(interactionClassType.archetypeName);
-					Entity interaction = null;
-
-					if ((interaction = archetype.createEntity()) == null)
-					{
-						LOGGER.error("An incoming interaction could not be processed the archetype <{}> returned NULL instead of an entity", archetype);
-						return;
-					}
-
-					unpackInteractionData(interaction, interactionClassType, theParameters);
+					HLAInteractionManager.recordInteractionReceived(interactionClassType, theParameters);
 
-					HLAInteractionComponent interactionComponent = engine.createComponent(HLAInteractionComponent.class);
-					interactionComponent.className = className;
-					interaction.add(interactionComponent);
-
-					HLAInteractionQueue.add(interaction);
+					final InteractionClassProfile receivedClass = interactionClassType;
+					EntityCommandBuffer.enqueue(() -> queueInteraction(archetype, receivedClass, theParameters, timestamp));
 				}
 				catch (Exception e)
 				{
@@ -404,6 +567,34 @@ public final class HLACallbackManager
 		}.start();
 	}
 
+	private static void queueInteraction(IEntityArchetype archetype, InteractionClassProfile interactionClass, ParameterHandleValueMap theParameters, long timestamp)
+	{
+		try
+		{
+			Engine engine = VegaUtilities.engine();
+			Entity interaction = null;
+
+			if ((interaction = archetype.createEntity()) == null)
+			{
+				LOGGER.error("An incoming interaction could not be processed the archetype <{}> returned NULL instead of an entity", archetype);
+				return;
+			}
+
+			unpackInteractionData(interaction, interactionClass, theParameters);
+
+			HLAInteractionComponent interactionComponent = engine.createComponent(HLAInteractionComponent.class);
+			interactionComponent.className = interactionClass.name;
+			interactionComponent.timestamp = timestamp;
+			interaction.add(interactionComponent);
+
+			HLAInteractionQueue.add(interaction);
+		}
+		catch (Exception e)
+		{
+			LOGGER.warn("Incoming interaction was discarded\n[REASON]", e);
+		}
+	}
+
 	private static void unpackInteractionData(Entity entity, InteractionClassProfile interactionClass, ParameterHandleValueMap parameterHandleValueMap) throws DecoderException
 	{
 		for (String parameterName : interactionClass.parameterNames)
@@ -440,7 +631,7 @@ public final class HLACallbackManager
 			Entity entity = HLAObjectManager.getLocalEntity(instanceName);
 
 			if (entity != null)
-				HLAObjectManager.sendInstanceUpdate(entity);
+				HLAObjectManager.forceInstanceUpdate(entity);
 			else
 				LOGGER.warn("Failed to provide latest attribute values for \"{}\" as its corresponding entity was not found", instanceName);
 		}
@@ -449,14 +640,4 @@ public final class HLACallbackManager
 			LOGGER.error("Failed to provide attribute value update to the RTI: ", e);
 		}
 	}
-
-	protected static Object getNameReservationSemaphore()
-	{
-		return NAME_RESERVATION_SEMAPHORE;
-	}
-
-	protected static boolean getNameReservationStatus()
-	{
-		return nameReservationStatus;
-	}
 }
@@ -0,0 +1,265 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Entity;
+
+import hla.rti1516e.time.HLAinteger64Time;
+
+/**
+ * <p>
+ * Dead reckoning for object instances. An object class registered with a
+ * {@link io.github.atreia108.vega.core.IDeadReckoningModel IDeadReckoningModel}
+ * changes the behaviour of both sides of an update:
+ * </p>
+ * 
+ * <ul>
+ * <li>{@link io.github.atreia108.vega.core.HLAObjectManager#sendInstanceUpdate(Entity)
+ * HLAObjectManager.sendInstanceUpdate(Entity)} and its timestamped variants
+ * skip the update unless one of the errors measured by the model exceeds its
+ * threshold, or the heartbeat interval has passed since the last update.</li>
+ * <li>Remote entities of the class are extrapolated from their last received
+ * state at the start of every frame.</li>
+ * </ul>
+ * 
+ * <p>
+ * Elapsed time is measured on the HLA logical timeline, which the SpaceFOM
+ * defines in microseconds. Updates that are delivered in timestamp order are
+ * extrapolated from their timestamp, so that publisher and subscriber predict
+ * from the same point in time. When remote entities are extrapolated, enabling
+ * the reflection buffer is recommended so that reflections are not decoded
+ * while a prediction is written.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLADeadReckoning
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final double MICROSECONDS_PER_SECOND = 1_000_000.0;
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final Map<String, Profile> profiles = new ConcurrentHashMap<String, Profile>();
+
+		private final Map<Entity, Reference> sentReferences = new ConcurrentHashMap<Entity, Reference>();
+		private final Map<Entity, Reference> receivedReferences = new ConcurrentHashMap<Entity, Reference>();
+	}
+
+	private record Profile(String className, IDeadReckoningModel<Object> model, long heartbeat, double[] thresholds)
+	{
+	}
+
+	private static final class Reference
+	{
+		private final Profile profile;
+		private final double[] errors;
+
+		private Object state;
+		private long time;
+
+		private Reference(Profile profile)
+		{
+			this.profile = profile;
+			errors = new double[profile.thresholds.length];
+		}
+	}
+
+	/**
+	 * Enables dead reckoning for an object class. It replaces any model that was
+	 * registered for the class before.
+	 * 
+	 * @param className  name of the HLA object class.
+	 * @param model      the model predicting the motion of instances of the class.
+	 * @param heartbeat  the maximum time in seconds between two updates of an
+	 *                   instance, regardless of its errors.
+	 * @param thresholds the largest tolerated value for each error measured by
+	 *                   the model.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void register(String className, IDeadReckoningModel<?> model, double heartbeat, double... thresholds)
+	{
+		State state = STATE.get();
+
+		if (model == null || thresholds == null || heartbeat <= 0)
+		{
+			LOGGER.warn("Dead reckoning for the HLA object class <{}> was not registered: The model and thresholds must not be NULL and the heartbeat must be positive.", className);
+			return;
+		}
+
+		if (ProjectRegistry.getObjectClass(className) == null)
+			LOGGER.warn("Dead reckoning was registered for the HLA object class <{}>, which is not declared in the project file", className);
+
+		long heartbeatInterval = Math.round(heartbeat * MICROSECONDS_PER_SECOND);
+		Profile previous = state.profiles.put(className, new Profile(className, (IDeadReckoningModel<Object>) model, heartbeatInterval, thresholds.clone()));
+
+		if (previous != null)
+			discard(previous);
+	}
+
+	/**
+	 * Disables dead reckoning for an object class. Instances of the class are
+	 * updated whenever an update is sent again.
+	 */
+	public static void unregister(String className)
+	{
+		State state = STATE.get();
+
+		Profile profile = state.profiles.remove(className);
+
+		if (profile != null)
+			discard(profile);
+	}
+
+	private static void discard(Profile profile)
+	{
+		State state = STATE.get();
+
+		state.sentReferences.values().removeIf((reference) -> reference.profile == profile);
+		state.receivedReferences.values().removeIf((reference) -> reference.profile == profile);
+	}
+
+	public static boolean isRegistered(String className)
+	{
+		return STATE.get().profiles.containsKey(className);
+	}
+
+	/**
+	 * Writes the predicted state into every remote entity of a registered object
+	 * class that has received at least one update. It is called by the simulation
+	 * loop at the start of every frame.
+	 */
+	public static void extrapolate()
+	{
+		State state = STATE.get();
+
+		if (state.receivedReferences.isEmpty())
+			return;
+
+		long now = HLATimeManager.getPresentTime();
+
+		for (Map.Entry<Entity, Reference> entry : state.receivedReferences.entrySet())
+		{
+			Reference reference = entry.getValue();
+			reference.profile.model.extrapolate(entry.getKey(), reference.state, elapsedTime(reference, now));
+			HLASpatialIndex.update(entry.getKey(), reference.profile.className);
+		}
+	}
+
+	// Decides whether an update of a local entity has to be sent, based on the
+	// errors measured since the last update.
+	protected static boolean isUpdateRequired(Entity entity, ObjectClassProfile objectClass)
+	{
+		State state = STATE.get();
+
+		Profile profile = state.profiles.get(objectClass.name);
+		if (profile == null)
+			return true;
+
+		Reference reference = state.sentReferences.get(entity);
+		if (reference == null || reference.profile != profile)
+			return true;
+
+		long now = HLATimeManager.getPresentTime();
+		if (now - reference.time >= profile.heartbeat)
+			return true;
+
+		profile.model.measureError(entity, reference.state, elapsedTime(reference, now), reference.errors);
+
+		for (int i = 0; i < profile.thresholds.length; ++i)
+		{
+			if (reference.errors[i] > profile.thresholds[i])
+				return true;
+		}
+
+		return false;
+	}
+
+	protected static void recordSent(Entity entity, ObjectClassProfile objectClass, HLAinteger64Time timestamp)
+	{
+		State state = STATE.get();
+
+		long time = timestamp != null ? timestamp.getValue() : HLATimeManager.getPresentTime();
+		capture(state.sentReferences, entity, objectClass, time);
+	}
+
+	protected static void recordReceived(Entity entity, ObjectClassProfile objectClass, long timestamp)
+	{
+		State state = STATE.get();
+
+		long time = timestamp >= 0 ? timestamp : HLATimeManager.getPresentTime();
+		capture(state.receivedReferences, entity, objectClass, time);
+	}
+
+	protected static void discard(Entity entity)
+	{
+		State state = STATE.get();
+
+		state.sentReferences.remove(entity);
+		state.receivedReferences.remove(entity);
+	}
+
+	private static void capture(Map<Entity, Reference> references, Entity entity, ObjectClassProfile objectClass, long time)
+	{
+		State state = STATE.get();
+
+		Profile profile = state.profiles.get(objectClass.name);
+		if (profile == null)
+			return;
+
+		Reference reference = references.get(entity);
+
+		if (reference == null || reference.profile != profile)
+		{
+			reference = new Reference(profile);
+			references.put(entity, reference);
+		}
+
+		reference.state = profile.model.capture(entity, reference.state);
+		reference.time = time;
+	}
+
+	private static double elapsedTime(Reference reference, long now)
+	{
+		return Math.max(0L, now - reference.time) / MICROSECONDS_PER_SECOND;
+	}
+}
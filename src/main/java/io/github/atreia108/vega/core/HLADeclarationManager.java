@@ -0,0 +1,207 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.atreia108.vega.utils.ProjectSettings;
+
+/**
+ * <p>
+ * Carries out the declaration of the object and interaction classes used by
+ * the federate. Every RTI call made while declaring a class is a round trip
+ * to the RTI, so for large FOMs on a remote RTI the declarations dominate the
+ * time taken to join.
+ * </p>
+ * 
+ * <p>
+ * Handles for all classes, attributes and parameters are resolved in a single
+ * pass started as soon as the federate has joined, overlapping with the wait
+ * for the ExCO object instance. Classes are then published and subscribed to
+ * concurrently. The number of concurrent RTI calls is set by the
+ * <code>Parallelism</code> of the <code>Declaration</code> element in the
+ * project file; a value of one declares the classes one after another.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLADeclarationManager
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private CompletableFuture<Void> handleResolution = CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Begin resolving the handles of every class in the project registry in the
+	 * background.
+	 */
+	public static void resolveAllHandlesAsync()
+	{
+		State state = STATE.get();
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		for (ObjectClassProfile objectClass : ProjectRegistry.getObjectClassProfiles())
+		{
+			tasks.add(() ->
+			{
+				try
+				{
+					objectClass.resolveHandles();
+				}
+				catch (Exception e)
+				{
+					LOGGER.error("Failed to resolve the handles of the HLA object class <{}>\n[REASON]", objectClass.name, e);
+					System.exit(1);
+				}
+			});
+		}
+
+		for (InteractionClassProfile interactionClass : ProjectRegistry.getInteractionClassProfiles())
+		{
+			tasks.add(() ->
+			{
+				try
+				{
+					interactionClass.resolveHandles();
+				}
+				catch (Exception e)
+				{
+					LOGGER.error("Failed to resolve the handles of the HLA interaction class <{}>\n[REASON]", interactionClass.name, e);
+					System.exit(1);
+				}
+			});
+		}
+
+		synchronized (state)
+		{
+			state.handleResolution = runAsync(tasks, "vega-handle-resolution");
+		}
+	}
+
+	/**
+	 * Block until the handles requested through {@link #resolveAllHandlesAsync()}
+	 * have been resolved.
+	 */
+	public static void awaitHandles()
+	{
+		State state = STATE.get();
+		CompletableFuture<Void> pending;
+
+		synchronized (state)
+		{
+			pending = state.handleResolution;
+		}
+
+		pending.join();
+	}
+
+	/**
+	 * Publish every object and interaction class that has not been published yet.
+	 */
+	public static void publishAll()
+	{
+		awaitHandles();
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		collect(tasks, ProjectRegistry.getObjectClassProfiles(), (objectClass) -> !objectClass.isPublished, ObjectClassProfile::publish);
+		collect(tasks, ProjectRegistry.getInteractionClassProfiles(), (interactionClass) -> !interactionClass.isPublished, InteractionClassProfile::publish);
+
+		runAsync(tasks, "vega-declaration").join();
+	}
+
+	/**
+	 * Subscribe to every object and interaction class that has not been subscribed
+	 * to yet.
+	 */
+	public static void subscribeAll()
+	{
+		awaitHandles();
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		collect(tasks, ProjectRegistry.getObjectClassProfiles(), (objectClass) -> !objectClass.isSubscribed, ObjectClassProfile::subscribe);
+		collect(tasks, ProjectRegistry.getInteractionClassProfiles(), (interactionClass) -> !interactionClass.isSubscribed, InteractionClassProfile::subscribe);
+
+		runAsync(tasks, "vega-declaration").join();
+	}
+
+	private static <T> void collect(List<Runnable> tasks, Iterable<T> profiles, Predicate<T> filter, Consumer<T> action)
+	{
+		for (T profile : profiles)
+		{
+			if (filter.test(profile))
+				tasks.add(() -> action.accept(profile));
+		}
+	}
+
+	private static CompletableFuture<Void> runAsync(List<Runnable> tasks, String threadName)
+	{
+		int parallelism = Math.min(ProjectSettings.current().declarationParallelism, tasks.size());
+
+		if (parallelism <= 1)
+		{
+			tasks.forEach(Runnable::run);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, (runnable) ->
+		{
+			Thread thread = new Thread(runnable, threadName + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+		for (int i = 0; i < futures.length; ++i)
+			futures[i] = CompletableFuture.runAsync(tasks.get(i), executor);
+
+		return CompletableFuture.allOf(futures).whenComplete((result, error) -> executor.shutdown());
+	}
+}
@@ -32,6 +32,7 @@
 package io.github.atreia108.vega.core;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,7 +43,9 @@ import hla.rti1516e.InteractionClassHandle;
 import hla.rti1516e.ParameterHandle;
 import hla.rti1516e.ParameterHandleValueMap;
 import hla.rti1516e.RTIambassador;
+import hla.rti1516e.RegionHandleSet;
 import hla.rti1516e.encoding.EncoderFactory;
+import hla.rti1516e.time.HLAinteger64Time;
 import io.github.atreia108.vega.components.HLAInteractionComponent;
 import io.github.atreia108.vega.utils.VegaUtilities;
 
@@ -73,6 +76,45 @@ public final class HLAInteractionManager
 	 * @return outcome of the operation as a true or false value.
 	 */
 	public static boolean sendInteraction(Entity entity)
+	{
+		return sendInteraction(entity, null);
+	}
+
+	/**
+	 * Sends the interaction represented by a valid entity to the RTI as a
+	 * timestamp order (TSO) message. The message is stamped with the earliest
+	 * logical time this federate is allowed to send at, i.e. its current (or
+	 * requested) logical time plus the lookahead. Receivers that are time
+	 * constrained get the interaction delivered at exactly that time, as long as
+	 * the interaction class is declared with the <code>TimeStamp</code> order type
+	 * in the FOM.
+	 * 
+	 * @param entity entity representing the interaction.
+	 * @return outcome of the operation as a true or false value.
+	 * @see #sendInteraction(Entity)
+	 */
+	public static boolean sendTimestampedInteraction(Entity entity)
+	{
+		return sendInteraction(entity, HLATimeManager.getNextMessageTime());
+	}
+
+	/**
+	 * Sends the interaction represented by a valid entity to the RTI as a
+	 * timestamp order (TSO) message stamped with the supplied logical time. The
+	 * time must not be earlier than the one returned by
+	 * {@link io.github.atreia108.vega.core.HLATimeManager#getNextMessageTime()
+	 * HLATimeManager.getNextMessageTime()}.
+	 * 
+	 * @param entity      entity representing the interaction.
+	 * @param logicalTime the timestamp of the interaction.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean sendTimestampedInteraction(Entity entity, long logicalTime)
+	{
+		return sendInteraction(entity, HLATimeManager.makeTime(logicalTime));
+	}
+
+	private static boolean sendInteraction(Entity entity, HLAinteger64Time timestamp)
 	{
 		HLAInteractionComponent interactionComponent = VegaUtilities.interactionComponentMapper().get(entity);
 
@@ -103,9 +145,29 @@ public final class HLAInteractionManager
 			}
 			else
 			{
-				rtiAmbassador.sendInteraction(classHandle, parameterHandleValueMap, null);
+				Set<String> updateRegionNames = interactionClass.getUpdateRegionNames();
+
+				if (updateRegionNames.isEmpty())
+				{
+					if (timestamp == null)
+						rtiAmbassador.sendInteraction(classHandle, parameterHandleValueMap, null);
+					else
+						rtiAmbassador.sendInteraction(classHandle, parameterHandleValueMap, null, timestamp);
+				}
+				else
+				{
+					RegionHandleSet regionHandleSet = interactionClass.regionHandles(updateRegionNames);
+
+					if (timestamp == null)
+						rtiAmbassador.sendInteractionWithRegions(classHandle, parameterHandleValueMap, regionHandleSet, null);
+					else
+						rtiAmbassador.sendInteractionWithRegions(classHandle, parameterHandleValueMap, regionHandleSet, null, timestamp);
+				}
+
 				LOGGER.info("The interaction <{}> was sent successfully.", entity);
 
+				recordInteractionSent(interactionClass, parameterHandleValueMap);
+
 				// Deletes all components from the entity that represents the HLA interaction to
 				// free them up for use by other entities.
 				entity.removeAll();
@@ -120,6 +182,44 @@ public final class HLAInteractionManager
 
 	}
 
+	private static void recordInteractionSent(InteractionClassProfile interactionClass, ParameterHandleValueMap parameterValues)
+	{
+		TrafficCounter trafficCounter = interactionClass.trafficCounter;
+		long totalBytes = 0;
+
+		for (String parameterName : interactionClass.parameterNames)
+		{
+			byte[] encodedValue = parameterValues.get(interactionClass.getParameterHandle(parameterName));
+
+			if (encodedValue != null)
+			{
+				trafficCounter.addFieldBytesSent(parameterName, encodedValue.length);
+				totalBytes += encodedValue.length;
+			}
+		}
+
+		trafficCounter.addMessageSent(totalBytes);
+	}
+
+	protected static void recordInteractionReceived(InteractionClassProfile interactionClass, ParameterHandleValueMap parameterValues)
+	{
+		TrafficCounter trafficCounter = interactionClass.trafficCounter;
+		long totalBytes = 0;
+
+		for (String parameterName : interactionClass.parameterNames)
+		{
+			byte[] encodedValue = parameterValues.get(interactionClass.getParameterHandle(parameterName));
+
+			if (encodedValue != null)
+			{
+				trafficCounter.addFieldBytesReceived(parameterName, encodedValue.length);
+				totalBytes += encodedValue.length;
+			}
+		}
+
+		trafficCounter.addMessageReceived(totalBytes);
+	}
+
 	private static ParameterHandleValueMap getInteractionParameters(Entity entity, InteractionClassProfile interactionClass, RTIambassador rtiAmbassador)
 	{
 		ParameterHandleValueMap parameterHandleValueMap = null;
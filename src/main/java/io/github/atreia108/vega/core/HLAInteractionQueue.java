@@ -56,10 +56,12 @@ public final class HLAInteractionQueue
 	private static final Logger LOGGER = LogManager.getLogger();
 
 	private static ComponentMapper<HLAInteractionComponent> INTERACTION_MAPPER = VegaUtilities.interactionComponentMapper();
-	private static ArrayList<Entity> interactionQueue = new ArrayList<Entity>();
+	private static final FederateContext.Key<ArrayList<Entity>> QUEUE = FederateContext.key(ArrayList<Entity>::new);
 
 	protected static void add(Entity entity)
 	{
+		ArrayList<Entity> interactionQueue = QUEUE.get();
+
 		HLAInteractionComponent interactionComponent = INTERACTION_MAPPER.get(entity);
 
 		try
@@ -95,6 +97,8 @@ public final class HLAInteractionQueue
 	 */
 	public static ArrayList<Entity> poll()
 	{
+		ArrayList<Entity> interactionQueue = QUEUE.get();
+
 		ArrayList<Entity> interactionQueueCopy = new ArrayList<Entity>();
 
 		synchronized (interactionQueue)
@@ -121,6 +125,8 @@ public final class HLAInteractionQueue
 	 */
 	public static ArrayList<Entity> filter(String interactionClassName)
 	{
+		ArrayList<Entity> interactionQueue = QUEUE.get();
+
 		ArrayList<Entity> interactionQueueCopy = new ArrayList<Entity>();
 
 		synchronized (interactionQueue)
@@ -149,6 +155,8 @@ public final class HLAInteractionQueue
 	 */
 	public static void clear()
 	{
+		ArrayList<Entity> interactionQueue = QUEUE.get();
+
 		free(poll());
 		interactionQueue.clear();
 	}
@@ -181,6 +189,8 @@ public final class HLAInteractionQueue
 
 	private static void remove(Entity entity)
 	{
+		ArrayList<Entity> interactionQueue = QUEUE.get();
+
 		synchronized (interactionQueue)
 		{
 			if (interactionQueue.contains(entity))
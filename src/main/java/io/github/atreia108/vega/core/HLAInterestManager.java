@@ -0,0 +1,275 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Entity;
+
+import hla.rti1516e.AttributeHandleValueMap;
+import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.RTIambassador;
+import io.github.atreia108.vega.utils.VegaUtilities;
+
+/**
+ * <p>
+ * Applies the {@link io.github.atreia108.vega.core.IInterestPredicate
+ * IInterestPredicate} of an object class to incoming reflections. The outcome
+ * is kept per object instance handle, which is known from the moment the
+ * instance is discovered, so that the reflections of an instance that is not
+ * of interest are dropped on the callback thread at the cost of a single
+ * lookup, before any thread is started, the RTI is queried or the entity is
+ * looked up.
+ * </p>
+ * 
+ * <p>
+ * The predicate is evaluated by the simulation thread once a reflection of the
+ * instance has been decoded, so that it always sees the entity with up to date
+ * values. An instance is therefore of interest until its first reflection has
+ * been decoded. Once the refresh interval of its class has passed, an instance
+ * that is not of interest lets its next reflection through, which is decoded
+ * and followed by a new evaluation. As the RTI only reflects attributes that
+ * have changed, the latest values of an instance that becomes of interest again
+ * are requested, so that none of its attributes stays at a value decoded before
+ * it was filtered.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLAInterestManager
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final Map<ObjectInstanceHandle, InterestState> handles = new ConcurrentHashMap<ObjectInstanceHandle, InterestState>();
+		private final Map<String, InterestState> names = new ConcurrentHashMap<String, InterestState>();
+
+		// Earliest time at which an instance that is not of interest is due to be
+		// evaluated again, so that refresh() does not scan every frame.
+		private volatile long nextRefresh = Long.MAX_VALUE;
+	}
+
+	private static final class InterestState
+	{
+		private final ObjectInstanceHandle instanceHandle;
+		private final ObjectClassProfile objectClass;
+
+		// Read on the callback thread, written by the simulation thread.
+		private volatile boolean filtered;
+
+		private boolean interesting = true;
+		private long nextEvaluation;
+		private long filteredReflections;
+
+		private InterestState(ObjectInstanceHandle instanceHandle, ObjectClassProfile objectClass)
+		{
+			this.instanceHandle = instanceHandle;
+			this.objectClass = objectClass;
+		}
+	}
+
+	// Starts to track a newly discovered object instance. Instances of classes
+	// without a predicate are tracked too, as one may be set later on.
+	protected static void discovered(ObjectInstanceHandle instanceHandle, String instanceName, ObjectClassProfile objectClass)
+	{
+		State state = STATE.get();
+		InterestState interestState = new InterestState(instanceHandle, objectClass);
+
+		state.handles.put(instanceHandle, interestState);
+		state.names.put(instanceName, interestState);
+	}
+
+	// Decides on the callback thread whether a reflection is to be dropped. The
+	// bytes of a dropped reflection still count towards the traffic of its class.
+	protected static boolean isFiltered(ObjectInstanceHandle instanceHandle, AttributeHandleValueMap attributeValues)
+	{
+		InterestState interestState = STATE.get().handles.get(instanceHandle);
+
+		if (interestState == null || !interestState.filtered)
+			return false;
+
+		synchronized (interestState)
+		{
+			++interestState.filteredReflections;
+		}
+
+		HLAObjectManager.recordReflection(interestState.objectClass, attributeValues);
+		return true;
+	}
+
+	// Evaluates the predicate of a remote object instance after one of its
+	// reflections has been decoded, if it is due.
+	protected static void evaluate(Entity entity, String instanceName)
+	{
+		State state = STATE.get();
+		InterestState interestState = state.names.get(instanceName);
+
+		if (interestState == null)
+			return;
+
+		IInterestPredicate predicate = interestState.objectClass.getInterestPredicate();
+		long now = System.currentTimeMillis();
+		boolean regained = false;
+
+		synchronized (interestState)
+		{
+			if (now < interestState.nextEvaluation)
+				return;
+
+			boolean wasInteresting = interestState.interesting;
+
+			interestState.interesting = predicate == null || predicate.isOfInterest(entity, instanceName);
+			interestState.nextEvaluation = now + interestState.objectClass.getInterestRefreshInterval();
+			interestState.filtered = !interestState.interesting;
+
+			if (interestState.filtered && interestState.nextEvaluation < state.nextRefresh)
+				state.nextRefresh = interestState.nextEvaluation;
+
+			regained = !wasInteresting && interestState.interesting;
+		}
+
+		if (regained)
+			requestLatestValues(interestState, instanceName);
+	}
+
+	// Attributes that were only updated while the instance was filtered are not
+	// reflected again until they change, so all of them are requested at once.
+	private static void requestLatestValues(InterestState interestState, String instanceName)
+	{
+		try
+		{
+			RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+			rtiAmbassador.requestAttributeValueUpdate(interestState.instanceHandle, interestState.objectClass.getSubscribeableAttributeHandles(), null);
+		}
+		catch (Exception e)
+		{
+			LOGGER.warn("Failed to request the latest values for the object instance \"{}\" which is of interest again\n[REASON]", instanceName, e);
+		}
+	}
+
+	// Lets the next reflection of every instance that is not of interest and due
+	// for evaluation through. Called by the simulation thread once per frame.
+	protected static void refresh()
+	{
+		State state = STATE.get();
+		long now = System.currentTimeMillis();
+
+		if (now < state.nextRefresh)
+			return;
+
+		long nextRefresh = Long.MAX_VALUE;
+
+		for (InterestState interestState : state.handles.values())
+		{
+			synchronized (interestState)
+			{
+				if (!interestState.filtered)
+					continue;
+
+				if (now >= interestState.nextEvaluation)
+					interestState.filtered = false;
+				else
+					nextRefresh = Math.min(nextRefresh, interestState.nextEvaluation);
+			}
+		}
+
+		state.nextRefresh = nextRefresh;
+	}
+
+	/**
+	 * Returns whether a remote object instance was of interest when its class'
+	 * predicate was last evaluated. Instances of classes without a predicate are
+	 * always of interest.
+	 */
+	public static boolean isOfInterest(String instanceName)
+	{
+		InterestState interestState = STATE.get().names.get(instanceName);
+
+		if (interestState == null)
+			return true;
+
+		synchronized (interestState)
+		{
+			return interestState.interesting;
+		}
+	}
+
+	/**
+	 * Returns the number of reflections of a remote object instance that were
+	 * discarded because it was not of interest.
+	 */
+	public static long getFilteredCount(String instanceName)
+	{
+		InterestState interestState = STATE.get().names.get(instanceName);
+
+		if (interestState == null)
+			return 0L;
+
+		synchronized (interestState)
+		{
+			return interestState.filteredReflections;
+		}
+	}
+
+	/**
+	 * Forces the predicates of all remote object instances to be evaluated again
+	 * with the next reflection, e.g. after the reference entity of a distance
+	 * predicate has moved far.
+	 */
+	public static void invalidate()
+	{
+		for (InterestState interestState : STATE.get().handles.values())
+		{
+			synchronized (interestState)
+			{
+				interestState.nextEvaluation = 0L;
+				interestState.filtered = false;
+			}
+		}
+	}
+
+	protected static void discard(String instanceName)
+	{
+		State state = STATE.get();
+		InterestState interestState = state.names.remove(instanceName);
+
+		if (interestState != null)
+			state.handles.remove(interestState.instanceHandle);
+	}
+}
@@ -0,0 +1,396 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Entity;
+
+import hla.rti1516e.ObjectInstanceHandle;
+import hla.rti1516e.RTIambassador;
+import io.github.atreia108.vega.components.HLAObjectComponent;
+import io.github.atreia108.vega.utils.VegaUtilities;
+
+/**
+ * <p>
+ * Reaps remote entities whose object instances have stopped being updated,
+ * e.g. because the owning federate crashed without deleting them. An object
+ * class registered with a timeout has the time of the latest reflection of
+ * each of its instances tracked; an instance that goes without one for longer
+ * than the timeout is either evicted or marked as stale, depending on the
+ * {@link Policy} of its class.
+ * </p>
+ * 
+ * <p>
+ * Instances are kept in a timing wheel whose slots are one time step wide, so
+ * a reflection costs a single write regardless of the number of instances and
+ * each frame only visits the instances whose timeout may have run out. An
+ * instance is moved to a later slot when its slot comes up but it has been
+ * updated in the meantime.
+ * </p>
+ * 
+ * <p>
+ * Elapsed time is measured on the HLA logical timeline, so instances do not go
+ * stale while the federation execution is frozen.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLALifetimeReaper
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final double MICROSECONDS_PER_SECOND = 1_000_000.0;
+
+	// Must be a power of two.
+	private static final int WHEEL_SIZE = 512;
+
+	/**
+	 * What happens to an instance that has not been updated within the timeout of
+	 * its class.
+	 */
+	public enum Policy
+	{
+		/**
+		 * The remote entity is destroyed and the instance is deleted locally at the
+		 * RTI, so that it is discovered again should its owner resume updating it.
+		 */
+		EVICT,
+
+		/**
+		 * The remote entity is kept but reported as stale by
+		 * {@link HLALifetimeReaper#isStale(Entity)} until it is updated again.
+		 */
+		MARK_STALE;
+	}
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final Map<String, Profile> profiles = new ConcurrentHashMap<String, Profile>();
+		private final Map<Entity, Instance> instances = new HashMap<Entity, Instance>();
+		private final List<Instance> expired = new ArrayList<Instance>();
+
+		// Created on the first frame, once the time step is known.
+		private List<Instance>[] wheel;
+		private long slotWidth;
+		private long currentTick;
+	}
+
+	private record Profile(String className, long timeout, Policy policy)
+	{
+	}
+
+	private static final class Instance
+	{
+		private final Entity entity;
+		private final Profile profile;
+
+		private long lastUpdate;
+		private boolean scheduled;
+		private boolean stale;
+		private boolean removed;
+
+		private Instance(Entity entity, Profile profile)
+		{
+			this.entity = entity;
+			this.profile = profile;
+		}
+	}
+
+	/**
+	 * Enables reaping for an object class. It replaces any policy that was
+	 * registered for the class before; instances tracked under the previous policy
+	 * are tracked again from their next update.
+	 * 
+	 * @param className name of the HLA object class.
+	 * @param timeout   the time in seconds an instance may go without an update.
+	 * @param policy    what to do with instances that exceed the timeout.
+	 */
+	public static void register(String className, double timeout, Policy policy)
+	{
+		State state = STATE.get();
+
+		if (policy == null || timeout <= 0)
+		{
+			LOGGER.warn("Reaping for the HLA object class <{}> was not registered: The policy must not be NULL and the timeout must be positive.", className);
+			return;
+		}
+
+		if (ProjectRegistry.getObjectClass(className) == null)
+			LOGGER.warn("Reaping was registered for the HLA object class <{}>, which is not declared in the project file", className);
+
+		state.profiles.put(className, new Profile(className, Math.round(timeout * MICROSECONDS_PER_SECOND), policy));
+	}
+
+	/**
+	 * Disables reaping for an object class.
+	 */
+	public static void unregister(String className)
+	{
+		STATE.get().profiles.remove(className);
+	}
+
+	/**
+	 * Returns whether a remote entity has been marked as stale and not been updated
+	 * since.
+	 */
+	public static boolean isStale(Entity entity)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			Instance instance = state.instances.get(entity);
+			return instance != null && instance.stale;
+		}
+	}
+
+	/**
+	 * Note that a remote entity was discovered or updated.
+	 */
+	protected static void recordActivity(Entity entity, String className)
+	{
+		State state = STATE.get();
+
+		Profile profile = state.profiles.get(className);
+		if (profile == null)
+			return;
+
+		long now = HLATimeManager.getPresentTime();
+
+		synchronized (state)
+		{
+			Instance instance = state.instances.get(entity);
+			if (instance == null || instance.profile != profile)
+			{
+				if (instance != null)
+					instance.removed = true;
+
+				instance = new Instance(entity, profile);
+				state.instances.put(entity, instance);
+			}
+
+			instance.lastUpdate = now;
+
+			if (instance.stale)
+			{
+				instance.stale = false;
+				LOGGER.info("The stale object instance \"{}\" is being updated again", instanceName(entity));
+			}
+
+			if (!instance.scheduled && state.wheel != null)
+				schedule(state, instance);
+		}
+	}
+
+	/**
+	 * Stop tracking a remote entity that is being destroyed.
+	 */
+	protected static void discard(Entity entity)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			Instance instance = state.instances.remove(entity);
+			if (instance != null)
+				instance.removed = true;
+		}
+	}
+
+	/**
+	 * Advance the wheel to the present time and reap every instance whose timeout
+	 * has run out. Called by the simulation thread at the start of every frame.
+	 */
+	protected static void expire()
+	{
+		State state = STATE.get();
+
+		if (state.profiles.isEmpty() && state.instances.isEmpty())
+			return;
+
+		long now = HLATimeManager.getPresentTime();
+		if (now < 0)
+			return;
+
+		synchronized (state)
+		{
+			if (state.wheel == null)
+				createWheel(state, now);
+
+			long targetTick = now / state.slotWidth;
+
+			// Each slot is visited at most once, however far time has advanced.
+			long firstTick = Math.max(state.currentTick + 1, targetTick - WHEEL_SIZE + 1);
+			for (long tick = firstTick; tick <= targetTick; ++tick)
+				visit(state, (int) (tick & (WHEEL_SIZE - 1)), now);
+
+			state.currentTick = targetTick;
+		}
+
+		// Eviction goes through the object manager and the RTI, so it happens outside
+		// the lock.
+		for (Instance instance : state.expired)
+			reap(state, instance);
+
+		state.expired.clear();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void createWheel(State state, long now)
+	{
+		state.slotWidth = Math.max(HLATimeManager.getTimeStep(), 1L);
+		state.currentTick = now / state.slotWidth;
+		state.wheel = new List[WHEEL_SIZE];
+
+		for (int i = 0; i < WHEEL_SIZE; ++i)
+			state.wheel[i] = new ArrayList<Instance>();
+
+		// Instances discovered before the first time advance grant are timed from the
+		// start of the execution.
+		for (Instance instance : state.instances.values())
+		{
+			if (instance.lastUpdate < 0)
+				instance.lastUpdate = now;
+
+			if (!instance.stale)
+				schedule(state, instance);
+		}
+	}
+
+	private static void schedule(State state, Instance instance)
+	{
+		long dueTick = Math.max((instance.lastUpdate + instance.profile.timeout) / state.slotWidth, state.currentTick + 1);
+		state.wheel[(int) (dueTick & (WHEEL_SIZE - 1))].add(instance);
+		instance.scheduled = true;
+	}
+
+	private static void visit(State state, int index, long now)
+	{
+		List<Instance> slot = state.wheel[index];
+		int kept = 0;
+
+		for (int i = 0; i < slot.size(); ++i)
+		{
+			Instance instance = slot.get(i);
+
+			if (instance.removed || state.profiles.get(instance.profile.className) != instance.profile)
+			{
+				instance.scheduled = false;
+				if (!instance.removed)
+					state.instances.remove(instance.entity);
+
+				continue;
+			}
+
+			long due = instance.lastUpdate + instance.profile.timeout;
+			if (due > now)
+			{
+				int dueIndex = (int) ((due / state.slotWidth) & (WHEEL_SIZE - 1));
+				if (dueIndex == index)
+					slot.set(kept++, instance);
+				else
+					state.wheel[dueIndex].add(instance);
+			}
+			else
+			{
+				instance.scheduled = false;
+				state.expired.add(instance);
+			}
+		}
+
+		slot.subList(kept, slot.size()).clear();
+	}
+
+	private static void reap(State state, Instance instance)
+	{
+		String instanceName = instanceName(instance.entity);
+		double timeout = instance.profile.timeout / MICROSECONDS_PER_SECOND;
+
+		if (instanceName == null)
+		{
+			discard(instance.entity);
+			return;
+		}
+
+		switch (instance.profile.policy)
+		{
+			case EVICT:
+				LOGGER.warn("Evicting the object instance \"{}\" of the class <{}> as it has not been updated for {} s", instanceName, instance.profile.className, timeout);
+				evict(instanceName);
+				break;
+			case MARK_STALE:
+				synchronized (state)
+				{
+					instance.stale = true;
+				}
+
+				LOGGER.warn("The object instance \"{}\" of the class <{}> is stale as it has not been updated for {} s", instanceName, instance.profile.className, timeout);
+				break;
+		}
+	}
+
+	private static void evict(String instanceName)
+	{
+		ObjectInstanceHandle instanceHandle = HLAObjectManager.translate(instanceName);
+		HLAObjectManager.destroyRemoteEntity(instanceName);
+
+		if (instanceHandle == null)
+			return;
+
+		try
+		{
+			RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+			rtiAmbassador.localDeleteObjectInstance(instanceHandle);
+		}
+		catch (Exception e)
+		{
+			LOGGER.warn("The evicted object instance \"{}\" could not be deleted locally at the RTI and will not be discovered again\n[REASON]", instanceName, e);
+		}
+	}
+
+	private static String instanceName(Entity entity)
+	{
+		HLAObjectComponent objectComponent = VegaUtilities.objectComponentMapper().get(entity);
+		return objectComponent != null ? objectComponent.instanceName : null;
+	}
+}
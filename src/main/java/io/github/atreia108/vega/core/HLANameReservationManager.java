@@ -0,0 +1,223 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import hla.rti1516e.RTIambassador;
+import io.github.atreia108.vega.utils.VegaUtilities;
+
+/**
+ * Tracks reservations of object instance names at the RTI. Every name that is
+ * being reserved has its own future, completed with the outcome of the
+ * reservation when the RTI reports it. Reservations for different names can
+ * therefore be outstanding at the same time, and many names can be reserved in
+ * a single round trip with
+ * {@link #reserveMultiple(Collection) reserveMultiple}.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLANameReservationManager
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final FederateContext.Key<Map<String, CompletableFuture<Boolean>>> PENDING_RESERVATIONS = FederateContext.key(ConcurrentHashMap<String, CompletableFuture<Boolean>>::new);
+
+	/**
+	 * Request the reservation of a single object instance name.
+	 * 
+	 * @return a future completed with true if the name was reserved, or false if
+	 *         it was not.
+	 */
+	public static CompletableFuture<Boolean> reserve(String instanceName)
+	{
+		Map<String, CompletableFuture<Boolean>> pendingReservations = PENDING_RESERVATIONS.get();
+
+		CompletableFuture<Boolean> reservation = new CompletableFuture<Boolean>();
+		CompletableFuture<Boolean> existing = pendingReservations.putIfAbsent(instanceName, reservation);
+
+		// A reservation of the same name is already underway.
+		if (existing != null)
+			return existing;
+
+		try
+		{
+			VegaUtilities.rtiAmbassador().reserveObjectInstanceName(instanceName);
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to request the reservation of the object instance name \"{}\"\n[REASON]", instanceName, e);
+			complete(instanceName, false);
+		}
+
+		return reservation;
+	}
+
+	/**
+	 * Request the reservation of several object instance names with a single call
+	 * to the RTI. The RTI reserves either all of the names or none of them, so if
+	 * the batch fails the names are requested again one at a time, and only the
+	 * names that are actually taken fail.
+	 * 
+	 * @return a future for each of the names, completed with the outcome of the
+	 *         reservation.
+	 */
+	public static Map<String, CompletableFuture<Boolean>> reserveMultiple(Collection<String> instanceNames)
+	{
+		Map<String, CompletableFuture<Boolean>> pendingReservations = PENDING_RESERVATIONS.get();
+
+		Map<String, CompletableFuture<Boolean>> reservations = new HashMap<String, CompletableFuture<Boolean>>();
+		Set<String> requestedNames = new LinkedHashSet<String>();
+
+		for (String instanceName : instanceNames)
+		{
+			CompletableFuture<Boolean> reservation = new CompletableFuture<Boolean>();
+			CompletableFuture<Boolean> existing = pendingReservations.putIfAbsent(instanceName, reservation);
+
+			if (existing != null)
+				reservations.put(instanceName, existing);
+			else
+			{
+				reservations.put(instanceName, reservation);
+				requestedNames.add(instanceName);
+			}
+		}
+
+		if (requestedNames.isEmpty())
+			return reservations;
+
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		try
+		{
+			if (requestedNames.size() == 1)
+				rtiAmbassador.reserveObjectInstanceName(requestedNames.iterator().next());
+			else
+				rtiAmbassador.reserveMultipleObjectInstanceName(requestedNames);
+		}
+		catch (Exception e)
+		{
+			LOGGER.warn("Failed to request the reservation of {} object instance names in a batch, reserving them one at a time\n[REASON]", requestedNames.size(), e);
+			reserveIndividually(requestedNames);
+		}
+
+		return reservations;
+	}
+
+	// Requests the reservation of names whose futures are already pending one at
+	// a time. The outcome of each arrives through complete().
+	private static void reserveIndividually(Collection<String> instanceNames)
+	{
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		for (String instanceName : instanceNames)
+		{
+			try
+			{
+				rtiAmbassador.reserveObjectInstanceName(instanceName);
+			}
+			catch (Exception e)
+			{
+				LOGGER.error("Failed to request the reservation of the object instance name \"{}\"\n[REASON]", instanceName, e);
+				complete(instanceName, false);
+			}
+		}
+	}
+
+	/**
+	 * @return the number of reservations that are awaiting a response from the
+	 *         RTI.
+	 */
+	public static int getPendingCount()
+	{
+		return PENDING_RESERVATIONS.get().size();
+	}
+
+	protected static void complete(String instanceName, boolean reserved)
+	{
+		Map<String, CompletableFuture<Boolean>> pendingReservations = PENDING_RESERVATIONS.get();
+
+		CompletableFuture<Boolean> reservation = pendingReservations.remove(instanceName);
+
+		if (reservation == null)
+		{
+			LOGGER.warn("Received the outcome of a reservation for the object instance name \"{}\" which was not requested", instanceName);
+			return;
+		}
+
+		reservation.complete(reserved);
+	}
+
+	protected static void completeAll(Set<String> instanceNames, boolean reserved)
+	{
+		if (reserved || instanceNames.size() == 1)
+		{
+			for (String instanceName : instanceNames)
+				complete(instanceName, reserved);
+
+			return;
+		}
+
+		// A batch fails as a whole when any one of its names is taken. The RTI is not
+		// called back from its own callback, so the names are requested again from a
+		// thread of their own.
+		Map<String, CompletableFuture<Boolean>> pendingReservations = PENDING_RESERVATIONS.get();
+		final Set<String> failedNames = new LinkedHashSet<String>();
+
+		for (String instanceName : instanceNames)
+		{
+			if (pendingReservations.containsKey(instanceName))
+				failedNames.add(instanceName);
+			else
+				LOGGER.warn("Received the outcome of a reservation for the object instance name \"{}\" which was not requested", instanceName);
+		}
+
+		new Thread()
+		{
+			@Override
+			public void run()
+			{
+				reserveIndividually(failedNames);
+			}
+		}.start();
+	}
+}
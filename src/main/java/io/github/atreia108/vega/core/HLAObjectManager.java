@@ -31,10 +31,19 @@
 
 package io.github.atreia108.vega.core;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -45,11 +54,14 @@ import com.badlogic.ashley.core.Entity;
 import hla.rti1516e.AttributeHandle;
 import hla.rti1516e.AttributeHandleSet;
 import hla.rti1516e.AttributeHandleValueMap;
+import hla.rti1516e.AttributeSetRegionSetPairList;
 import hla.rti1516e.ObjectClassHandle;
 import hla.rti1516e.ObjectInstanceHandle;
 import hla.rti1516e.RTIambassador;
 import hla.rti1516e.encoding.EncoderFactory;
+import hla.rti1516e.time.HLAinteger64Time;
 import io.github.atreia108.vega.components.HLAObjectComponent;
+import io.github.atreia108.vega.utils.ProjectSettings;
 import io.github.atreia108.vega.utils.VegaUtilities;
 
 /**
@@ -71,14 +83,55 @@ public final class HLAObjectManager
 
 	private static final ComponentMapper<HLAObjectComponent> objectMapper = VegaUtilities.objectComponentMapper();
 
-	private static final Set<Entity> remoteEntitySet = new HashSet<Entity>();
-	private static final Set<Entity> localEntitySet = new HashSet<Entity>();
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
 
-	private static final Map<ObjectInstanceHandle, String> entityMap = new HashMap<ObjectInstanceHandle, String>();
-	private static final Map<String, ObjectInstanceHandle> inverseEntityMap = new HashMap<String, ObjectInstanceHandle>();
+	private static final class State
+	{
+		private final Set<Entity> remoteEntitySet = ConcurrentHashMap.newKeySet();
+		private final Set<Entity> remoteEntityView = Collections.unmodifiableSet(remoteEntitySet);
+		private final Map<String, Entity> remoteEntitiesByName = new ConcurrentHashMap<String, Entity>();
+		private final Set<Entity> localEntitySet = new HashSet<Entity>();
+
+		private final Map<ObjectInstanceHandle, String> entityMap = new HashMap<ObjectInstanceHandle, String>();
+		private final Map<String, ObjectInstanceHandle> inverseEntityMap = new HashMap<String, ObjectInstanceHandle>();
+
+		private int registeredInstancesCount = 0;
+
+		private boolean fenceViolationReported = false;
+
+		// Asynchronous registrations whose names are still being reserved, completed
+		// by the simulation thread at the start of a frame.
+		private final Queue<PendingRegistration> pendingRegistrations = new ConcurrentLinkedQueue<PendingRegistration>();
+		private final Map<Entity, CompletableFuture<Boolean>> registrationsInFlight = new ConcurrentHashMap<Entity, CompletableFuture<Boolean>>();
+
+		// Asynchronous deletions, carried out by the simulation thread at the start of
+		// a frame.
+		private final Queue<PendingDeletion> pendingDeletions = new ConcurrentLinkedQueue<PendingDeletion>();
+	}
+
+	private record PendingRegistration(Entity entity, HLAObjectComponent objectComponent, CompletableFuture<Boolean> reservation, CompletableFuture<Boolean> result)
+	{
+	}
+
+	private record PendingDeletion(Entity entity, CompletableFuture<Boolean> result)
+	{
+	}
 
+	/**
+	 * Number of object instances registered by the default federate, mirrored for
+	 * code written before federates kept their own count. Co-hosted federates use
+	 * {@link #getRegisteredInstancesCount()} instead.
+	 */
 	public static int registeredInstancesCount = 0;
 
+	/**
+	 * Returns the number of object instances registered by this federate so far.
+	 */
+	public static int getRegisteredInstancesCount()
+	{
+		return STATE.get().registeredInstancesCount;
+	}
+
 	/**
 	 * Registers an HLA object instance for a valid entity. A valid entity in this
 	 * case:
@@ -98,6 +151,163 @@ public final class HLAObjectManager
 	{
 		HLAObjectComponent objectComponent = objectMapper.get(entity);
 
+		if (!isRegistrable(entity, objectComponent))
+			return false;
+
+		boolean reserved = HLANameReservationManager.reserve(objectComponent.instanceName).join();
+		return register(entity, objectComponent, reserved);
+	}
+
+	/**
+	 * Registers HLA object instances for a collection of entities. The names of
+	 * all instances are reserved together, so the registration of a large number
+	 * of instances takes a handful of round trips to the RTI rather than one per
+	 * instance. Entities are validated in the same way as in
+	 * {@link #registerInstance(Entity) registerInstance}; invalid entities are
+	 * skipped without affecting the others.
+	 * 
+	 * @param entities entities representing the object instances.
+	 * @return the number of object instances that were registered.
+	 */
+	public static int registerInstances(Collection<Entity> entities)
+	{
+		Map<String, Entity> candidates = new LinkedHashMap<String, Entity>();
+
+		for (Entity entity : entities)
+		{
+			HLAObjectComponent objectComponent = objectMapper.get(entity);
+
+			if (!isRegistrable(entity, objectComponent))
+				continue;
+
+			if (candidates.putIfAbsent(objectComponent.instanceName, entity) != null)
+				LOGGER.warn("Registration of the object instance \"{}\" aborted: The name is used by more than one entity ({}) in the same batch.", objectComponent.instanceName, entity);
+		}
+
+		if (candidates.isEmpty())
+			return 0;
+
+		Map<String, CompletableFuture<Boolean>> reservations = HLANameReservationManager.reserveMultiple(candidates.keySet());
+		int registered = 0;
+
+		for (Map.Entry<String, Entity> candidate : candidates.entrySet())
+		{
+			Entity entity = candidate.getValue();
+			boolean reserved = reservations.get(candidate.getKey()).join();
+
+			if (register(entity, objectMapper.get(entity), reserved))
+				++registered;
+		}
+
+		return registered;
+	}
+
+	public static int registerInstances(Entity... entities)
+	{
+		return registerInstances(Arrays.asList(entities));
+	}
+
+	/**
+	 * Registers an HLA object instance for a valid entity without waiting for the
+	 * reservation of its name. The instance is registered by the simulation thread
+	 * at the start of the first frame after the RTI has responded to the
+	 * reservation, and its attribute values are sent to the RTI at once so that
+	 * subscribers receive the first update without waiting for the next call to
+	 * {@link #sendInstanceUpdate(Entity) sendInstanceUpdate}.
+	 * 
+	 * @param entity entity representing the object instance.
+	 * @return a future completed with the outcome of the registration.
+	 */
+	public static CompletableFuture<Boolean> registerInstanceAsync(Entity entity)
+	{
+		State state = STATE.get();
+
+		HLAObjectComponent objectComponent = objectMapper.get(entity);
+
+		if (!isRegistrable(entity, objectComponent))
+			return CompletableFuture.completedFuture(false);
+
+		CompletableFuture<Boolean> result = new CompletableFuture<Boolean>();
+		if (state.registrationsInFlight.putIfAbsent(entity, result) != null)
+		{
+			LOGGER.warn("Registration of the object instance \"{}\" aborted: The registration of this entity ({}) is already underway.", objectComponent.instanceName, entity);
+			return CompletableFuture.completedFuture(false);
+		}
+
+		CompletableFuture<Boolean> reservation = HLANameReservationManager.reserve(objectComponent.instanceName);
+		state.pendingRegistrations.add(new PendingRegistration(entity, objectComponent, reservation, result));
+
+		return result;
+	}
+
+	/**
+	 * Deletes the object instance of an entity without blocking the caller. The
+	 * instance is deleted by the simulation thread at the start of the next frame.
+	 * If the entity was passed to {@link #registerInstanceAsync(Entity)
+	 * registerInstanceAsync} and is still waiting to be registered, the instance
+	 * is deleted once the registration completes instead.
+	 * 
+	 * @param entity the entity whose object instance is to be deleted.
+	 * @return a future completed with the outcome of the deletion.
+	 */
+	public static CompletableFuture<Boolean> destroyInstanceAsync(Entity entity)
+	{
+		State state = STATE.get();
+
+		CompletableFuture<Boolean> registration = state.registrationsInFlight.get(entity);
+
+		if (registration != null)
+			return registration.thenApply((registered) -> registered && destroyInstance(entity));
+
+		CompletableFuture<Boolean> result = new CompletableFuture<Boolean>();
+		state.pendingDeletions.add(new PendingDeletion(entity, result));
+
+		return result;
+	}
+
+	/**
+	 * Register the instances of asynchronous registrations whose names have been
+	 * reserved and send their first update.
+	 */
+	protected static void completePendingRegistrations()
+	{
+		State state = STATE.get();
+
+		Iterator<PendingRegistration> iterator = state.pendingRegistrations.iterator();
+
+		while (iterator.hasNext())
+		{
+			PendingRegistration pending = iterator.next();
+
+			if (!pending.reservation().isDone())
+				continue;
+
+			iterator.remove();
+
+			boolean registered = register(pending.entity(), pending.objectComponent(), pending.reservation().join());
+			if (registered)
+				forceInstanceUpdate(pending.entity());
+
+			state.registrationsInFlight.remove(pending.entity());
+			pending.result().complete(registered);
+		}
+	}
+
+	/**
+	 * Delete the instances of asynchronous deletions requested since the last
+	 * frame.
+	 */
+	protected static void completePendingDeletions()
+	{
+		State state = STATE.get();
+
+		PendingDeletion pending = null;
+		while ((pending = state.pendingDeletions.poll()) != null)
+			pending.result().complete(destroyInstance(pending.entity()));
+	}
+
+	private static boolean isRegistrable(Entity entity, HLAObjectComponent objectComponent)
+	{
 		if (objectComponent == null || objectComponent.className == null || objectComponent.instanceName == null)
 		{
 			LOGGER.warn("Object instance registration aborted: <NullPointerException> The entity ({}) is potentially missing an HLAObjectComponent or one (or more) fields in the component is NULL.", entity);
@@ -110,74 +320,135 @@ public final class HLAObjectManager
 			return false;
 		}
 
-		Object nameReservationSemaphore = HLACallbackManager.getNameReservationSemaphore();
-		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+		return true;
+	}
 
-		synchronized (nameReservationSemaphore)
+	private static boolean register(Entity entity, HLAObjectComponent objectComponent, boolean reserved)
+	{
+		State state = STATE.get();
+
+		if (!reserved)
 		{
-			try
-			{
-				rtiAmbassador.reserveObjectInstanceName(objectComponent.instanceName);
-				awaitReservation();
+			LOGGER.error("Registration of an object instance with the name \"{}\" failed.", objectComponent.instanceName);
+			return false;
+		}
 
-				boolean nameReservationStatus = HLACallbackManager.getNameReservationStatus();
-				if (!nameReservationStatus)
-				{
-					LOGGER.error("Registration of an object instance with the name \"{}\" failed.", objectComponent.instanceName);
-					return false;
-				}
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
 
-				ObjectClassProfile objectClass = ProjectRegistry.getObjectClass(objectComponent.className);
+		try
+		{
+			ObjectClassProfile objectClass = ProjectRegistry.getObjectClass(objectComponent.className);
 
-				if (objectClass == null)
-				{
-					LOGGER.warn("Registration of the object instance \"{}\" was aborted: The HLA object class \"{}\" does not match anything that was published/subscribed at runtime.", objectComponent.instanceName, objectComponent.className);
-					return false;
-				}
+			if (objectClass == null)
+			{
+				LOGGER.warn("Registration of the object instance \"{}\" was aborted: The HLA object class \"{}\" does not match anything that was published/subscribed at runtime.", objectComponent.instanceName, objectComponent.className);
+				return false;
+			}
 
-				if (objectClass.getNumberOfPublisheableAttributes() < 1)
-				{
-					LOGGER.warn("Registration of the object instance \"{}\" was aborted: The associated object class has no publishable attributes.");
-					return false;
-				}
+			if (objectClass.getNumberOfPublisheableAttributes() < 1)
+			{
+				LOGGER.warn("Registration of the object instance \"{}\" was aborted: The associated object class has no publishable attributes.", objectComponent.instanceName);
+				return false;
+			}
 
-				ObjectClassHandle classHandle = objectClass.classHandle;
+			ObjectClassHandle classHandle = objectClass.classHandle;
 
-				ObjectInstanceHandle instanceHandle = rtiAmbassador.registerObjectInstance(classHandle, objectComponent.instanceName);
-				put(instanceHandle, objectComponent.instanceName);
+			ObjectInstanceHandle instanceHandle = null;
+			Set<String> updateRegionNames = objectClass.getUpdateRegionNames();
 
-				localEntitySet.add(entity);
+			if (updateRegionNames.isEmpty())
+				instanceHandle = rtiAmbassador.registerObjectInstance(classHandle, objectComponent.instanceName);
+			else
+			{
+				AttributeSetRegionSetPairList regionPairs = objectClass.regionPairs(objectClass.getPublisheableAttributeHandles(), updateRegionNames);
+				instanceHandle = rtiAmbassador.registerObjectInstanceWithRegions(classHandle, regionPairs, objectComponent.instanceName);
 			}
-			catch (Exception e)
+
+			synchronized (state.localEntitySet)
 			{
-				LOGGER.error("Object instance registration failed: {}", e);
-				return false;
+				put(instanceHandle, objectComponent.instanceName);
+				state.localEntitySet.add(entity);
+				state.registeredInstancesCount++;
+				if (FederateContext.current() == FederateContext.getDefault())
+					registeredInstancesCount = state.registeredInstancesCount;
 			}
 		}
+		catch (Exception e)
+		{
+			LOGGER.error("Object instance registration failed: {}", e);
+			return false;
+		}
 
 		LOGGER.info("A new object instance \"{}\" of the class \"{}\" was successfully registered.", objectComponent.instanceName, objectComponent.className, entity);
-		registeredInstancesCount++;
 		return true;
 	}
 
 	/**
 	 * Updates the entity's corresponding object instance (if it exists) at the RTI
-	 * with the latest values.
+	 * with the latest values. If dead reckoning is registered for its object
+	 * class, the update is skipped while subscribers can still predict the state
+	 * of the instance within the registered thresholds.
 	 * 
 	 * @param entity the entity to be updated.
 	 * @return outcome of the operation as a true or false value.
 	 */
 	public static boolean sendInstanceUpdate(Entity entity)
+	{
+		return sendInstanceUpdate(entity, null, false);
+	}
+
+	/**
+	 * Updates the entity's corresponding object instance (if it exists) at the RTI
+	 * with the latest values as a timestamp order (TSO) message. The message is
+	 * stamped with the earliest logical time this federate is allowed to send at,
+	 * i.e. its current (or requested) logical time plus the lookahead. Receivers
+	 * that are time constrained get the update delivered at exactly that time, as
+	 * long as the attributes are declared with the <code>TimeStamp</code> order
+	 * type in the FOM.
+	 * 
+	 * @param entity the entity to be updated.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean sendTimestampedInstanceUpdate(Entity entity)
+	{
+		return sendInstanceUpdate(entity, HLATimeManager.getNextMessageTime(), false);
+	}
+
+	/**
+	 * Updates the entity's corresponding object instance (if it exists) at the RTI
+	 * with the latest values as a timestamp order (TSO) message stamped with the
+	 * supplied logical time. The time must not be earlier than the one returned by
+	 * {@link io.github.atreia108.vega.core.HLATimeManager#getNextMessageTime()
+	 * HLATimeManager.getNextMessageTime()}.
+	 * 
+	 * @param entity      the entity to be updated.
+	 * @param logicalTime the timestamp of the update.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean sendTimestampedInstanceUpdate(Entity entity, long logicalTime)
+	{
+		return sendInstanceUpdate(entity, HLATimeManager.makeTime(logicalTime), false);
+	}
+
+	// Sends an update regardless of dead reckoning, e.g. when the RTI requests the
+	// latest values on behalf of a federate that has just discovered the instance.
+	protected static boolean forceInstanceUpdate(Entity entity)
+	{
+		return sendInstanceUpdate(entity, null, true);
+	}
+
+	private static boolean sendInstanceUpdate(Entity entity, HLAinteger64Time timestamp, boolean force)
 	{
 		HLAObjectComponent objectComponent = objectMapper.get(entity);
-		ObjectClassProfile objectClass = ProjectRegistry.getObjectClass(objectComponent.className);
 
 		if (objectComponent == null || objectComponent.className == null || objectComponent.instanceName == null)
 		{
-			LOGGER.warn("Object instance registration aborted: <NullPointerException> The supplied entity ({}) is potentially missing an HLAObjectComponent or one (or more) fields in the component is NULL.", entity);
+			LOGGER.warn("Object instance update aborted: <NullPointerException> The supplied entity ({}) is potentially missing an HLAObjectComponent or one (or more) fields in the component is NULL.", entity);
 			return false;
 		}
 
+		ObjectClassProfile objectClass = ProjectRegistry.getObjectClass(objectComponent.className);
+
 		if (isRemoteEntity(entity))
 		{
 			LOGGER.warn("Update attempt for the object instance \"{}\" aborted: The supplied entity ({}) is read-only as it is owned by another federate.", objectComponent.instanceName, entity);
@@ -196,6 +467,11 @@ public final class HLAObjectManager
 			return false;
 		}
 
+		// Receivers can still predict the state of the instance accurately enough, so
+		// there is nothing to send.
+		if (!force && !HLADeadReckoning.isUpdateRequired(entity, objectClass))
+			return true;
+
 		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
 		AttributeHandleValueMap instanceAttributeValues = getPublishableInstanceAttributes(entity, objectClass, rtiAmbassador);
 
@@ -208,7 +484,10 @@ public final class HLAObjectManager
 		ObjectInstanceHandle instanceHandle = translate(objectComponent.instanceName);
 		try
 		{
-			rtiAmbassador.updateAttributeValues(instanceHandle, instanceAttributeValues, null);
+			if (timestamp == null)
+				rtiAmbassador.updateAttributeValues(instanceHandle, instanceAttributeValues, null);
+			else
+				rtiAmbassador.updateAttributeValues(instanceHandle, instanceAttributeValues, null, timestamp);
 		}
 		catch (Exception e)
 		{
@@ -216,6 +495,75 @@ public final class HLAObjectManager
 			return false;
 		}
 
+		recordUpdateSent(objectClass, instanceAttributeValues);
+		HLADeadReckoning.recordSent(entity, objectClass, timestamp);
+		return true;
+	}
+
+	/**
+	 * Associates DDM regions with the published attributes of a local entity's
+	 * object instance, in addition to the regions it was registered with.
+	 * Subsequent updates of the instance are only delivered to federates whose
+	 * subscription regions overlap one of its regions.
+	 * 
+	 * @param entity      the local entity.
+	 * @param regionNames names of the regions to be associated.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean associateUpdateRegions(Entity entity, String... regionNames)
+	{
+		return modifyUpdateRegions(entity, true, regionNames);
+	}
+
+	/**
+	 * Removes the association of DDM regions with the published attributes of a
+	 * local entity's object instance.
+	 * 
+	 * @param entity      the local entity.
+	 * @param regionNames names of the regions to be unassociated.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean unassociateUpdateRegions(Entity entity, String... regionNames)
+	{
+		return modifyUpdateRegions(entity, false, regionNames);
+	}
+
+	private static boolean modifyUpdateRegions(Entity entity, boolean associate, String... regionNames)
+	{
+		HLAObjectComponent objectComponent = objectMapper.get(entity);
+
+		if (objectComponent == null || objectComponent.className == null || objectComponent.instanceName == null)
+		{
+			LOGGER.warn("Modification of update regions aborted: <NullPointerException> The supplied entity ({}) is potentially missing an HLAObjectComponent or one (or more) fields in the component is NULL.", entity);
+			return false;
+		}
+
+		ObjectClassProfile objectClass = ProjectRegistry.getObjectClass(objectComponent.className);
+
+		if (objectClass == null || isRemoteEntity(entity) || !has(objectComponent.instanceName))
+		{
+			LOGGER.warn("Modification of update regions for the object instance \"{}\" aborted: The supplied entity ({}) is not a registered local entity.", objectComponent.instanceName, entity);
+			return false;
+		}
+
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		try
+		{
+			ObjectInstanceHandle instanceHandle = translate(objectComponent.instanceName);
+			AttributeSetRegionSetPairList regionPairs = objectClass.regionPairs(objectClass.getPublisheableAttributeHandles(), new HashSet<String>(Arrays.asList(regionNames)));
+
+			if (associate)
+				rtiAmbassador.associateRegionsForUpdates(instanceHandle, regionPairs);
+			else
+				rtiAmbassador.unassociateRegionsForUpdates(instanceHandle, regionPairs);
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Modification of update regions for the object instance \"{}\" failed: ", objectComponent.instanceName, e);
+			return false;
+		}
+
 		return true;
 	}
 
@@ -256,6 +604,7 @@ public final class HLAObjectManager
 
 			// Cleanup entity data remains in the simulation.
 			remove(instanceHandle);
+			HLADeadReckoning.discard(entity);
 		}
 		catch (Exception e)
 		{
@@ -273,29 +622,7 @@ public final class HLAObjectManager
 	 */
 	public static boolean isRemoteEntity(Entity entity)
 	{
-		for (Entity e : remoteEntitySet)
-			if (e == entity)
-				return true;
-
-		return false;
-	}
-
-	private static void awaitReservation()
-	{
-		Object nameReservationSemaphore = HLACallbackManager.getNameReservationSemaphore();
-
-		try
-		{
-			synchronized (nameReservationSemaphore)
-			{
-				nameReservationSemaphore.wait();
-			}
-		}
-		catch (InterruptedException e)
-		{
-			LOGGER.error("Unexpected interruption while waiting for the reservation of an object instance's name\n[REASON]", e);
-			System.exit(1);
-		}
+		return STATE.get().remoteEntitySet.contains(entity);
 	}
 
 	private static AttributeHandleValueMap getPublishableInstanceAttributes(Entity entity, ObjectClassProfile objectClass, RTIambassador rtiAmbassador)
@@ -353,9 +680,46 @@ public final class HLAObjectManager
 		return attributeValues;
 	}
 
+	private static void recordUpdateSent(ObjectClassProfile objectClass, AttributeHandleValueMap attributeValues)
+	{
+		TrafficCounter trafficCounter = objectClass.trafficCounter;
+		long totalBytes = 0;
+
+		for (Map.Entry<AttributeHandle, byte[]> entry : attributeValues.entrySet())
+		{
+			int encodedLength = entry.getValue().length;
+			trafficCounter.addFieldBytesSent(objectClass.getAttributeNameForHandle(entry.getKey()), encodedLength);
+			totalBytes += encodedLength;
+		}
+
+		trafficCounter.addMessageSent(totalBytes);
+	}
+
+	protected static void recordReflection(ObjectClassProfile objectClass, AttributeHandleValueMap attributeValues)
+	{
+		TrafficCounter trafficCounter = objectClass.trafficCounter;
+		long totalBytes = 0;
+
+		for (Map.Entry<AttributeHandle, byte[]> entry : attributeValues.entrySet())
+		{
+			String attributeName = objectClass.getAttributeNameForHandle(entry.getKey());
+			int encodedLength = entry.getValue().length;
+
+			if (attributeName != null)
+				trafficCounter.addFieldBytesReceived(attributeName, encodedLength);
+
+			totalBytes += encodedLength;
+		}
+
+		trafficCounter.addMessageReceived(totalBytes);
+	}
+
 	protected static void addRemoteEntity(Entity entity)
 	{
-		remoteEntitySet.add(entity);
+		State state = STATE.get();
+
+		state.remoteEntitiesByName.put(objectMapper.get(entity).instanceName, entity);
+		state.remoteEntitySet.add(entity);
 	}
 
 	/**
@@ -366,26 +730,41 @@ public final class HLAObjectManager
 	 */
 	public static Entity getRemoteEntity(String instanceName)
 	{
-		for (Entity e : remoteEntitySet)
-		{
-			HLAObjectComponent objectComponent = objectMapper.get(e);
-			if (objectComponent.instanceName.equals(instanceName))
-				return e;
-		}
+		State state = STATE.get();
 
-		return null;
+		checkRunAheadFence();
+
+		return state.remoteEntitiesByName.get(instanceName);
 	}
 
 	/**
-	 * Returns a set containing copies of all remote entities available to the
-	 * federate.
+	 * Returns a read-only view of all remote entities available to the federate.
+	 * The view reflects instances that are discovered or removed while it is
+	 * iterated. Proximity queries are better served by the
+	 * {@link io.github.atreia108.vega.core.HLASpatialIndex HLASpatialIndex}.
 	 */
 	public static Set<Entity> getAllRemoteEntities()
 	{
-		Set<Entity> result = new HashSet<Entity>();
-		remoteEntitySet.forEach((entity) -> result.add(entity));
+		State state = STATE.get();
 
-		return result;
+		checkRunAheadFence();
+
+		return state.remoteEntityView;
+	}
+
+	// Remote entities are still being updated while a pipelined time advance is
+	// pending, so reading them from onRunAhead() yields values from an undefined
+	// mix of frames. Buffered reflections are only published at the start of a
+	// frame, which makes such reads safe.
+	private static void checkRunAheadFence()
+	{
+		State state = STATE.get();
+
+		if (!state.fenceViolationReported && !ProjectSettings.current().bufferedReflections && HLATimeManager.isRunningAhead())
+		{
+			state.fenceViolationReported = true;
+			LOGGER.warn("Remote entities were accessed from onRunAhead() while the time advance is pending. Systems that read remote entities should implement IRemoteDependent and run in onRun()");
+		}
 	}
 
 	/**
@@ -396,7 +775,9 @@ public final class HLAObjectManager
 	 */
 	public static Entity getLocalEntity(String instanceName)
 	{
-		for (Entity e : localEntitySet)
+		State state = STATE.get();
+
+		for (Entity e : state.localEntitySet)
 		{
 			HLAObjectComponent objectComponent = objectMapper.get(e);
 			if (objectComponent.instanceName.equals(instanceName))
@@ -408,9 +789,21 @@ public final class HLAObjectManager
 
 	protected static void destroyRemoteEntity(String instanceName)
 	{
-		Entity entity = getRemoteEntity(instanceName);
+		State state = STATE.get();
+
+		Entity entity = null;
+		if (instanceName == null || (entity = getRemoteEntity(instanceName)) == null)
+			return;
+
+		HLAReflectionBuffer.discard(instanceName);
+		HLAInterestManager.discard(instanceName);
+		HLASpatialIndex.remove(entity);
+		HLAReferenceFrameTree.remove(entity);
+		HLADeadReckoning.discard(entity);
+		HLALifetimeReaper.discard(entity);
 		entity.removeAll();
-		remoteEntitySet.remove(entity);
+		state.remoteEntitySet.remove(entity);
+		state.remoteEntitiesByName.remove(instanceName);
 
 		ObjectInstanceHandle entityHandle = translate(instanceName);
 		remove(entityHandle);
@@ -418,33 +811,37 @@ public final class HLAObjectManager
 
 	protected static void put(ObjectInstanceHandle handle, String instanceName)
 	{
-		entityMap.put(handle, instanceName);
-		inverseEntityMap.put(instanceName, handle);
+		State state = STATE.get();
+
+		state.entityMap.put(handle, instanceName);
+		state.inverseEntityMap.put(instanceName, handle);
 	}
 
 	protected static boolean has(ObjectInstanceHandle handle)
 	{
-		return entityMap.containsKey(handle);
+		return STATE.get().entityMap.containsKey(handle);
 	}
 
 	protected static boolean has(String instanceName)
 	{
-		return inverseEntityMap.containsKey(instanceName);
+		return STATE.get().inverseEntityMap.containsKey(instanceName);
 	}
 
 	protected static String translate(ObjectInstanceHandle handle)
 	{
-		return entityMap.get(handle);
+		return STATE.get().entityMap.get(handle);
 	}
 
 	protected static ObjectInstanceHandle translate(String instanceName)
 	{
-		return inverseEntityMap.get(instanceName);
+		return STATE.get().inverseEntityMap.get(instanceName);
 	}
 
 	protected static void remove(ObjectInstanceHandle handle)
 	{
-		inverseEntityMap.remove(entityMap.get(handle));
-		entityMap.remove(handle);
+		State state = STATE.get();
+
+		state.inverseEntityMap.remove(state.entityMap.get(handle));
+		state.entityMap.remove(handle);
 	}
 }
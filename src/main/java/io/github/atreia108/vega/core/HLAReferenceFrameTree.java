@@ -0,0 +1,409 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+
+import io.github.atreia108.vega.components.ReferenceFrameComponent;
+
+/**
+ * <p>
+ * The tree of SpaceFOM reference frames known to this federate, rebuilt from
+ * the reflections of <code>HLAobjectRoot.ReferenceFrame</code> instances. It is
+ * only populated when reference frames are enabled in the project file.
+ * </p>
+ * 
+ * <p>
+ * The transform of every frame to the root of its tree is composed once and
+ * cached. A reflection only invalidates the cached transforms of the reflected
+ * frame and the frames below it, so lookups for unrelated branches stay
+ * constant-time while a frame is being updated every step. Transforms between
+ * pairs of frames are cached as well and stamped with the versions of both
+ * frames, so that only the pairs whose chains include a reflected frame are
+ * composed again.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLAReferenceFrameTree
+{
+	private static final ComponentMapper<ReferenceFrameComponent> mapper = ComponentMapper.getFor(ReferenceFrameComponent.class);
+
+	// The state of the tree is also the lock guarding it.
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final Map<String, FrameNode> frames = new HashMap<String, FrameNode>();
+		private final Map<String, Set<String>> children = new HashMap<String, Set<String>>();
+		private final Map<Entity, String> entityFrames = new HashMap<Entity, String>();
+
+		// Transforms between arbitrary pairs of frames, keyed by the source frame.
+		private final Map<String, Map<String, PairTransform>> pairTransforms = new HashMap<String, Map<String, PairTransform>>();
+	}
+
+	private static final class FrameNode
+	{
+		private final String name;
+		private String parentName;
+
+		// Overwritten in place with every reflection as it is never handed out.
+		private final FrameTransform toParent = new FrameTransform();
+
+		private FrameTransform toRoot;
+		private String rootName;
+
+		// Incremented whenever the transform to the root is invalidated.
+		private long version;
+
+		private FrameNode(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	// A cached transform between two frames, valid as long as neither frame has
+	// been replaced or invalidated since it was composed.
+	private static final class PairTransform
+	{
+		private FrameNode from;
+		private FrameNode to;
+		private long fromVersion;
+		private long toVersion;
+		private FrameTransform transform;
+
+		private boolean isValid(FrameNode from, FrameNode to)
+		{
+			return this.from == from && this.to == to && fromVersion == from.version && toVersion == to.version;
+		}
+	}
+
+	/**
+	 * @return the transform carrying points expressed in the named frame into the
+	 *         root of its tree, or null if the frame or one of its ancestors has
+	 *         not been discovered yet.
+	 */
+	public static FrameTransform getTransformToRoot(String frameName)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			FrameNode node = state.frames.get(frameName);
+			return node != null && resolve(node) ? node.toRoot : null;
+		}
+	}
+
+	/**
+	 * @return the transform carrying points expressed in the frame
+	 *         <code>fromFrame</code> into the frame <code>toFrame</code>, or null
+	 *         if either frame is unknown or the frames do not share a root.
+	 */
+	public static FrameTransform getTransform(String fromFrame, String toFrame)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			if (fromFrame.equals(toFrame))
+				return state.frames.containsKey(fromFrame) ? FrameTransform.IDENTITY : null;
+
+			FrameNode from = state.frames.get(fromFrame);
+			FrameNode to = state.frames.get(toFrame);
+
+			if (from == null || to == null)
+				return null;
+
+			Map<String, PairTransform> cached = state.pairTransforms.computeIfAbsent(fromFrame, (key) -> new HashMap<String, PairTransform>());
+			PairTransform pair = cached.get(toFrame);
+
+			if (pair != null && pair.isValid(from, to))
+				return pair.transform;
+
+			if (!resolve(from) || !resolve(to) || !from.rootName.equals(to.rootName))
+				return null;
+
+			if (pair == null)
+			{
+				pair = new PairTransform();
+				cached.put(toFrame, pair);
+			}
+
+			pair.from = from;
+			pair.to = to;
+			pair.fromVersion = from.version;
+			pair.toVersion = to.version;
+			pair.transform = to.toRoot.inverse().compose(from.toRoot);
+
+			return pair.transform;
+		}
+	}
+
+	/**
+	 * @return the name of the root of the tree the named frame belongs to, or
+	 *         null if its chain of ancestors is incomplete.
+	 */
+	public static String getRootFrameName(String frameName)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			FrameNode node = state.frames.get(frameName);
+			return node != null && resolve(node) ? node.rootName : null;
+		}
+	}
+
+	public static String getParentName(String frameName)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			FrameNode node = state.frames.get(frameName);
+			return node != null ? node.parentName : null;
+		}
+	}
+
+	public static List<String> getChildren(String frameName)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			Set<String> frameChildren = state.children.get(frameName);
+			return frameChildren != null ? new ArrayList<String>(frameChildren) : Collections.emptyList();
+		}
+	}
+
+	public static List<String> getFrameNames()
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			return new ArrayList<String>(state.frames.keySet());
+		}
+	}
+
+	public static boolean hasFrame(String frameName)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			return state.frames.containsKey(frameName);
+		}
+	}
+
+	/**
+	 * Refresh the frame held by a decoded ReferenceFrame entity.
+	 */
+	protected static void update(Entity entity)
+	{
+		State state = STATE.get();
+
+		ReferenceFrameComponent component = mapper.get(entity);
+
+		if (component == null || component.name == null || component.name.isEmpty())
+			return;
+
+		synchronized (state)
+		{
+			String previousName = state.entityFrames.put(entity, component.name);
+			if (previousName != null && !previousName.equals(component.name))
+				removeFrame(previousName);
+
+			FrameNode node = state.frames.get(component.name);
+			if (node == null)
+			{
+				node = new FrameNode(component.name);
+				state.frames.put(node.name, node);
+			}
+
+			String parentName = component.parentName == null || component.parentName.isEmpty() ? null : component.parentName;
+			if (!equals(node.parentName, parentName))
+			{
+				detach(node);
+				node.parentName = parentName;
+
+				if (parentName != null)
+					state.children.computeIfAbsent(parentName, (key) -> new LinkedHashSet<String>()).add(node.name);
+			}
+
+			node.toParent.setState(component.position, component.attitude);
+
+			invalidate(node);
+		}
+	}
+
+	protected static void remove(Entity entity)
+	{
+		State state = STATE.get();
+
+		synchronized (state)
+		{
+			String frameName = state.entityFrames.remove(entity);
+
+			if (frameName != null)
+				removeFrame(frameName);
+		}
+	}
+
+	private static void removeFrame(String frameName)
+	{
+		State state = STATE.get();
+
+		FrameNode node = state.frames.remove(frameName);
+
+		if (node == null)
+			return;
+
+		// Pairs towards the frame are recognized as stale by the replaced node.
+		state.pairTransforms.remove(frameName);
+
+		detach(node);
+		invalidate(node);
+	}
+
+	private static void detach(FrameNode node)
+	{
+		State state = STATE.get();
+
+		if (node.parentName == null)
+			return;
+
+		Set<String> siblings = state.children.get(node.parentName);
+		if (siblings != null)
+		{
+			siblings.remove(node.name);
+			if (siblings.isEmpty())
+				state.children.remove(node.parentName);
+		}
+	}
+
+	// Drops the cached transforms of a frame and of every frame beneath it. A
+	// frame without a transform to the root has no resolved frames beneath it, so
+	// the walk stops there.
+	private static void invalidate(FrameNode node)
+	{
+		State state = STATE.get();
+
+		List<String> pending = new ArrayList<String>();
+		pending.add(node.name);
+		node.toRoot = null;
+		node.rootName = null;
+		++node.version;
+
+		while (!pending.isEmpty())
+		{
+			Set<String> frameChildren = state.children.get(pending.remove(pending.size() - 1));
+
+			if (frameChildren == null)
+				continue;
+
+			for (String childName : frameChildren)
+			{
+				FrameNode child = state.frames.get(childName);
+
+				if (child != null && child.toRoot != null)
+				{
+					child.toRoot = null;
+					child.rootName = null;
+					++child.version;
+					pending.add(childName);
+				}
+			}
+		}
+	}
+
+	// Composes the transform to the root for a frame, reusing the cached
+	// transforms of its ancestors.
+	private static boolean resolve(FrameNode node)
+	{
+		State state = STATE.get();
+
+		if (node.toRoot != null)
+			return true;
+
+		List<FrameNode> chain = new ArrayList<FrameNode>();
+		FrameNode current = node;
+
+		while (current.toRoot == null)
+		{
+			chain.add(current);
+
+			if (current.parentName == null)
+				break;
+
+			current = state.frames.get(current.parentName);
+
+			// The chain is incomplete or cyclic.
+			if (current == null || chain.contains(current))
+				return false;
+		}
+
+		for (int i = chain.size() - 1; i >= 0; --i)
+		{
+			FrameNode link = chain.get(i);
+			FrameNode parent = link.parentName != null ? state.frames.get(link.parentName) : null;
+
+			if (parent == null)
+			{
+				link.toRoot = FrameTransform.IDENTITY;
+				link.rootName = link.name;
+			}
+			else
+			{
+				link.toRoot = parent.toRoot.compose(link.toParent);
+				link.rootName = parent.rootName;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean equals(String a, String b)
+	{
+		return a == null ? b == null : a.equals(b);
+	}
+}
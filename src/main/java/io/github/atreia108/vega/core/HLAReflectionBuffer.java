@@ -0,0 +1,309 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Entity;
+
+import hla.rti1516e.AttributeHandle;
+import hla.rti1516e.encoding.DecoderException;
+
+/**
+ * <p>
+ * A double buffer for the attribute values of remote entities. When it is
+ * enabled in the project file, reflections from the RTI are not decoded into
+ * their entities straight away. They are merged into a back buffer instead, one
+ * entry per object instance, and published in a single step by
+ * {@link #swap()} at the start of every frame. Systems therefore never observe
+ * a remote entity that is halfway through an update, and values stay constant
+ * for the duration of a frame regardless of when the RTI delivers callbacks.
+ * </p>
+ * 
+ * <p>
+ * Object classes with an
+ * {@link io.github.atreia108.vega.core.IRemoteInterpolator
+ * IRemoteInterpolator} keep the two latest published samples of each instance,
+ * so that {@link #interpolate()} can blend between them on the simulation
+ * thread when the federate renders more often than it receives updates.
+ * </p>
+ * 
+ * <p>
+ * The ExCO object instance is exempt from buffering as the simulation loop
+ * relies on its execution modes as soon as they arrive.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLAReflectionBuffer
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final FederateContext.Key<Buffers> BUFFERS = FederateContext.key(Buffers::new);
+
+	private static final class Buffers
+	{
+		// Guards the back buffer, which is written by the callback threads.
+		private final Object bufferLock = new Object();
+
+		// Serializes publishing a frame with interpolation and with dropping the
+		// samples of removed instances.
+		private final Object frameLock = new Object();
+
+		private boolean wrongThreadReported = false;
+
+		private Map<String, PendingReflection> backBuffer = new HashMap<String, PendingReflection>();
+		private Map<String, PendingReflection> frontBuffer = new HashMap<String, PendingReflection>();
+
+		private final Map<String, InterpolationState> interpolationStates = new ConcurrentHashMap<String, InterpolationState>();
+	}
+
+	private static final class PendingReflection
+	{
+		private final Entity entity;
+		private final ObjectClassProfile objectClass;
+		private final Map<AttributeHandle, byte[]> values = new HashMap<AttributeHandle, byte[]>();
+		private long timestamp = -1L;
+
+		private PendingReflection(Entity entity, ObjectClassProfile objectClass)
+		{
+			this.entity = entity;
+			this.objectClass = objectClass;
+		}
+	}
+
+	private static final class InterpolationState
+	{
+		private final Entity entity;
+		private final IRemoteInterpolator<Object> interpolator;
+
+		private Object previous;
+		private Object latest;
+		private long previousTime;
+		private long latestTime;
+
+		private InterpolationState(Entity entity, IRemoteInterpolator<Object> interpolator)
+		{
+			this.entity = entity;
+			this.interpolator = interpolator;
+		}
+	}
+
+	/**
+	 * Stores the values of a reflection in the back buffer. Values of attributes
+	 * that were already pending for the instance are overwritten, so only the
+	 * latest value of each attribute is decoded when the frame is published.
+	 */
+	protected static void write(Entity entity, String instanceName, ObjectClassProfile objectClass, Map<AttributeHandle, byte[]> values, long timestamp)
+	{
+		Buffers buffers = BUFFERS.get();
+
+		synchronized (buffers.bufferLock)
+		{
+			PendingReflection pending = buffers.backBuffer.get(instanceName);
+
+			if (pending == null)
+			{
+				pending = new PendingReflection(entity, objectClass);
+				buffers.backBuffer.put(instanceName, pending);
+			}
+
+			pending.values.putAll(values);
+			pending.timestamp = timestamp;
+		}
+	}
+
+	/**
+	 * Drops any pending values and interpolation samples of an object instance
+	 * that was removed from the federation.
+	 */
+	protected static void discard(String instanceName)
+	{
+		Buffers buffers = BUFFERS.get();
+
+		synchronized (buffers.bufferLock)
+		{
+			buffers.backBuffer.remove(instanceName);
+		}
+
+		synchronized (buffers.frameLock)
+		{
+			buffers.interpolationStates.remove(instanceName);
+		}
+	}
+
+	/**
+	 * Publishes all reflections received since the previous call by decoding them
+	 * into their remote entities. It is called by the simulation loop at the
+	 * start of every frame.
+	 * 
+	 * @return the number of object instances that were updated.
+	 */
+	public static int swap()
+	{
+		Buffers buffers = BUFFERS.get();
+
+		synchronized (buffers.bufferLock)
+		{
+			Map<String, PendingReflection> published = buffers.backBuffer;
+			buffers.backBuffer = buffers.frontBuffer;
+			buffers.frontBuffer = published;
+		}
+
+		int updatedInstances = 0;
+		long publishTime = System.nanoTime();
+
+		synchronized (buffers.frameLock)
+		{
+			for (Map.Entry<String, PendingReflection> entry : buffers.frontBuffer.entrySet())
+			{
+				String instanceName = entry.getKey();
+				PendingReflection pending = entry.getValue();
+
+				// The latest sample has to be restored first since the entity may still hold
+				// interpolated values for attributes that are missing from this reflection.
+				InterpolationState state = buffers.interpolationStates.get(instanceName);
+				if (state != null && state.latest != null)
+					state.interpolator.interpolate(pending.entity, state.latest, state.latest, 1.0);
+
+				try
+				{
+					HLACallbackManager.updateRemoteEntityAttributes(pending.entity, instanceName, pending.objectClass, pending.values);
+				}
+				catch (DecoderException e)
+				{
+					LOGGER.error("Error encountered while attempting to decode attributes for the object instance \"{}\"", instanceName);
+					continue;
+				}
+
+				HLACallbackManager.remoteEntityUpdated(pending.entity, pending.objectClass, pending.timestamp);
+				captureSample(instanceName, pending, state, publishTime);
+				++updatedInstances;
+			}
+
+			buffers.frontBuffer.clear();
+		}
+
+		return updatedInstances;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void captureSample(String instanceName, PendingReflection pending, InterpolationState state, long publishTime)
+	{
+		Buffers buffers = BUFFERS.get();
+
+		if (state == null)
+		{
+			String interpolatorName = pending.objectClass.interpolatorName;
+			if (interpolatorName == null)
+				return;
+
+			state = new InterpolationState(pending.entity, (IRemoteInterpolator<Object>) ProjectRegistry.getInterpolator(interpolatorName));
+			buffers.interpolationStates.put(instanceName, state);
+		}
+
+		Object recycled = state.previous;
+		state.previous = state.latest;
+		state.previousTime = state.latestTime;
+		state.latest = state.interpolator.capture(pending.entity, recycled);
+		state.latestTime = publishTime;
+	}
+
+	/**
+	 * <p>
+	 * Writes an interpolated state into every remote entity of an object class
+	 * that has an interpolator. The state trails the latest published sample by
+	 * one update interval: it moves from the previous sample to the latest one
+	 * over the time it took for the latest one to arrive, and holds the latest
+	 * sample once that time has elapsed.
+	 * </p>
+	 * 
+	 * <p>
+	 * It is intended to be called on every rendered frame and must be called from
+	 * the simulation thread, e.g. from <code>onRun()</code>, since it writes to
+	 * the components that systems read. A renderer on a thread of its own has to
+	 * hand the call over through the
+	 * {@link io.github.atreia108.vega.core.EntityCommandBuffer
+	 * EntityCommandBuffer}. Calls from any other thread are ignored.
+	 * </p>
+	 */
+	public static void interpolate()
+	{
+		Buffers buffers = BUFFERS.get();
+
+		if (!EntityCommandBuffer.isOwner())
+		{
+			if (!buffers.wrongThreadReported)
+			{
+				buffers.wrongThreadReported = true;
+				LOGGER.warn("Remote entities were not interpolated\n[REASON] HLAReflectionBuffer.interpolate() was called from the thread \"{}\" instead of the simulation thread", Thread.currentThread().getName());
+			}
+
+			return;
+		}
+
+		long now = System.nanoTime();
+
+		synchronized (buffers.frameLock)
+		{
+			for (InterpolationState state : buffers.interpolationStates.values())
+			{
+				if (state.previous == null)
+					continue;
+
+				long interval = state.latestTime - state.previousTime;
+				double alpha = interval > 0 ? (double) (now - state.latestTime) / interval : 1.0;
+
+				state.interpolator.interpolate(state.entity, state.previous, state.latest, Math.min(1.0, Math.max(0.0, alpha)));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of object instances with values waiting to be published.
+	 */
+	public static int getPendingCount()
+	{
+		Buffers buffers = BUFFERS.get();
+
+		synchronized (buffers.bufferLock)
+		{
+			return buffers.backBuffer.size();
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.AttributeRegionAssociation;
+import hla.rti1516e.AttributeSetRegionSetPairList;
+import hla.rti1516e.DimensionHandle;
+import hla.rti1516e.DimensionHandleSet;
+import hla.rti1516e.RTIambassador;
+import hla.rti1516e.RangeBounds;
+import hla.rti1516e.RegionHandle;
+import hla.rti1516e.RegionHandleSet;
+import hla.rti1516e.exceptions.RTIexception;
+import io.github.atreia108.vega.utils.VegaUtilities;
+
+/**
+ * <p>
+ * Manages the HLA Data Distribution Management (DDM) regions of the federate.
+ * Regions declared in the project file are created at the RTI before any
+ * object or interaction class is declared. Further regions can be created at
+ * runtime, and the bounds of any region can be modified while it is in use,
+ * e.g. to move an area of interest along with a vehicle. Modified bounds take
+ * effect once they are committed.
+ * </p>
+ * 
+ * <p>
+ * Bounds are expressed in the normalized units of each dimension, ranging from
+ * 0 to the upper bound declared in the FOM. {@link #normalize(String, double,
+ * double, double)} maps a value from a simulation-specific range (e.g. a
+ * coordinate in metres) onto a dimension.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLARegionManager
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final Map<String, DimensionHandle> dimensionHandles = new ConcurrentHashMap<String, DimensionHandle>();
+		private final Map<String, Long> dimensionUpperBounds = new ConcurrentHashMap<String, Long>();
+	}
+
+	/**
+	 * Creates a region at the RTI with the dimensions and bounds of the supplied
+	 * profile, and adds it to the project registry under its name.
+	 * 
+	 * @param region profile of the region.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean createRegion(RegionProfile region)
+	{
+		if (region.isCreated())
+		{
+			LOGGER.warn("The region \"{}\" was not created since it already exists at the RTI", region.name);
+			return false;
+		}
+
+		if (region.getDimensionNames().isEmpty())
+		{
+			LOGGER.warn("The region \"{}\" was not created: It does not span any dimension", region.name);
+			return false;
+		}
+
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		try
+		{
+			DimensionHandleSet dimensionHandleSet = rtiAmbassador.getDimensionHandleSetFactory().create();
+
+			for (String dimensionName : region.getDimensionNames())
+				dimensionHandleSet.add(getDimensionHandle(dimensionName));
+
+			RegionHandle regionHandle = rtiAmbassador.createRegion(dimensionHandleSet);
+
+			for (String dimensionName : region.getDimensionNames())
+				rtiAmbassador.setRangeBounds(regionHandle, getDimensionHandle(dimensionName), region.getBounds(dimensionName));
+
+			RegionHandleSet regionHandleSet = rtiAmbassador.getRegionHandleSetFactory().create();
+			regionHandleSet.add(regionHandle);
+			rtiAmbassador.commitRegionModifications(regionHandleSet);
+
+			region.regionHandle = regionHandle;
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to create the region \"{}\"\n[REASON]", region.name, e);
+			return false;
+		}
+
+		if (ProjectRegistry.getRegion(region.name) == null)
+			ProjectRegistry.addRegion(region);
+
+		LOGGER.info("The region \"{}\" was successfully created", region.name);
+		return true;
+	}
+
+	protected static void createDeclaredRegions()
+	{
+		for (RegionProfile region : ProjectRegistry.getRegionProfiles())
+		{
+			if (!region.isCreated() && !createRegion(region))
+			{
+				LOGGER.error("Project initialization failed\n[REASON] The region \"{}\" declared in the project file could not be created", region.name);
+				System.exit(1);
+			}
+		}
+	}
+
+	/**
+	 * Changes the bounds of a region along one of its dimensions. The change is
+	 * only sent to the RTI once {@link #commitRegionModifications(String...)} is
+	 * called, so that several dimensions or regions can be modified at once.
+	 * 
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean setRangeBounds(String regionName, String dimensionName, long lowerBound, long upperBound)
+	{
+		RegionProfile region = getCreatedRegion(regionName);
+		if (region == null)
+			return false;
+
+		if (!region.hasDimension(dimensionName))
+		{
+			LOGGER.warn("The bounds of the region \"{}\" were not modified: It does not span the dimension \"{}\"", regionName, dimensionName);
+			return false;
+		}
+
+		try
+		{
+			RangeBounds bounds = new RangeBounds(lowerBound, upperBound);
+			VegaUtilities.rtiAmbassador().setRangeBounds(region.regionHandle, getDimensionHandle(dimensionName), bounds);
+			region.addDimension(dimensionName, lowerBound, upperBound);
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to modify the bounds of the region \"{}\"\n[REASON]", regionName, e);
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Sends the modified bounds of the supplied regions to the RTI, which then
+	 * re-evaluates which federates receive the updates and interactions
+	 * associated with them.
+	 * 
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean commitRegionModifications(String... regionNames)
+	{
+		try
+		{
+			RegionHandleSet regionHandleSet = toRegionHandleSet(Arrays.asList(regionNames));
+			if (regionHandleSet == null)
+				return false;
+
+			VegaUtilities.rtiAmbassador().commitRegionModifications(regionHandleSet);
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to commit modifications of regions\n[REASON]", e);
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Changes the bounds of a region along one of its dimensions and commits the
+	 * change straight away.
+	 * 
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean modifyRegion(String regionName, String dimensionName, long lowerBound, long upperBound)
+	{
+		return setRangeBounds(regionName, dimensionName, lowerBound, upperBound) && commitRegionModifications(regionName);
+	}
+
+	/**
+	 * Deletes a region at the RTI and removes it from the project registry. The
+	 * region must no longer be used by any subscription or object instance.
+	 * 
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public static boolean deleteRegion(String regionName)
+	{
+		RegionProfile region = getCreatedRegion(regionName);
+		if (region == null)
+			return false;
+
+		try
+		{
+			VegaUtilities.rtiAmbassador().deleteRegion(region.regionHandle);
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to delete the region \"{}\"\n[REASON]", regionName, e);
+			return false;
+		}
+
+		region.regionHandle = null;
+		ProjectRegistry.removeRegion(region);
+		return true;
+	}
+
+	/**
+	 * Maps a value from the range [min, max] onto the normalized range of a
+	 * dimension. Values outside of the range are clamped.
+	 * 
+	 * @return the normalized value, or -1 if the dimension is unknown to the RTI.
+	 */
+	public static long normalize(String dimensionName, double value, double min, double max)
+	{
+		long upperBound;
+
+		try
+		{
+			upperBound = getDimensionUpperBound(dimensionName);
+		}
+		catch (RTIexception e)
+		{
+			LOGGER.error("Failed to retrieve the upper bound of the dimension \"{}\"\n[REASON]", dimensionName, e);
+			return -1L;
+		}
+
+		double fraction = Math.min(1.0, Math.max(0.0, (value - min) / (max - min)));
+
+		return Math.min(upperBound - 1, (long) (fraction * upperBound));
+	}
+
+	public static DimensionHandle getDimensionHandle(String dimensionName) throws RTIexception
+	{
+		State state = STATE.get();
+
+		DimensionHandle dimensionHandle = state.dimensionHandles.get(dimensionName);
+
+		if (dimensionHandle == null)
+		{
+			dimensionHandle = VegaUtilities.rtiAmbassador().getDimensionHandle(dimensionName);
+			state.dimensionHandles.put(dimensionName, dimensionHandle);
+		}
+
+		return dimensionHandle;
+	}
+
+	public static long getDimensionUpperBound(String dimensionName) throws RTIexception
+	{
+		State state = STATE.get();
+
+		Long upperBound = state.dimensionUpperBounds.get(dimensionName);
+
+		if (upperBound == null)
+		{
+			upperBound = VegaUtilities.rtiAmbassador().getDimensionUpperBound(getDimensionHandle(dimensionName));
+			state.dimensionUpperBounds.put(dimensionName, upperBound);
+		}
+
+		return upperBound;
+	}
+
+	// Returns null if any of the regions does not exist at the RTI.
+	protected static RegionHandleSet toRegionHandleSet(Collection<String> regionNames) throws RTIexception
+	{
+		RegionHandleSet regionHandleSet = VegaUtilities.rtiAmbassador().getRegionHandleSetFactory().create();
+
+		for (String regionName : regionNames)
+		{
+			RegionProfile region = getCreatedRegion(regionName);
+			if (region == null)
+				return null;
+
+			regionHandleSet.add(region.regionHandle);
+		}
+
+		return regionHandleSet;
+	}
+
+	protected static AttributeSetRegionSetPairList toRegionPairList(AttributeHandleSet attributeHandleSet, RegionHandleSet regionHandleSet) throws RTIexception
+	{
+		AttributeSetRegionSetPairList pairList = VegaUtilities.rtiAmbassador().getAttributeSetRegionSetPairListFactory().create(1);
+		pairList.add(new AttributeRegionAssociation(attributeHandleSet, regionHandleSet));
+
+		return pairList;
+	}
+
+	private static RegionProfile getCreatedRegion(String regionName)
+	{
+		RegionProfile region = ProjectRegistry.getRegion(regionName);
+
+		if (region == null || !region.isCreated())
+		{
+			LOGGER.warn("The region \"{}\" does not exist at the RTI", regionName);
+			return null;
+		}
+
+		return region;
+	}
+}
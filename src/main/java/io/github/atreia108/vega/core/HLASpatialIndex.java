@@ -0,0 +1,534 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * <p>
+ * A spatial index over the positions of remote entities, kept as one uniform
+ * grid per reference frame. Object classes take part once an
+ * {@link io.github.atreia108.vega.core.ISpatialLocator ISpatialLocator} is
+ * registered for them. Their entities are then moved between grid cells
+ * whenever a reflection is decoded or they are extrapolated by dead reckoning,
+ * and removed when their object instance is.
+ * </p>
+ * 
+ * <p>
+ * Range and k-nearest queries only visit the cells around the query position,
+ * so their cost depends on the local density of entities rather than the size
+ * of the remote population. The cell size should be in the order of the
+ * typical query radius.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLASpatialIndex
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final double DEFAULT_CELL_SIZE = 1000.0;
+
+	// Key of the grid holding entities whose locator does not name a frame.
+	private static final String DEFAULT_FRAME = "";
+
+	// Cell coordinates are packed into 21 bits each. Coordinates that wrap around
+	// only cause extra candidates, which are rejected by the distance check.
+	private static final int CELL_BITS = 21;
+	private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+		private final Map<String, ISpatialLocator> locators = new ConcurrentHashMap<String, ISpatialLocator>();
+		private final Map<String, Double> cellSizes = new ConcurrentHashMap<String, Double>();
+
+		private final Map<String, Grid> grids = new HashMap<String, Grid>();
+		private final Map<Entity, IndexEntry> entries = new HashMap<Entity, IndexEntry>();
+
+		private double defaultCellSize = DEFAULT_CELL_SIZE;
+
+		// Receives the position of the entity being updated, under the write lock.
+		private final double[] position = new double[3];
+	}
+
+	private static final class Grid
+	{
+		private final double cellSize;
+		private final Map<Long, List<IndexEntry>> cells = new HashMap<Long, List<IndexEntry>>();
+		private int size;
+
+		private Grid(double cellSize)
+		{
+			this.cellSize = cellSize;
+		}
+
+		private long cellKey(double x, double y, double z)
+		{
+			return packCell(cellCoordinate(x), cellCoordinate(y), cellCoordinate(z));
+		}
+
+		private int cellCoordinate(double value)
+		{
+			return (int) Math.floor(value / cellSize);
+		}
+	}
+
+	private static final class IndexEntry
+	{
+		private final Entity entity;
+		private final double[] position = new double[3];
+		private String frameName;
+		private long cellKey;
+
+		private IndexEntry(Entity entity)
+		{
+			this.entity = entity;
+		}
+	}
+
+	private record Candidate(Entity entity, double distanceSquared)
+	{
+	}
+
+	/**
+	 * Adds the remote entities of an object class to the index. Entities are
+	 * indexed as their next reflection is decoded.
+	 * 
+	 * @param className name of the HLA object class.
+	 * @param locator   the locator returning the positions of its entities.
+	 */
+	public static void register(String className, ISpatialLocator locator)
+	{
+		State state = STATE.get();
+
+		if (ProjectRegistry.getObjectClass(className) == null)
+			LOGGER.warn("A spatial locator was registered for the HLA object class <{}>, which is not declared in the project file", className);
+
+		state.locators.put(className, locator);
+	}
+
+	/**
+	 * Sets the size of the grid cells for entities of the supplied reference
+	 * frame. It has to be called before any entity of the frame is indexed.
+	 */
+	public static void setCellSize(String frameName, double cellSize)
+	{
+		STATE.get().cellSizes.put(frameName == null ? DEFAULT_FRAME : frameName, cellSize);
+	}
+
+	/**
+	 * Sets the size of the grid cells for reference frames without a size of
+	 * their own.
+	 */
+	public static void setDefaultCellSize(double cellSize)
+	{
+		STATE.get().defaultCellSize = cellSize;
+	}
+
+	// Moves an entity to the cell of its current position.
+	protected static void update(Entity entity, String className)
+	{
+		State state = STATE.get();
+
+		ISpatialLocator locator = state.locators.get(className);
+		if (locator == null)
+			return;
+
+		String frameName = locator.getFrameName(entity);
+		if (frameName == null)
+			frameName = DEFAULT_FRAME;
+
+		state.lock.writeLock().lock();
+		try
+		{
+			double[] position = state.position;
+			if (!locator.locate(entity, position))
+				return;
+
+			IndexEntry entry = state.entries.get(entity);
+			Grid grid = getGrid(frameName);
+			long cellKey = grid.cellKey(position[0], position[1], position[2]);
+
+			if (entry == null)
+			{
+				entry = new IndexEntry(entity);
+				state.entries.put(entity, entry);
+			}
+			else if (!entry.frameName.equals(frameName) || entry.cellKey != cellKey)
+				removeFromCell(entry);
+			else
+			{
+				System.arraycopy(position, 0, entry.position, 0, 3);
+				return;
+			}
+
+			System.arraycopy(position, 0, entry.position, 0, 3);
+			entry.frameName = frameName;
+			entry.cellKey = cellKey;
+
+			grid.cells.computeIfAbsent(cellKey, (key) -> new ArrayList<IndexEntry>(4)).add(entry);
+			++grid.size;
+		}
+		finally
+		{
+			state.lock.writeLock().unlock();
+		}
+	}
+
+	protected static void remove(Entity entity)
+	{
+		State state = STATE.get();
+
+		state.lock.writeLock().lock();
+		try
+		{
+			IndexEntry entry = state.entries.remove(entity);
+			if (entry != null)
+				removeFromCell(entry);
+		}
+		finally
+		{
+			state.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds all indexed entities of a reference frame within a distance of a
+	 * position.
+	 * 
+	 * @param frameName name of the reference frame, or null for entities whose
+	 *                  locator does not name one.
+	 * @param x         x coordinate of the position.
+	 * @param y         y coordinate of the position.
+	 * @param z         z coordinate of the position.
+	 * @param radius    the largest distance of a result from the position.
+	 * @param result    list the entities are added to.
+	 * @return the result list.
+	 */
+	public static List<Entity> queryRange(String frameName, double x, double y, double z, double radius, List<Entity> result)
+	{
+		return queryRange(frameName, x, y, z, radius, null, result);
+	}
+
+	/**
+	 * Finds all indexed entities within a distance of an indexed entity, which
+	 * itself is not part of the result.
+	 * 
+	 * @return the result list, which is left unchanged if the entity is not
+	 *         indexed.
+	 */
+	public static List<Entity> queryRange(Entity center, double radius, List<Entity> result)
+	{
+		State state = STATE.get();
+
+		state.lock.readLock().lock();
+		try
+		{
+			IndexEntry entry = state.entries.get(center);
+			if (entry == null)
+				return result;
+
+			return queryRange(entry.frameName, entry.position[0], entry.position[1], entry.position[2], radius, center, result);
+		}
+		finally
+		{
+			state.lock.readLock().unlock();
+		}
+	}
+
+	private static List<Entity> queryRange(String frameName, double x, double y, double z, double radius, Entity excluded, List<Entity> result)
+	{
+		State state = STATE.get();
+
+		double radiusSquared = radius * radius;
+
+		state.lock.readLock().lock();
+		try
+		{
+			Grid grid = state.grids.get(frameName == null ? DEFAULT_FRAME : frameName);
+			if (grid == null)
+				return result;
+
+			int minX = grid.cellCoordinate(x - radius), maxX = grid.cellCoordinate(x + radius);
+			int minY = grid.cellCoordinate(y - radius), maxY = grid.cellCoordinate(y + radius);
+			int minZ = grid.cellCoordinate(z - radius), maxZ = grid.cellCoordinate(z + radius);
+
+			long spannedCells = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+
+			// A query spanning more cells than there are entities is cheaper as a scan.
+			if (spannedCells > grid.cells.size())
+			{
+				for (List<IndexEntry> cell : grid.cells.values())
+					collectInRange(cell, x, y, z, radiusSquared, excluded, result);
+
+				return result;
+			}
+
+			for (int i = minX; i <= maxX; ++i)
+				for (int j = minY; j <= maxY; ++j)
+					for (int k = minZ; k <= maxZ; ++k)
+						collectInRange(grid.cells.get(packCell(i, j, k)), x, y, z, radiusSquared, excluded, result);
+
+			return result;
+		}
+		finally
+		{
+			state.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the indexed entities of a reference frame closest to a position.
+	 * 
+	 * @param frameName name of the reference frame, or null for entities whose
+	 *                  locator does not name one.
+	 * @param x         x coordinate of the position.
+	 * @param y         y coordinate of the position.
+	 * @param z         z coordinate of the position.
+	 * @param count     the largest number of entities to be found.
+	 * @param result    list the entities are added to, closest first.
+	 * @return the result list.
+	 */
+	public static List<Entity> queryNearest(String frameName, double x, double y, double z, int count, List<Entity> result)
+	{
+		return queryNearest(frameName, x, y, z, count, null, result);
+	}
+
+	/**
+	 * Finds the indexed entities closest to an indexed entity, which itself is
+	 * not part of the result.
+	 * 
+	 * @return the result list, which is left unchanged if the entity is not
+	 *         indexed.
+	 */
+	public static List<Entity> queryNearest(Entity center, int count, List<Entity> result)
+	{
+		State state = STATE.get();
+
+		state.lock.readLock().lock();
+		try
+		{
+			IndexEntry entry = state.entries.get(center);
+			if (entry == null)
+				return result;
+
+			return queryNearest(entry.frameName, entry.position[0], entry.position[1], entry.position[2], count, center, result);
+		}
+		finally
+		{
+			state.lock.readLock().unlock();
+		}
+	}
+
+	private static List<Entity> queryNearest(String frameName, double x, double y, double z, int count, Entity excluded, List<Entity> result)
+	{
+		State state = STATE.get();
+
+		if (count < 1)
+			return result;
+
+		// Max-heap on distance holding the closest candidates found so far.
+		PriorityQueue<Candidate> nearest = new PriorityQueue<Candidate>(count + 1, (a, b) -> Double.compare(b.distanceSquared, a.distanceSquared));
+
+		state.lock.readLock().lock();
+		try
+		{
+			Grid grid = state.grids.get(frameName == null ? DEFAULT_FRAME : frameName);
+			if (grid == null)
+				return result;
+
+			int centerX = grid.cellCoordinate(x);
+			int centerY = grid.cellCoordinate(y);
+			int centerZ = grid.cellCoordinate(z);
+
+			int visited = 0;
+
+			// Cells are searched in shells of growing distance around the center cell.
+			// Any entity beyond shell r is at least r cell sizes away, so the search
+			// ends once the k-th closest candidate is nearer than that.
+			for (int r = 0; visited < grid.size; ++r)
+			{
+				double shellDistance = (r - 1) * grid.cellSize;
+				if (nearest.size() == count && r > 0 && nearest.peek().distanceSquared <= shellDistance * shellDistance)
+					break;
+
+				long shellCells = r == 0 ? 1 : (long) Math.pow(2 * r + 1, 3) - (long) Math.pow(2 * r - 1, 3);
+				if (shellCells > grid.cells.size())
+				{
+					nearest.clear();
+					for (List<IndexEntry> cell : grid.cells.values())
+						offerNearest(cell, x, y, z, count, excluded, nearest);
+
+					break;
+				}
+
+				for (int i = -r; i <= r; ++i)
+					for (int j = -r; j <= r; ++j)
+						for (int k = -r; k <= r; ++k)
+						{
+							if (Math.max(Math.abs(i), Math.max(Math.abs(j), Math.abs(k))) != r)
+								continue;
+
+							List<IndexEntry> cell = grid.cells.get(packCell(centerX + i, centerY + j, centerZ + k));
+							if (cell == null)
+								continue;
+
+							visited += cell.size();
+							offerNearest(cell, x, y, z, count, excluded, nearest);
+						}
+			}
+		}
+		finally
+		{
+			state.lock.readLock().unlock();
+		}
+
+		Candidate[] ordered = nearest.toArray(new Candidate[0]);
+		Arrays.sort(ordered, (a, b) -> Double.compare(a.distanceSquared, b.distanceSquared));
+
+		for (Candidate candidate : ordered)
+			result.add(candidate.entity);
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of indexed entities.
+	 */
+	public static int size()
+	{
+		State state = STATE.get();
+
+		state.lock.readLock().lock();
+		try
+		{
+			return state.entries.size();
+		}
+		finally
+		{
+			state.lock.readLock().unlock();
+		}
+	}
+
+	private static Grid getGrid(String frameName)
+	{
+		State state = STATE.get();
+
+		Grid grid = state.grids.get(frameName);
+
+		if (grid == null)
+		{
+			grid = new Grid(state.cellSizes.getOrDefault(frameName, state.defaultCellSize));
+			state.grids.put(frameName, grid);
+		}
+
+		return grid;
+	}
+
+	private static void removeFromCell(IndexEntry entry)
+	{
+		State state = STATE.get();
+
+		Grid grid = state.grids.get(entry.frameName);
+		List<IndexEntry> cell = grid.cells.get(entry.cellKey);
+
+		if (cell != null && cell.remove(entry))
+		{
+			--grid.size;
+
+			if (cell.isEmpty())
+				grid.cells.remove(entry.cellKey);
+		}
+	}
+
+	private static void collectInRange(List<IndexEntry> cell, double x, double y, double z, double radiusSquared, Entity excluded, List<Entity> result)
+	{
+		if (cell == null)
+			return;
+
+		for (IndexEntry entry : cell)
+		{
+			if (entry.entity != excluded && distanceSquared(entry, x, y, z) <= radiusSquared)
+				result.add(entry.entity);
+		}
+	}
+
+	private static void offerNearest(List<IndexEntry> cell, double x, double y, double z, int count, Entity excluded, PriorityQueue<Candidate> nearest)
+	{
+		for (IndexEntry entry : cell)
+		{
+			if (entry.entity == excluded)
+				continue;
+
+			double distanceSquared = distanceSquared(entry, x, y, z);
+
+			if (nearest.size() < count)
+				nearest.add(new Candidate(entry.entity, distanceSquared));
+			else if (distanceSquared < nearest.peek().distanceSquared)
+			{
+				nearest.poll();
+				nearest.add(new Candidate(entry.entity, distanceSquared));
+			}
+		}
+	}
+
+	private static double distanceSquared(IndexEntry entry, double x, double y, double z)
+	{
+		double dx = entry.position[0] - x;
+		double dy = entry.position[1] - y;
+		double dz = entry.position[2] - z;
+
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	private static long packCell(int x, int y, int z)
+	{
+		return ((x & CELL_MASK) << (2 * CELL_BITS)) | ((y & CELL_MASK) << CELL_BITS) | (z & CELL_MASK);
+	}
+}
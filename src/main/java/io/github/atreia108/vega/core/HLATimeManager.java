@@ -45,6 +45,8 @@ import hla.rti1516e.time.HLAinteger64Time;
 import hla.rti1516e.time.HLAinteger64TimeFactory;
 import io.github.atreia108.vega.components.ExCOComponent;
 import io.github.atreia108.vega.utils.ExecutionLatch;
+import io.github.atreia108.vega.utils.ExecutionLatch.Reason;
+import io.github.atreia108.vega.utils.ProjectSettings;
 import io.github.atreia108.vega.utils.VegaUtilities;
 
 /**
@@ -58,16 +60,26 @@ public final class HLATimeManager
 	private static final Logger LOGGER = LogManager.getLogger();
 	
 	private static final HLAinteger64TimeFactory TIME_FACTORY = LogicalTimeFactoryFactory.getLogicalTimeFactory(HLAinteger64TimeFactory.class);
-	private static HLAinteger64Time presentTime;
-	private static HLAinteger64Time lookAheadTime;
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private HLAinteger64Time presentTime;
+		private long timeStep;
+		private long lookAhead;
+		private volatile HLAinteger64Time requestedTime;
+		private volatile Thread runAheadThread;
+	}
 
 	protected static void enableTimeConstrained()
 	{
 		try
 		{
 			RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+			long ticket = ExecutionLatch.arm(Reason.TIME_CONSTRAINED_ENABLED);
 			rtiAmbassador.enableTimeConstrained();
-			ExecutionLatch.enable();
+			EntityCommandBuffer.await(Reason.TIME_CONSTRAINED_ENABLED, ticket);
 		}
 		catch (Exception e)
 		{
@@ -78,18 +90,19 @@ public final class HLATimeManager
 
 	protected static void enableTimeRegulation()
 	{
-		long leastCommonTimeStep = getLeastCommonTimeStep();
+		State state = STATE.get();
 
-		if (lookAheadTime == null)
-			lookAheadTime = getLookAheadTime(leastCommonTimeStep);
+		long leastCommonTimeStep = getLeastCommonTimeStep();
+		configureTimeStep(leastCommonTimeStep);
 
-		HLAinteger64Interval lookAheadInterval = getLookAheadInterval(leastCommonTimeStep);
+		HLAinteger64Interval lookAheadInterval = getLookAheadInterval(state.lookAhead);
 
 		try
 		{
 			RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+			long ticket = ExecutionLatch.arm(Reason.TIME_REGULATION_ENABLED);
 			rtiAmbassador.enableTimeRegulation(lookAheadInterval);
-			ExecutionLatch.enable();
+			EntityCommandBuffer.await(Reason.TIME_REGULATION_ENABLED, ticket);
 		}
 		catch (Exception e)
 		{
@@ -97,7 +110,37 @@ public final class HLATimeManager
 			System.exit(1);
 		}
 	}
-	
+
+	// Derives the time step and lookahead of this federate from the LCTS of the
+	// federation execution and the settings in the project file. Both have to be
+	// multiples of the LCTS so that the frames of all federates stay aligned.
+	private static void configureTimeStep(long leastCommonTimeStep)
+	{
+		State state = STATE.get();
+
+		if (leastCommonTimeStep <= 0)
+		{
+			LOGGER.error("Failed to enable HLA time regulation\n[REASON] The least common time step ({}) of the federation execution is not a positive value", leastCommonTimeStep);
+			System.exit(1);
+		}
+
+		ProjectSettings settings = ProjectSettings.current();
+		int timeStepMultiple = settings.timeStepMultiple > 0 ? settings.timeStepMultiple : 1;
+		state.timeStep = Math.multiplyExact(leastCommonTimeStep, (long) timeStepMultiple);
+		state.lookAhead = settings.lookahead > 0 ? settings.lookahead : leastCommonTimeStep;
+
+		if (state.lookAhead % leastCommonTimeStep != 0)
+		{
+			LOGGER.error("Failed to enable HLA time regulation\n[REASON] The lookahead ({}) is not a multiple of the least common time step ({})", state.lookAhead, leastCommonTimeStep);
+			System.exit(1);
+		}
+
+		if (state.lookAhead > state.timeStep)
+			LOGGER.warn("The lookahead ({}) exceeds the time step of the federate ({}). Updates sent with timestamps will arrive later than the next frame", state.lookAhead, state.timeStep);
+
+		LOGGER.info("Using a time step of {} ({} x LCTS) and a lookahead of {}", state.timeStep, timeStepMultiple, state.lookAhead);
+	}
+
 	protected static long getLeastCommonTimeStep()
 	{
 		// Entity exCO = ProjectRegistry.getRemoteEntityByName("ExCO");
@@ -108,26 +151,50 @@ public final class HLATimeManager
 		return exCOComponent.leastCommonTimeStep;
 	}
 
-	protected static HLAinteger64Time getLookAheadTime(long leastCommonTimeStep)
+	protected static HLAinteger64Interval getLookAheadInterval(long lookAhead)
 	{
-		return TIME_FACTORY.makeTime(leastCommonTimeStep);
+		return TIME_FACTORY.makeInterval(lookAhead);
 	}
 
-	protected static HLAinteger64Interval getLookAheadInterval(long leastCommonTimeStep)
+	/**
+	 * Returns the amount of logical time this federate advances per frame, which
+	 * is the least common time step multiplied by the configured time step
+	 * multiple. Returns 0 until time regulation has been enabled.
+	 */
+	public static long getTimeStep()
 	{
-		return TIME_FACTORY.makeInterval(leastCommonTimeStep);
+		return STATE.get().timeStep;
 	}
 
+	/**
+	 * Returns the lookahead of this federate. Returns 0 until time regulation has
+	 * been enabled.
+	 */
+	public static long getLookAhead()
+	{
+		return STATE.get().lookAhead;
+	}
+
+	// The HLA logical time boundary (HLTB) is the first time after the GALT that
+	// is aligned with this federate's time step. Since the time step is a multiple
+	// of the LCTS, the HLTB is aligned with the LCTS as well and federates running
+	// at the same multiple share their frame boundaries.
 	protected static HLAinteger64Time getLogicalTimeBoundary()
 	{
-		long leastCommonTimeStep = getLeastCommonTimeStep();
-		
+		State state = STATE.get();
+
 		try
 		{
 			RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
 			TimeQueryReturn galtQuery = rtiAmbassador.queryGALT();
-			HLAinteger64Time galt = (HLAinteger64Time) galtQuery.time;
-			long hltb = (long) ((Math.floor(galt.getValue() / leastCommonTimeStep) + 1) * leastCommonTimeStep);
+
+			long galt = 0L;
+			if (galtQuery.timeIsValid)
+				galt = ((HLAinteger64Time) galtQuery.time).getValue();
+			else
+				galt = ((HLAinteger64Time) rtiAmbassador.queryLogicalTime()).getValue();
+
+			long hltb = (Math.floorDiv(galt, state.timeStep) + 1) * state.timeStep;
 
 			HLAinteger64Time logicalTimeBoundary = TIME_FACTORY.makeTime(hltb);
 			return logicalTimeBoundary;
@@ -143,38 +210,125 @@ public final class HLATimeManager
 
 	protected static void advanceTime()
 	{
+		long ticket = requestTimeAdvance();
+		awaitTimeAdvanceGrant(ticket);
+	}
+
+	/**
+	 * Issues a request to advance to the next time step without waiting for the
+	 * grant. Used by the pipelined simulation loop to overlap computation with the
+	 * wait for the time advance grant.
+	 * 
+	 * @return the ticket to be passed to {@link #awaitTimeAdvanceGrant(long)}.
+	 */
+	protected static long requestTimeAdvance()
+	{
+		State state = STATE.get();
+
 		HLAinteger64Time nextTimeStep = null;
-		
-		if (presentTime == null)
+
+		if (state.presentTime == null)
 			nextTimeStep = getLogicalTimeBoundary();
 		else
 			nextTimeStep = getNextTimeStep();
-		
+
+		long ticket = ExecutionLatch.arm(Reason.TIME_ADVANCE_GRANT);
+
 		try
 		{
 			RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+			state.requestedTime = nextTimeStep;
 			rtiAmbassador.timeAdvanceRequest(nextTimeStep);
-			ExecutionLatch.enable();
 		}
 		catch (Exception e)
 		{
 			LOGGER.error("Failed to request time advance to the next time step\n[REASON]", e);
 			System.exit(1);
 		}
+
+		return ticket;
+	}
+
+	protected static void awaitTimeAdvanceGrant(long ticket)
+	{
+		State state = STATE.get();
+
+		EntityCommandBuffer.await(Reason.TIME_ADVANCE_GRANT, ticket);
+		state.requestedTime = null;
+	}
+
+	/**
+	 * Returns whether a time advance has been requested and not granted yet.
+	 */
+	public static boolean isTimeAdvancePending()
+	{
+		return STATE.get().requestedTime != null;
+	}
+
+	/**
+	 * Returns whether the calling thread is the simulation thread executing
+	 * {@link io.github.atreia108.vega.core.ASpaceFomSimulation#onRunAhead()
+	 * onRunAhead()} while the time advance grant is outstanding.
+	 */
+	public static boolean isRunningAhead()
+	{
+		return Thread.currentThread() == STATE.get().runAheadThread;
+	}
+
+	protected static void setRunAheadThread(Thread thread)
+	{
+		STATE.get().runAheadThread = thread;
 	}
 
 	protected static HLAinteger64Time getNextTimeStep()
 	{
-		long present = presentTime.getValue();
-		long stepIncrement = lookAheadTime.getValue();
-		long future = present + stepIncrement;
+		State state = STATE.get();
+
+		long present = state.presentTime.getValue();
+		long future = present + state.timeStep;
 
 		HLAinteger64Time nextTimeStep = TIME_FACTORY.makeTime(future);
 		return nextTimeStep;
 	}
 
+	/**
+	 * Returns the earliest logical time at which this federate may send a
+	 * timestamp order message: its current logical time, or the time it has
+	 * requested to advance to if a time advance is pending, plus the lookahead.
+	 */
+	public static HLAinteger64Time getNextMessageTime()
+	{
+		State state = STATE.get();
+
+		HLAinteger64Time requested = state.requestedTime;
+		HLAinteger64Time present = state.presentTime;
+
+		long base = present != null ? present.getValue() : 0L;
+		if (requested != null && requested.getValue() > base)
+			base = requested.getValue();
+
+		return TIME_FACTORY.makeTime(base + state.lookAhead);
+	}
+
+	protected static HLAinteger64Time makeTime(long logicalTime)
+	{
+		return TIME_FACTORY.makeTime(logicalTime);
+	}
+
+	/**
+	 * Returns the current logical time of the federate or -1 if no time advance
+	 * has been granted yet.
+	 */
+	public static long getPresentTime()
+	{
+		State state = STATE.get();
+
+		HLAinteger64Time time = state.presentTime;
+		return time != null ? time.getValue() : -1L;
+	}
+
 	protected static void setPresentTime(HLAinteger64Time newTime)
 	{
-		presentTime = newTime;
+		STATE.get().presentTime = newTime;
 	}
 }
@@ -0,0 +1,403 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Aggregates the {@link io.github.atreia108.vega.core.TrafficCounter
+ * TrafficCounter} of every object and interaction class in the project. It can
+ * produce snapshots of the counters on demand, compute message and byte rates
+ * over a rolling window of samples, and periodically export both to a CSV or
+ * JSON file so that the heaviest classes can be identified while the federation
+ * is running.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class HLATrafficMonitor
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final String CSV_HEADER = "timestamp,class,field,messages_sent,bytes_sent,messages_received,bytes_received,messages_sent_per_second,bytes_sent_per_second,messages_received_per_second,bytes_received_per_second";
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final Deque<Sample> window = new ArrayDeque<Sample>();
+		private int windowSize = 2;
+		private volatile Map<String, Rate> rates = Collections.emptyMap();
+
+		private ScheduledExecutorService sampler;
+	}
+
+	/**
+	 * The file formats that traffic statistics can be exported to.
+	 */
+	public enum ExportFormat
+	{
+		CSV, JSON;
+
+		public static ExportFormat get(String value)
+		{
+			for (ExportFormat format : ExportFormat.values())
+			{
+				if (format.name().equalsIgnoreCase(value))
+					return format;
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Message and byte rates of a class averaged over the rolling window.
+	 * 
+	 * @param className                 name of the HLA object or interaction
+	 *                                  class.
+	 * @param messagesSentPerSecond     updates/interactions sent per second.
+	 * @param bytesSentPerSecond        encoded bytes sent per second.
+	 * @param messagesReceivedPerSecond reflections/interactions received per
+	 *                                  second.
+	 * @param bytesReceivedPerSecond    encoded bytes received per second.
+	 */
+	public record Rate(String className, double messagesSentPerSecond, double bytesSentPerSecond, double messagesReceivedPerSecond, double bytesReceivedPerSecond)
+	{
+	}
+
+	private record Sample(long timeNanos, Map<String, TrafficCounter.Snapshot> snapshots)
+	{
+	}
+
+	/**
+	 * Starts sampling the traffic counters at a fixed interval. If an export file
+	 * is provided, each sample is also written to it: CSV files are appended to so
+	 * that they hold a time series, whereas JSON files are overwritten with the
+	 * latest sample.
+	 * 
+	 * @param intervalSeconds seconds between consecutive samples.
+	 * @param windowSamples   number of samples the rolling rates are averaged
+	 *                        over.
+	 * @param exportFile      path of the export file or NULL to disable
+	 *                        exporting.
+	 * @param format          format of the export file.
+	 */
+	public static synchronized void start(int intervalSeconds, int windowSamples, String exportFile, ExportFormat format)
+	{
+		State state = STATE.get();
+
+		if (state.sampler != null)
+		{
+			LOGGER.warn("The traffic monitor was not started since it is already running");
+			return;
+		}
+
+		state.windowSize = Math.max(2, windowSamples);
+
+		state.sampler = Executors.newSingleThreadScheduledExecutor((runnable) ->
+		{
+			Thread thread = new Thread(runnable, "vega-traffic-monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		state.sampler.scheduleAtFixedRate(() ->
+		{
+			try
+			{
+				sample();
+
+				if (exportFile != null)
+					export(exportFile, format, true);
+			}
+			catch (Exception e)
+			{
+				LOGGER.warn("Failed to sample HLA traffic statistics\n[REASON]", e);
+			}
+		}, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+
+		LOGGER.info("Sampling HLA traffic statistics every {}s", intervalSeconds);
+	}
+
+	/**
+	 * Stops periodic sampling. The counters themselves keep running.
+	 */
+	public static synchronized void stop()
+	{
+		State state = STATE.get();
+
+		if (state.sampler == null)
+			return;
+
+		state.sampler.shutdownNow();
+		state.sampler = null;
+	}
+
+	/**
+	 * Takes a snapshot of the counters of every object and interaction class known
+	 * to the project registry.
+	 */
+	public static List<TrafficCounter.Snapshot> snapshot()
+	{
+		List<TrafficCounter.Snapshot> result = new ArrayList<TrafficCounter.Snapshot>();
+
+		for (ObjectClassProfile objectClass : ProjectRegistry.getObjectClassProfiles())
+			result.add(objectClass.trafficCounter.snapshot());
+
+		for (InteractionClassProfile interactionClass : ProjectRegistry.getInteractionClassProfiles())
+			result.add(interactionClass.trafficCounter.snapshot());
+
+		result.sort(Comparator.comparing(TrafficCounter.Snapshot::className));
+		return result;
+	}
+
+	/**
+	 * Adds a new sample to the rolling window and recomputes the rates. Called
+	 * automatically when the monitor is started, but can also be invoked manually
+	 * (e.g. once per frame) if periodic sampling is not desired.
+	 */
+	public static synchronized void sample()
+	{
+		State state = STATE.get();
+
+		Map<String, TrafficCounter.Snapshot> snapshots = new LinkedHashMap<String, TrafficCounter.Snapshot>();
+		snapshot().forEach((snapshot) -> snapshots.put(snapshot.className(), snapshot));
+
+		state.window.addLast(new Sample(System.nanoTime(), snapshots));
+
+		while (state.window.size() > state.windowSize)
+			state.window.removeFirst();
+
+		state.rates = computeRates(state.window.peekFirst(), state.window.peekLast());
+	}
+
+	private static Map<String, Rate> computeRates(Sample oldest, Sample latest)
+	{
+		Map<String, Rate> result = new LinkedHashMap<String, Rate>();
+		double elapsedSeconds = (latest.timeNanos() - oldest.timeNanos()) / 1e9;
+
+		if (oldest == latest || elapsedSeconds <= 0)
+			return Collections.unmodifiableMap(result);
+
+		latest.snapshots().forEach((className, current) ->
+		{
+			TrafficCounter.Snapshot previous = oldest.snapshots().get(className);
+
+			long messagesSent = current.messagesSent() - (previous != null ? previous.messagesSent() : 0);
+			long bytesSent = current.bytesSent() - (previous != null ? previous.bytesSent() : 0);
+			long messagesReceived = current.messagesReceived() - (previous != null ? previous.messagesReceived() : 0);
+			long bytesReceived = current.bytesReceived() - (previous != null ? previous.bytesReceived() : 0);
+
+			result.put(className, new Rate(className, messagesSent / elapsedSeconds, bytesSent / elapsedSeconds, messagesReceived / elapsedSeconds, bytesReceived / elapsedSeconds));
+		});
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Returns the rolling rates of every class as of the latest sample, keyed by
+	 * class name. The map is empty until at least two samples have been taken.
+	 */
+	public static Map<String, Rate> getRates()
+	{
+		return STATE.get().rates;
+	}
+
+	/**
+	 * Returns the rolling rates of a single class or NULL if none are available.
+	 * 
+	 * @param className name of the HLA object or interaction class.
+	 */
+	public static Rate getRate(String className)
+	{
+		return STATE.get().rates.get(className);
+	}
+
+	/**
+	 * Writes the current counters and rates to a file.
+	 * 
+	 * @param filePath path of the export file.
+	 * @param format   format of the export file.
+	 * @param append   whether CSV rows should be appended to an existing file.
+	 *                 Ignored for JSON, which is always overwritten.
+	 */
+	public static void export(String filePath, ExportFormat format, boolean append)
+	{
+		State state = STATE.get();
+
+		Path path = Paths.get(filePath);
+		List<TrafficCounter.Snapshot> snapshots = snapshot();
+		Map<String, Rate> currentRates = state.rates;
+
+		try
+		{
+			if (format == ExportFormat.JSON)
+				Files.writeString(path, toJson(snapshots, currentRates), StandardCharsets.UTF_8);
+			else
+			{
+				boolean writeHeader = !append || !Files.exists(path) || Files.size(path) == 0;
+				String csv = toCsv(snapshots, currentRates, writeHeader);
+
+				if (append)
+					Files.writeString(path, csv, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+				else
+					Files.writeString(path, csv, StandardCharsets.UTF_8);
+			}
+		}
+		catch (IOException e)
+		{
+			LOGGER.warn("Failed to export HLA traffic statistics to \"{}\"\n[REASON]", filePath, e);
+		}
+	}
+
+	/**
+	 * Formats a set of snapshots and rates as CSV. Each class produces a row of
+	 * totals followed by one row per attribute/parameter carrying only its byte
+	 * counts.
+	 */
+	public static String toCsv(List<TrafficCounter.Snapshot> snapshots, Map<String, Rate> rates, boolean includeHeader)
+	{
+		StringBuilder builder = new StringBuilder();
+		String timestamp = Instant.now().toString();
+
+		if (includeHeader)
+			builder.append(CSV_HEADER).append('\n');
+
+		for (TrafficCounter.Snapshot snapshot : snapshots)
+		{
+			Rate rate = rates.get(snapshot.className());
+
+			builder.append(timestamp).append(',').append(snapshot.className()).append(",,");
+			builder.append(snapshot.messagesSent()).append(',').append(snapshot.bytesSent()).append(',');
+			builder.append(snapshot.messagesReceived()).append(',').append(snapshot.bytesReceived()).append(',');
+
+			if (rate != null)
+			{
+				builder.append(rate.messagesSentPerSecond()).append(',').append(rate.bytesSentPerSecond()).append(',');
+				builder.append(rate.messagesReceivedPerSecond()).append(',').append(rate.bytesReceivedPerSecond());
+			}
+			else
+				builder.append(",,,");
+
+			builder.append('\n');
+
+			for (String fieldName : snapshot.fieldBytesSent().keySet())
+			{
+				long fieldBytesSent = snapshot.fieldBytesSent().getOrDefault(fieldName, 0L);
+				long fieldBytesReceived = snapshot.fieldBytesReceived().getOrDefault(fieldName, 0L);
+
+				builder.append(timestamp).append(',').append(snapshot.className()).append(',').append(fieldName).append(",,");
+				builder.append(fieldBytesSent).append(",,").append(fieldBytesReceived).append(",,,,\n");
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Formats a set of snapshots and rates as a JSON document.
+	 */
+	public static String toJson(List<TrafficCounter.Snapshot> snapshots, Map<String, Rate> rates)
+	{
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\n  \"timestamp\": \"").append(Instant.now()).append("\",\n  \"classes\": [");
+
+		for (int i = 0; i < snapshots.size(); i++)
+		{
+			TrafficCounter.Snapshot snapshot = snapshots.get(i);
+			Rate rate = rates.get(snapshot.className());
+
+			builder.append(i == 0 ? "\n" : ",\n");
+			builder.append("    {\n      \"class\": \"").append(escape(snapshot.className())).append("\",\n");
+			builder.append("      \"messagesSent\": ").append(snapshot.messagesSent()).append(",\n");
+			builder.append("      \"bytesSent\": ").append(snapshot.bytesSent()).append(",\n");
+			builder.append("      \"messagesReceived\": ").append(snapshot.messagesReceived()).append(",\n");
+			builder.append("      \"bytesReceived\": ").append(snapshot.bytesReceived()).append(",\n");
+
+			if (rate != null)
+			{
+				builder.append("      \"rate\": { \"messagesSentPerSecond\": ").append(rate.messagesSentPerSecond());
+				builder.append(", \"bytesSentPerSecond\": ").append(rate.bytesSentPerSecond());
+				builder.append(", \"messagesReceivedPerSecond\": ").append(rate.messagesReceivedPerSecond());
+				builder.append(", \"bytesReceivedPerSecond\": ").append(rate.bytesReceivedPerSecond()).append(" },\n");
+			}
+
+			builder.append("      \"fieldBytesSent\": ").append(toJson(snapshot.fieldBytesSent())).append(",\n");
+			builder.append("      \"fieldBytesReceived\": ").append(toJson(snapshot.fieldBytesReceived())).append("\n    }");
+		}
+
+		builder.append("\n  ]\n}\n");
+		return builder.toString();
+	}
+
+	private static String toJson(Map<String, Long> fieldBytes)
+	{
+		StringBuilder builder = new StringBuilder("{");
+		int index = 0;
+
+		for (Map.Entry<String, Long> entry : fieldBytes.entrySet())
+		{
+			if (index++ > 0)
+				builder.append(", ");
+
+			builder.append('"').append(escape(entry.getKey())).append("\": ").append(entry.getValue());
+		}
+
+		return builder.append('}').toString();
+	}
+
+	private static String escape(String value)
+	{
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+}
@@ -0,0 +1,73 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Set;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * <p>
+ * Implemented by ECS systems to declare the component types they access, so
+ * that the {@link io.github.atreia108.vega.core.SystemScheduler
+ * SystemScheduler} can update them in parallel with systems they do not
+ * conflict with. Two systems conflict when one of them writes a component type
+ * that the other reads or writes.
+ * </p>
+ * 
+ * <p>
+ * The declaration is read when the scheduler builds its dependency graph and
+ * must not change afterwards. A system that implements this interface must
+ * confine itself to the components it declares. As the engine is not safe for
+ * concurrent structural changes, it adds or removes entities and components
+ * only through the {@link io.github.atreia108.vega.core.EntityCommandBuffer
+ * EntityCommandBuffer}, whose commands are applied once the stage of the
+ * scheduler it runs in has completed. Systems that do not implement it are
+ * assumed to access everything and are never run alongside another system.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public interface IComponentAccess
+{
+	/**
+	 * Returns the component types the system reads but does not modify.
+	 */
+	Set<Class<? extends Component>> getReadComponents();
+
+	/**
+	 * Returns the component types the system modifies. A type that is both read
+	 * and written only needs to be listed here.
+	 */
+	Set<Class<? extends Component>> getWrittenComponents();
+}
@@ -0,0 +1,202 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.function.Function;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+
+import io.github.atreia108.vega.components.spacefom.SpaceTimeCoordinateStateComponent;
+
+/**
+ * <p>
+ * This interface should be used to provide instructions to the framework for
+ * how the motion of an object instance is predicted between updates, e.g. from
+ * its position, velocity and acceleration. It is assigned to an object class
+ * through {@link io.github.atreia108.vega.core.HLADeadReckoning
+ * HLADeadReckoning}.
+ * </p>
+ * 
+ * <p>
+ * The same model is used by both sides of an update. The publisher measures how
+ * far the actual state of a local entity has drifted from the prediction of the
+ * last state it sent, and only sends a new update once the drift exceeds a
+ * threshold. The subscriber writes the prediction of the last state it received
+ * into the remote entity on every frame.
+ * </p>
+ * 
+ * <p>
+ * A reference is an arbitrary holder for the state the prediction starts from.
+ * References are recycled to avoid allocations, which is why
+ * {@link #capture(Entity, Object)} receives the one that is no longer in use.
+ * </p>
+ * 
+ * <p>
+ * {@link #spaceTimeCoordinateState()} provides a first-order model for entities
+ * holding a SpaceFOM
+ * {@link io.github.atreia108.vega.components.spacefom.SpaceTimeCoordinateStateComponent
+ * SpaceTimeCoordinateStateComponent}, and {@link #firstOrder(Function, Function)}
+ * the same model for any other component. Models of a higher order, or ones
+ * that also predict the attitude, have to be supplied by the user.
+ * </p>
+ * 
+ * @param <S> type of the reference state.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public interface IDeadReckoningModel<S>
+{
+	/**
+	 * Copies the state of the entity that predictions start from.
+	 * 
+	 * @param entity the entity holding the state that was sent or received.
+	 * @param reuse  a reference that is no longer used, or null if there is none.
+	 * @return the reference holding the copied state.
+	 */
+	public S capture(Entity entity, S reuse);
+
+	/**
+	 * Writes the predicted state into a remote entity.
+	 * 
+	 * @param entity      the remote entity to be written.
+	 * @param reference   the last state that was received.
+	 * @param elapsedTime the time since the reference state in seconds.
+	 */
+	public void extrapolate(Entity entity, S reference, double elapsedTime);
+
+	/**
+	 * Measures the difference between the actual state of a local entity and the
+	 * predicted state. One error is written for every threshold the object class
+	 * was registered with, in the same order, e.g. a position error in metres
+	 * followed by an attitude error in radians.
+	 * 
+	 * @param entity      the local entity holding the actual state.
+	 * @param reference   the last state that was sent.
+	 * @param elapsedTime the time since the reference state in seconds.
+	 * @param errors      array receiving the errors.
+	 */
+	public void measureError(Entity entity, S reference, double elapsedTime, double[] errors);
+
+	/**
+	 * A first-order model predicting the position of an entity from its position
+	 * and velocity at the reference, <code>p(t) = p0 + v0 t</code>. It measures a
+	 * single error, the distance in metres between the actual and the predicted
+	 * position, so the object class is to be registered with one threshold. The
+	 * velocity and all other fields of a remote entity keep their last received
+	 * values.
+	 * 
+	 * @param position function returning the position vector of an entity, which
+	 *                 is written in place when extrapolating, or null if it has
+	 *                 none.
+	 * @param velocity function returning the velocity vector of an entity, or
+	 *                 null if it has none.
+	 */
+	public static IDeadReckoningModel<double[]> firstOrder(Function<Entity, double[]> position, Function<Entity, double[]> velocity)
+	{
+		return new IDeadReckoningModel<double[]>()
+		{
+			@Override
+			public double[] capture(Entity entity, double[] reuse)
+			{
+				// Position followed by velocity.
+				double[] reference = reuse != null ? reuse : new double[6];
+				double[] p = position.apply(entity);
+				double[] v = velocity.apply(entity);
+
+				for (int i = 0; i < 3; ++i)
+				{
+					reference[i] = p != null ? p[i] : 0.0;
+					reference[3 + i] = v != null ? v[i] : 0.0;
+				}
+
+				return reference;
+			}
+
+			@Override
+			public void extrapolate(Entity entity, double[] reference, double elapsedTime)
+			{
+				double[] p = position.apply(entity);
+
+				if (p == null)
+					return;
+
+				for (int i = 0; i < 3; ++i)
+					p[i] = reference[i] + reference[3 + i] * elapsedTime;
+			}
+
+			@Override
+			public void measureError(Entity entity, double[] reference, double elapsedTime, double[] errors)
+			{
+				double[] p = position.apply(entity);
+				double distanceSquared = 0.0;
+
+				if (p != null)
+				{
+					for (int i = 0; i < 3; ++i)
+					{
+						double difference = p[i] - (reference[i] + reference[3 + i] * elapsedTime);
+						distanceSquared += difference * difference;
+					}
+				}
+
+				errors[0] = Math.sqrt(distanceSquared);
+			}
+		};
+	}
+
+	/**
+	 * The {@link #firstOrder(Function, Function) first-order} model applied to
+	 * the position and velocity of the
+	 * {@link io.github.atreia108.vega.components.spacefom.SpaceTimeCoordinateStateComponent
+	 * SpaceTimeCoordinateStateComponent} of an entity, e.g.
+	 * 
+	 * <pre>
+	 * HLADeadReckoning.register("HLAobjectRoot.PhysicalEntity", IDeadReckoningModel.spaceTimeCoordinateState(), 5.0, 0.1);
+	 * </pre>
+	 */
+	public static IDeadReckoningModel<double[]> spaceTimeCoordinateState()
+	{
+		ComponentMapper<SpaceTimeCoordinateStateComponent> mapper = ComponentMapper.getFor(SpaceTimeCoordinateStateComponent.class);
+
+		return firstOrder((entity) ->
+		{
+			SpaceTimeCoordinateStateComponent state = mapper.get(entity);
+			return state != null ? state.position : null;
+		}, (entity) ->
+		{
+			SpaceTimeCoordinateStateComponent state = mapper.get(entity);
+			return state != null ? state.velocity : null;
+		});
+	}
+}
@@ -0,0 +1,118 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * <p>
+ * Decides whether a remote object instance is relevant to the federate. It is
+ * assigned to an object class through
+ * {@link io.github.atreia108.vega.core.ObjectClassProfile#setInterestPredicate(IInterestPredicate, long)
+ * ObjectClassProfile.setInterestPredicate()} and acts as a client-side
+ * substitute for DDM: reflections of instances that are not of interest are
+ * discarded before they are decoded.
+ * </p>
+ * 
+ * <p>
+ * The predicate is evaluated by the simulation thread on the state of the
+ * remote entity right after one of its reflections has been decoded. The
+ * predicate of the <code>ExecutionConfiguration</code> class is the exception,
+ * as the ExCO is decoded on the thread that receives it.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IInterestPredicate
+{
+	public boolean isOfInterest(Entity entity, String instanceName);
+
+	public default IInterestPredicate and(IInterestPredicate other)
+	{
+		return (entity, instanceName) -> isOfInterest(entity, instanceName) && other.isOfInterest(entity, instanceName);
+	}
+
+	public default IInterestPredicate or(IInterestPredicate other)
+	{
+		return (entity, instanceName) -> isOfInterest(entity, instanceName) || other.isOfInterest(entity, instanceName);
+	}
+
+	/**
+	 * Selects instances within a distance of a reference entity, e.g. the
+	 * vehicle simulated by this federate.
+	 * 
+	 * @param reference the entity distances are measured from.
+	 * @param position  function returning the position vector of an entity, or
+	 *                  null if it has none.
+	 * @param range     the largest distance at which an instance is of interest.
+	 */
+	public static IInterestPredicate withinDistance(Entity reference, Function<Entity, double[]> position, double range)
+	{
+		final double rangeSquared = range * range;
+
+		return (entity, instanceName) ->
+		{
+			double[] origin = position.apply(reference);
+			double[] target = position.apply(entity);
+
+			if (origin == null || target == null)
+				return true;
+
+			double distanceSquared = 0.0;
+			for (int i = 0; i < Math.min(origin.length, target.length); ++i)
+				distanceSquared += (target[i] - origin[i]) * (target[i] - origin[i]);
+
+			return distanceSquared <= rangeSquared;
+		};
+	}
+
+	/**
+	 * Selects instances whose value of a field is one of the supplied values,
+	 * e.g. the name of the reference frame they are expressed in.
+	 * 
+	 * @param field  function returning the value of the field of an entity.
+	 * @param values the accepted values.
+	 */
+	public static IInterestPredicate matching(Function<Entity, String> field, Set<String> values)
+	{
+		return (entity, instanceName) ->
+		{
+			String value = field.apply(entity);
+			return value == null || values.contains(value);
+		};
+	}
+}
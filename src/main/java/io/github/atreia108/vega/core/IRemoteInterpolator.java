@@ -0,0 +1,81 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * <p>
+ * This interface should be used to provide instructions to the framework for
+ * how the state of a remote entity is blended between the two latest
+ * reflections it received. It is only applied when reflections are buffered
+ * (see {@link io.github.atreia108.vega.core.HLAReflectionBuffer
+ * HLAReflectionBuffer}) and is assigned to an object class through the
+ * <code>Interpolator</code> attribute of its element in the project file.
+ * </p>
+ * 
+ * <p>
+ * A sample is an arbitrary holder for the interpolated fields of an entity,
+ * e.g. a position vector and an attitude quaternion. Samples are recycled
+ * between frames to avoid allocations, which is why
+ * {@link #capture(Entity, Object)} receives the sample that is no longer in
+ * use.
+ * </p>
+ * 
+ * @param <S> type of the sample holding the interpolated state.
+ * 
+ * @see io.github.atreia108.vega.utils.Interpolation
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public interface IRemoteInterpolator<S>
+{
+	/**
+	 * Copies the interpolated fields of the entity into a sample.
+	 * 
+	 * @param entity the remote entity holding the latest reflected values.
+	 * @param reuse  a sample that is no longer used, or null if there is none.
+	 * @return the sample holding the copied fields.
+	 */
+	public S capture(Entity entity, S reuse);
+
+	/**
+	 * Writes the blend of two samples into the interpolated fields of the entity.
+	 * 
+	 * @param entity   the remote entity to be written.
+	 * @param previous the older sample.
+	 * @param latest   the newer sample.
+	 * @param alpha    weight of the newer sample in the range [0, 1].
+	 */
+	public void interpolate(Entity entity, S previous, S latest, double alpha);
+}
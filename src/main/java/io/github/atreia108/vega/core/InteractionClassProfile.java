@@ -42,6 +42,9 @@ import org.apache.logging.log4j.Logger;
 import hla.rti1516e.InteractionClassHandle;
 import hla.rti1516e.ParameterHandle;
 import hla.rti1516e.RTIambassador;
+import hla.rti1516e.RegionHandleSet;
+import hla.rti1516e.exceptions.InvalidRegion;
+import hla.rti1516e.exceptions.RTIexception;
 import io.github.atreia108.vega.utils.VegaUtilities;
 
 /**
@@ -84,6 +87,14 @@ public final class InteractionClassProfile
 	public boolean isPublished;
 	public boolean isSubscribed;
 
+	// Names of the DDM regions used for subscribing to the class and for sending
+	// its interactions. Both happen without regions (i.e. class-wide) if these are
+	// empty.
+	private Set<String> subscriptionRegionNames;
+	private Set<String> updateRegionNames;
+
+	public final TrafficCounter trafficCounter;
+
 	public InteractionClassProfile(String name, String archetypeName, HLASharingModel sharingModel, boolean declareAutomatically)
 	{
 		this.name = name;
@@ -97,13 +108,19 @@ public final class InteractionClassProfile
 
 		parameterMultiConverterNameMap = new HashMap<String, Map<String, Integer>>();
 
+		subscriptionRegionNames = new HashSet<String>();
+		updateRegionNames = new HashSet<String>();
+
 		isPublished = false;
 		isSubscribed = false;
+
+		trafficCounter = new TrafficCounter(name);
 	}
 
 	public void addParameter(String parameterName)
 	{
 		parameterNames.add(parameterName);
+		trafficCounter.addField(parameterName);
 	}
 
 	public void addConverter(String parameterName, String converterName)
@@ -208,6 +225,25 @@ public final class InteractionClassProfile
 		}
 	}
 
+	/**
+	 * Obtain the handles of the class and all of its parameters from the RTI.
+	 * Handles that were already obtained are not requested again, so this may be
+	 * called ahead of declaring the class to take the lookups off that path.
+	 */
+	public void resolveHandles() throws RTIexception
+	{
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		if (classHandle == null)
+			classHandle = rtiAmbassador.getInteractionClassHandle(name);
+
+		for (String parameterName : parameterNames)
+		{
+			if (!parameterHandleMap.containsKey(parameterName))
+				addParameterHandle(parameterName, rtiAmbassador.getParameterHandle(classHandle, parameterName));
+		}
+	}
+
 	public void publish()
 	{
 		if (isPublished)
@@ -220,17 +256,7 @@ public final class InteractionClassProfile
 
 		try
 		{
-			if (classHandle == null)
-				classHandle = rtiAmbassador.getInteractionClassHandle(name);
-
-			if (parameterHandleMap.isEmpty())
-			{
-				for (String parameterName : parameterNames)
-				{
-					ParameterHandle parameterHandle = rtiAmbassador.getParameterHandle(classHandle, parameterName);
-					addParameterHandle(parameterName, parameterHandle);
-				}
-			}
+			resolveHandles();
 
 			rtiAmbassador.publishInteractionClass(classHandle);
 		}
@@ -256,19 +282,12 @@ public final class InteractionClassProfile
 
 		try
 		{
-			if (classHandle == null)
-				classHandle = rtiAmbassador.getInteractionClassHandle(name);
-
-			if (parameterHandleMap.isEmpty())
-			{
-				for (String parameterName : parameterNames)
-				{
-					ParameterHandle parameterHandle = rtiAmbassador.getParameterHandle(classHandle, parameterName);
-					addParameterHandle(parameterName, parameterHandle);
-				}
-			}
-
-			rtiAmbassador.subscribeInteractionClass(classHandle);
+			resolveHandles();
+
+			if (subscriptionRegionNames.isEmpty())
+				rtiAmbassador.subscribeInteractionClass(classHandle);
+			else
+				rtiAmbassador.subscribeInteractionClassWithRegions(classHandle, regionHandles(subscriptionRegionNames));
 		}
 		catch (Exception e)
 		{
@@ -280,6 +299,96 @@ public final class InteractionClassProfile
 		LOGGER.info("The HLA interaction class <{}> was successfully subscribed to", name);
 	}
 
+	public void addSubscriptionRegion(String regionName)
+	{
+		subscriptionRegionNames.add(regionName);
+	}
+
+	public void addUpdateRegion(String regionName)
+	{
+		updateRegionNames.add(regionName);
+	}
+
+	public Set<String> getSubscriptionRegionNames()
+	{
+		return subscriptionRegionNames;
+	}
+
+	public Set<String> getUpdateRegionNames()
+	{
+		return updateRegionNames;
+	}
+
+	/**
+	 * Replaces the DDM regions interactions of this class are sent with.
+	 * 
+	 * @param regionNames names of the new update regions. An empty set sends
+	 *                    interactions class-wide.
+	 */
+	public void setUpdateRegions(Set<String> regionNames)
+	{
+		updateRegionNames = new HashSet<String>(regionNames);
+	}
+
+	/**
+	 * Replaces the DDM regions the class is subscribed with. If the class is
+	 * already subscribed to, the subscription is modified at the RTI: the new
+	 * regions are subscribed before the ones that are no longer used are
+	 * unsubscribed, so that no interactions are lost for the regions in common.
+	 * An empty set reverts to a class-wide subscription.
+	 * 
+	 * @param regionNames names of the new subscription regions.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public boolean setSubscriptionRegions(Set<String> regionNames)
+	{
+		if (!isSubscribed)
+		{
+			subscriptionRegionNames = new HashSet<String>(regionNames);
+			return true;
+		}
+
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		Set<String> removedRegionNames = new HashSet<String>(subscriptionRegionNames);
+		removedRegionNames.removeAll(regionNames);
+
+		try
+		{
+			// A class-wide subscription overlaps every region, so it has to be withdrawn
+			// first or the new regions would not filter anything.
+			if (subscriptionRegionNames.isEmpty())
+				rtiAmbassador.unsubscribeInteractionClass(classHandle);
+
+			if (regionNames.isEmpty())
+				rtiAmbassador.subscribeInteractionClass(classHandle);
+			else
+				rtiAmbassador.subscribeInteractionClassWithRegions(classHandle, regionHandles(regionNames));
+
+			if (!removedRegionNames.isEmpty())
+				rtiAmbassador.unsubscribeInteractionClassWithRegions(classHandle, regionHandles(removedRegionNames));
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to modify the subscription regions of the HLA interaction class <{}>\n[REASON]", name, e);
+			return false;
+		}
+
+		subscriptionRegionNames = new HashSet<String>(regionNames);
+		LOGGER.info("The subscription regions of the HLA interaction class <{}> were modified to {}", name, subscriptionRegionNames);
+		return true;
+	}
+
+	protected RegionHandleSet regionHandles(Set<String> regionNames) throws RTIexception
+	{
+		RegionHandleSet regionHandleSet = HLARegionManager.toRegionHandleSet(regionNames);
+
+		if (regionHandleSet == null)
+			throw new InvalidRegion("The regions " + regionNames + " do not all exist at the RTI");
+
+		return regionHandleSet;
+	}
+
 	public Map<String, ParameterHandle> getParameterHandleMap()
 	{
 		return parameterHandleMap;
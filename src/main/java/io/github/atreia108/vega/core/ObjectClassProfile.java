@@ -41,8 +41,12 @@ import org.apache.logging.log4j.Logger;
 
 import hla.rti1516e.AttributeHandle;
 import hla.rti1516e.AttributeHandleSet;
+import hla.rti1516e.AttributeSetRegionSetPairList;
 import hla.rti1516e.ObjectClassHandle;
 import hla.rti1516e.RTIambassador;
+import hla.rti1516e.RegionHandleSet;
+import hla.rti1516e.exceptions.InvalidRegion;
+import hla.rti1516e.exceptions.RTIexception;
 import io.github.atreia108.vega.utils.VegaUtilities;
 
 /**
@@ -69,6 +73,7 @@ public final class ObjectClassProfile
 
 	public String name;
 	public String archetypeName;
+	public String interpolatorName;
 	public ObjectClassHandle classHandle;
 	public Set<String> attributeNames;
 
@@ -82,6 +87,18 @@ public final class ObjectClassProfile
 	private AttributeHandleSet publicationHandleSet;
 	private AttributeHandleSet subscriptionHandleSet;
 
+	// Names of the DDM regions used for subscribing to the class and for
+	// registering its instances. The class is subscribed to and its instances
+	// registered without regions (i.e. class-wide) if these are empty.
+	private Set<String> subscriptionRegionNames;
+	private Set<String> updateRegionNames;
+
+	// Subscribed attributes whose subscription was withdrawn at runtime.
+	private Set<String> suspendedAttributeNames;
+
+	private IInterestPredicate interestPredicate;
+	private long interestRefreshInterval;
+
 	// A flag used to determine whether an HLA object/interaction type should be
 	// automatically declared to the RTI or not.
 	// If set to false, it means we intend to manually handle the declaration
@@ -91,6 +108,8 @@ public final class ObjectClassProfile
 	public boolean isPublished;
 	public boolean isSubscribed;
 
+	public final TrafficCounter trafficCounter;
+
 	public ObjectClassProfile(String name, String archetypeName, boolean declareAutomatically)
 	{
 		this.name = name;
@@ -107,14 +126,22 @@ public final class ObjectClassProfile
 
 		attributeMultiConverterMap = new HashMap<String, Map<String, Integer>>();
 
+		subscriptionRegionNames = new HashSet<String>();
+		updateRegionNames = new HashSet<String>();
+
+		suspendedAttributeNames = new HashSet<String>();
+
 		isPublished = false;
 		isSubscribed = false;
+
+		trafficCounter = new TrafficCounter(name);
 	}
 
 	public void addAttribute(String attributeName, HLASharingModel sharingModel)
 	{
 		attributeNames.add(attributeName);
 		attributeSharingMap.put(attributeName, sharingModel);
+		trafficCounter.addField(attributeName);
 	}
 
 	public void addConverter(String attributeName, String converterName)
@@ -287,6 +314,25 @@ public final class ObjectClassProfile
 		return null;
 	}
 
+	/**
+	 * Obtain the handles of the class and all of its attributes from the RTI.
+	 * Handles that were already obtained are not requested again, so this may be
+	 * called ahead of declaring the class to take the lookups off that path.
+	 */
+	public void resolveHandles() throws RTIexception
+	{
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		if (classHandle == null)
+			classHandle = rtiAmbassador.getObjectClassHandle(name);
+
+		for (String attributeName : attributeNames)
+		{
+			if (!attributeHandleMap.containsKey(attributeName))
+				addAttributeHandle(attributeName, rtiAmbassador.getAttributeHandle(classHandle, attributeName));
+		}
+	}
+
 	public void declare()
 	{
 		publish();
@@ -305,23 +351,12 @@ public final class ObjectClassProfile
 
 		try
 		{
-			if (classHandle == null)
-				classHandle = rtiAmbassador.getObjectClassHandle(name);
+			resolveHandles();
 
 			AttributeHandleSet publicationHandleSet = rtiAmbassador.getAttributeHandleSetFactory().create();
 
 			for (String attributeName : getPublisheableAttributeNames())
-			{
-				AttributeHandle attributeHandle = attributeHandleMap.get(attributeName);
-
-				if (attributeHandle == null)
-				{
-					attributeHandle = rtiAmbassador.getAttributeHandle(classHandle, attributeName);
-					addAttributeHandle(attributeName, attributeHandle);
-				}
-
-				publicationHandleSet.add(attributeHandle);
-			}
+				publicationHandleSet.add(attributeHandleMap.get(attributeName));
 
 			rtiAmbassador.publishObjectClassAttributes(classHandle, publicationHandleSet);
 
@@ -349,25 +384,17 @@ public final class ObjectClassProfile
 
 		try
 		{
-			if (classHandle == null)
-				classHandle = rtiAmbassador.getObjectClassHandle(name);
+			resolveHandles();
 
 			AttributeHandleSet subscriptionHandleSet = rtiAmbassador.getAttributeHandleSetFactory().create();
 
 			for (String attributeName : getSubscribeableAttributeNames())
-			{
-				AttributeHandle attributeHandle = attributeHandleMap.get(attributeName);
+				subscriptionHandleSet.add(attributeHandleMap.get(attributeName));
 
-				if (attributeHandle == null)
-				{
-					attributeHandle = rtiAmbassador.getAttributeHandle(classHandle, attributeName);
-					addAttributeHandle(attributeName, attributeHandle);
-				}
-
-				subscriptionHandleSet.add(attributeHandle);
-			}
-
-			rtiAmbassador.subscribeObjectClassAttributes(classHandle, subscriptionHandleSet);
+			if (subscriptionRegionNames.isEmpty())
+				rtiAmbassador.subscribeObjectClassAttributes(classHandle, subscriptionHandleSet);
+			else
+				rtiAmbassador.subscribeObjectClassAttributesWithRegions(classHandle, regionPairs(subscriptionHandleSet, subscriptionRegionNames));
 
 			this.subscriptionHandleSet = subscriptionHandleSet;
 		}
@@ -381,6 +408,231 @@ public final class ObjectClassProfile
 		LOGGER.info("The HLA object class <{}> was successfully subscribed to", name);
 	}
 
+	public void addSubscriptionRegion(String regionName)
+	{
+		subscriptionRegionNames.add(regionName);
+	}
+
+	public void addUpdateRegion(String regionName)
+	{
+		updateRegionNames.add(regionName);
+	}
+
+	public Set<String> getSubscriptionRegionNames()
+	{
+		return subscriptionRegionNames;
+	}
+
+	public Set<String> getUpdateRegionNames()
+	{
+		return updateRegionNames;
+	}
+
+	/**
+	 * Replaces the DDM regions that instances of this class are registered with.
+	 * Instances that are already registered keep their regions, which can be
+	 * changed through
+	 * {@link io.github.atreia108.vega.core.HLAObjectManager#associateUpdateRegions(com.badlogic.ashley.core.Entity, String...)
+	 * HLAObjectManager.associateUpdateRegions()}.
+	 * 
+	 * @param regionNames names of the new update regions. An empty set registers
+	 *                    instances class-wide.
+	 */
+	public void setUpdateRegions(Set<String> regionNames)
+	{
+		updateRegionNames = new HashSet<String>(regionNames);
+	}
+
+	/**
+	 * Replaces the DDM regions the class is subscribed with. If the class is
+	 * already subscribed to, the subscription is modified at the RTI: the new
+	 * regions are subscribed before the ones that are no longer used are
+	 * unsubscribed, so that no updates are lost for the regions in common. An
+	 * empty set reverts to a class-wide subscription.
+	 * 
+	 * @param regionNames names of the new subscription regions.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public boolean setSubscriptionRegions(Set<String> regionNames)
+	{
+		if (!isSubscribed)
+		{
+			subscriptionRegionNames = new HashSet<String>(regionNames);
+			return true;
+		}
+
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+
+		Set<String> removedRegionNames = new HashSet<String>(subscriptionRegionNames);
+		removedRegionNames.removeAll(regionNames);
+
+		try
+		{
+			AttributeHandleSet subscriptionHandleSet = activeSubscriptionHandles();
+
+			// A class-wide subscription overlaps every region, so it has to be withdrawn
+			// first or the new regions would not filter anything.
+			if (subscriptionRegionNames.isEmpty())
+				rtiAmbassador.unsubscribeObjectClassAttributes(classHandle, subscriptionHandleSet);
+
+			if (regionNames.isEmpty())
+				rtiAmbassador.subscribeObjectClassAttributes(classHandle, subscriptionHandleSet);
+			else
+				rtiAmbassador.subscribeObjectClassAttributesWithRegions(classHandle, regionPairs(subscriptionHandleSet, regionNames));
+
+			if (!removedRegionNames.isEmpty())
+				rtiAmbassador.unsubscribeObjectClassAttributesWithRegions(classHandle, regionPairs(subscriptionHandleSet, removedRegionNames));
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to modify the subscription regions of the HLA object class <{}>\n[REASON]", name, e);
+			return false;
+		}
+
+		subscriptionRegionNames = new HashSet<String>(regionNames);
+		LOGGER.info("The subscription regions of the HLA object class <{}> were modified to {}", name, subscriptionRegionNames);
+		return true;
+	}
+
+	protected AttributeSetRegionSetPairList regionPairs(AttributeHandleSet attributeHandleSet, Set<String> regionNames) throws RTIexception
+	{
+		RegionHandleSet regionHandleSet = HLARegionManager.toRegionHandleSet(regionNames);
+
+		if (regionHandleSet == null)
+			throw new InvalidRegion("The regions " + regionNames + " do not all exist at the RTI");
+
+		return HLARegionManager.toRegionPairList(attributeHandleSet, regionHandleSet);
+	}
+
+	/**
+	 * Assigns a predicate that decides which remote instances of this class are
+	 * of interest. Reflections of other instances are discarded before they are
+	 * decoded.
+	 * 
+	 * @param predicate       the predicate, or null to accept every instance.
+	 * @param refreshInterval time in milliseconds after which the interest of an
+	 *                        instance is evaluated again.
+	 * @see io.github.atreia108.vega.core.HLAInterestManager
+	 */
+	public void setInterestPredicate(IInterestPredicate predicate, long refreshInterval)
+	{
+		interestPredicate = predicate;
+		interestRefreshInterval = Math.max(0L, refreshInterval);
+		HLAInterestManager.invalidate();
+	}
+
+	public IInterestPredicate getInterestPredicate()
+	{
+		return interestPredicate;
+	}
+
+	public long getInterestRefreshInterval()
+	{
+		return interestRefreshInterval;
+	}
+
+	/**
+	 * Withdraws the subscription to some of the subscribed attributes of the
+	 * class, e.g. while no instance needs them. The RTI stops delivering their
+	 * values until they are resubscribed to.
+	 * 
+	 * @param attributeNames names of the attributes.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public boolean unsubscribeAttributes(String... attributeNames)
+	{
+		return modifyAttributeSubscription(false, attributeNames);
+	}
+
+	/**
+	 * Subscribes again to attributes that were withdrawn with
+	 * {@link #unsubscribeAttributes(String...)}.
+	 * 
+	 * @param attributeNames names of the attributes.
+	 * @return outcome of the operation as a true or false value.
+	 */
+	public boolean resubscribeAttributes(String... attributeNames)
+	{
+		return modifyAttributeSubscription(true, attributeNames);
+	}
+
+	public boolean isAttributeSuspended(String attributeName)
+	{
+		return suspendedAttributeNames.contains(attributeName);
+	}
+
+	private boolean modifyAttributeSubscription(boolean subscribe, String... attributeNames)
+	{
+		if (!isSubscribed)
+		{
+			LOGGER.warn("The attribute subscription of the HLA object class <{}> was not modified since the class is not subscribed to", name);
+			return false;
+		}
+
+		RTIambassador rtiAmbassador = VegaUtilities.rtiAmbassador();
+		Set<String> modifiedAttributeNames = new HashSet<String>();
+
+		try
+		{
+			AttributeHandleSet attributeHandleSet = rtiAmbassador.getAttributeHandleSetFactory().create();
+
+			for (String attributeName : attributeNames)
+			{
+				HLASharingModel sharingModel = getSharingModel(attributeName);
+
+				if (sharingModel != HLASharingModel.SUBSCRIBE_ONLY && sharingModel != HLASharingModel.PUBLISH_SUBSCRIBE)
+				{
+					LOGGER.warn("The attribute \"{}\" of the HLA object class <{}> was skipped since it is not subscribed to", attributeName, name);
+					continue;
+				}
+
+				if (suspendedAttributeNames.contains(attributeName) != subscribe)
+					continue;
+
+				attributeHandleSet.add(attributeHandleMap.get(attributeName));
+				modifiedAttributeNames.add(attributeName);
+			}
+
+			if (attributeHandleSet.isEmpty())
+				return true;
+
+			if (subscribe && subscriptionRegionNames.isEmpty())
+				rtiAmbassador.subscribeObjectClassAttributes(classHandle, attributeHandleSet);
+			else if (subscribe)
+				rtiAmbassador.subscribeObjectClassAttributesWithRegions(classHandle, regionPairs(attributeHandleSet, subscriptionRegionNames));
+			else if (subscriptionRegionNames.isEmpty())
+				rtiAmbassador.unsubscribeObjectClassAttributes(classHandle, attributeHandleSet);
+			else
+				rtiAmbassador.unsubscribeObjectClassAttributesWithRegions(classHandle, regionPairs(attributeHandleSet, subscriptionRegionNames));
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Failed to modify the attribute subscription of the HLA object class <{}>\n[REASON]", name, e);
+			return false;
+		}
+
+		if (subscribe)
+			suspendedAttributeNames.removeAll(modifiedAttributeNames);
+		else
+			suspendedAttributeNames.addAll(modifiedAttributeNames);
+
+		LOGGER.info("The HLA object class <{}> was {} the attributes {}", name, subscribe ? "resubscribed to" : "unsubscribed from", modifiedAttributeNames);
+		return true;
+	}
+
+	private AttributeHandleSet activeSubscriptionHandles() throws RTIexception
+	{
+		AttributeHandleSet attributeHandleSet = VegaUtilities.rtiAmbassador().getAttributeHandleSetFactory().create();
+
+		for (AttributeHandle attributeHandle : subscriptionHandleSet)
+		{
+			if (!suspendedAttributeNames.contains(getAttributeNameForHandle(attributeHandle)))
+				attributeHandleSet.add(attributeHandle);
+		}
+
+		return attributeHandleSet;
+	}
+
 	public int getNumberOfPublisheableAttributes()
 	{
 		return publicationHandleSet.size();
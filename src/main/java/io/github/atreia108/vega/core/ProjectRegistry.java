@@ -31,11 +31,19 @@
 
 package io.github.atreia108.vega.core;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Component;
 
 import io.github.atreia108.vega.utils.ProjectSettings;
 
@@ -48,14 +56,36 @@ import io.github.atreia108.vega.utils.ProjectSettings;
  */
 public final record ProjectRegistry()
 {
-	// private static final Logger LOGGER = LogManager.getLogger();
-
-	public static Set<String> requiredObjects;
-	public static Set<ObjectClassProfile> objectClassProfiles = new HashSet<ObjectClassProfile>();
-	public static Set<InteractionClassProfile> interactionClassProfiles = new HashSet<InteractionClassProfile>();
-	public static Map<String, IEntityArchetype> archetypes = new HashMap<String, IEntityArchetype>();
-	public static Map<String, IDataConverter> dataConverters = new HashMap<String, IDataConverter>();
-	public static Map<String, IMultiDataConverter> multiDataConverters = new HashMap<String, IMultiDataConverter>();
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private Set<String> requiredObjects;
+		private final Set<ObjectClassProfile> objectClassProfiles = new HashSet<ObjectClassProfile>();
+		private final Set<InteractionClassProfile> interactionClassProfiles = new HashSet<InteractionClassProfile>();
+		private final Set<RegionProfile> regionProfiles = new HashSet<RegionProfile>();
+		private final Map<String, IRemoteInterpolator<?>> interpolators = new HashMap<String, IRemoteInterpolator<?>>();
+
+		// Bindings are replaced as a whole when staged bindings are committed, and
+		// never modified once the simulation is running, so lookups need no locking.
+		private volatile Map<String, IEntityArchetype> archetypes = new HashMap<String, IEntityArchetype>();
+		private volatile Map<String, IDataConverter> dataConverters = new HashMap<String, IDataConverter>();
+		private volatile Map<String, IMultiDataConverter> multiDataConverters = new HashMap<String, IMultiDataConverter>();
+
+		// Name indices over the profile sets, used for lookups during loading and on
+		// every reflection and interaction received.
+		private final Map<String, ObjectClassProfile> objectClassIndex = new ConcurrentHashMap<String, ObjectClassProfile>();
+		private final Map<String, InteractionClassProfile> interactionClassIndex = new ConcurrentHashMap<String, InteractionClassProfile>();
+		private final Map<String, RegionProfile> regionIndex = new ConcurrentHashMap<String, RegionProfile>();
+
+		// Replacement bindings waiting for the next frame boundary.
+		private final Map<String, IEntityArchetype> stagedArchetypes = new ConcurrentHashMap<String, IEntityArchetype>();
+		private final Map<String, IDataConverter> stagedDataConverters = new ConcurrentHashMap<String, IDataConverter>();
+		private final Map<String, IMultiDataConverter> stagedMultiConverters = new ConcurrentHashMap<String, IMultiDataConverter>();
+		private final Object stagingLock = new Object();
+	}
 	
 	/*
 	private static Map<String, ObjectInstanceHandle> remoteEntities = new HashMap<String, ObjectInstanceHandle>();
@@ -67,67 +97,410 @@ public final record ProjectRegistry()
 	private static final ComponentMapper<HLAObjectComponent> OBJECT_COMPONENT_MAPPER = ComponentMapper.getFor(HLAObjectComponent.class);
 	*/
 	
+	// Views over the registry of the federate bound to the calling thread, kept
+	// for code written before federates had registries of their own.
+	public static final Set<String> requiredObjects = ContextViews.set(() -> requiredObjectsOrEmpty(), ProjectRegistry::addRequiredObject, (name) -> getRequiredObjects() != null && getRequiredObjects().remove(name));
+	public static final Set<ObjectClassProfile> objectClassProfiles = ContextViews.set(ProjectRegistry::getObjectClassProfiles, (profile) -> add(getObjectClassProfiles(), profile, ProjectRegistry::addObjectClass), (profile) -> removeObjectClass(profile));
+	public static final Set<InteractionClassProfile> interactionClassProfiles = ContextViews.set(ProjectRegistry::getInteractionClassProfiles, (profile) -> add(getInteractionClassProfiles(), profile, ProjectRegistry::addInteractionClass), (profile) -> removeInteractionClass(profile));
+	public static final Set<RegionProfile> regionProfiles = ContextViews.set(ProjectRegistry::getRegionProfiles, (region) -> add(getRegionProfiles(), region, ProjectRegistry::addRegion), (region) -> region instanceof RegionProfile profile && removeRegionProfile(profile));
+	public static final Map<String, IEntityArchetype> archetypes = ContextViews.map(ProjectRegistry::getArchetypes);
+	public static final Map<String, IDataConverter> dataConverters = ContextViews.map(ProjectRegistry::getDataConverters);
+	public static final Map<String, IMultiDataConverter> multiDataConverters = ContextViews.map(ProjectRegistry::getMultiConverters);
+	public static final Map<String, IRemoteInterpolator<?>> interpolators = ContextViews.map(ProjectRegistry::getInterpolators);
+
 	private static final String SEPARATOR_STYLE_1 = "========================================";
 	private static final String SEPARATOR_STYLE_2 = "****************************************";
 
 	public static void addArchetype(String archetypeName, IEntityArchetype archetype)
 	{
-		archetypes.put(archetypeName, archetype);
+		STATE.get().archetypes.put(archetypeName, archetype);
 	}
 
 	public static void addObjectClass(ObjectClassProfile objectClass)
 	{
-		objectClassProfiles.add(objectClass);
+		State state = STATE.get();
+
+		state.objectClassProfiles.add(objectClass);
+		state.objectClassIndex.put(objectClass.name, objectClass);
 	}
 
 	public static void addInteractionClass(InteractionClassProfile interactionClass)
 	{
-		interactionClassProfiles.add(interactionClass);
+		State state = STATE.get();
+
+		state.interactionClassProfiles.add(interactionClass);
+		state.interactionClassIndex.put(interactionClass.name, interactionClass);
 	}
 
 	public static void addDataConverter(String converterName, IDataConverter converter)
 	{
-		dataConverters.put(converterName, converter);
+		STATE.get().dataConverters.put(converterName, converter);
 	}
 
 	public static void addMultiConverter(String converterName, IMultiDataConverter multiConverter)
 	{
-		multiDataConverters.put(converterName, multiConverter);
+		STATE.get().multiDataConverters.put(converterName, multiConverter);
 	}
 
-	public static ObjectClassProfile getObjectClass(String name)
+	public static void addRegion(RegionProfile region)
 	{
-		Optional<ObjectClassProfile> query = objectClassProfiles.stream().filter(o -> o.name.equals(name)).findAny();
+		State state = STATE.get();
 
-		if (query.isEmpty())
-			return null;
-		else
-			return query.get();
+		state.regionProfiles.add(region);
+		state.regionIndex.put(region.name, region);
+	}
+
+	public static void removeRegion(RegionProfile region)
+	{
+		State state = STATE.get();
+
+		state.regionProfiles.remove(region);
+		state.regionIndex.remove(region.name, region);
+	}
+
+	public static void addInterpolator(String interpolatorName, IRemoteInterpolator<?> interpolator)
+	{
+		STATE.get().interpolators.put(interpolatorName, interpolator);
+	}
+
+	public static ObjectClassProfile getObjectClass(String name)
+	{
+		return name != null ? STATE.get().objectClassIndex.get(name) : null;
 	}
 
 	public static InteractionClassProfile getInteractionClass(String name)
 	{
-		Optional<InteractionClassProfile> query = interactionClassProfiles.stream().filter(i -> i.name.equals(name)).findAny();
+		return name != null ? STATE.get().interactionClassIndex.get(name) : null;
+	}
 
-		if (query.isEmpty())
-			return null;
-		else
-			return query.get();
+	public static RegionProfile getRegion(String name)
+	{
+		return name != null ? STATE.get().regionIndex.get(name) : null;
+	}
+
+	private static <E> boolean add(Set<E> profiles, E profile, Consumer<E> adder)
+	{
+		if (profiles.contains(profile))
+			return false;
+
+		adder.accept(profile);
+		return true;
+	}
+
+	private static boolean removeObjectClass(Object profile)
+	{
+		State state = STATE.get();
+
+		if (!(profile instanceof ObjectClassProfile objectClass) || !state.objectClassProfiles.remove(objectClass))
+			return false;
+
+		state.objectClassIndex.remove(objectClass.name, objectClass);
+		return true;
+	}
+
+	private static boolean removeInteractionClass(Object profile)
+	{
+		State state = STATE.get();
+
+		if (!(profile instanceof InteractionClassProfile interactionClass) || !state.interactionClassProfiles.remove(interactionClass))
+			return false;
+
+		state.interactionClassIndex.remove(interactionClass.name, interactionClass);
+		return true;
+	}
+
+	private static boolean removeRegionProfile(RegionProfile region)
+	{
+		if (!getRegionProfiles().contains(region))
+			return false;
+
+		removeRegion(region);
+		return true;
+	}
+
+	private static Set<String> requiredObjectsOrEmpty()
+	{
+		Set<String> requiredObjects = getRequiredObjects();
+		return requiredObjects != null ? requiredObjects : Collections.emptySet();
+	}
+
+	private static boolean addRequiredObject(String name)
+	{
+		State state = STATE.get();
+
+		if (state.requiredObjects == null)
+			state.requiredObjects = new LinkedHashSet<String>();
+
+		return state.requiredObjects.add(name);
+	}
+
+	public static Set<String> getRequiredObjects()
+	{
+		return STATE.get().requiredObjects;
+	}
+
+	public static void setRequiredObjects(Set<String> requiredObjects)
+	{
+		STATE.get().requiredObjects = requiredObjects;
+	}
+
+	public static Set<ObjectClassProfile> getObjectClassProfiles()
+	{
+		return STATE.get().objectClassProfiles;
+	}
+
+	public static Set<InteractionClassProfile> getInteractionClassProfiles()
+	{
+		return STATE.get().interactionClassProfiles;
+	}
+
+	public static Set<RegionProfile> getRegionProfiles()
+	{
+		return STATE.get().regionProfiles;
+	}
+
+	public static Map<String, IEntityArchetype> getArchetypes()
+	{
+		return STATE.get().archetypes;
+	}
+
+	public static Map<String, IDataConverter> getDataConverters()
+	{
+		return STATE.get().dataConverters;
+	}
+
+	public static Map<String, IMultiDataConverter> getMultiConverters()
+	{
+		return STATE.get().multiDataConverters;
+	}
+
+	public static Map<String, IRemoteInterpolator<?>> getInterpolators()
+	{
+		return STATE.get().interpolators;
 	}
 
 	public static IEntityArchetype getArchetype(String archetypeName)
 	{
-		return archetypes.get(archetypeName);
+		return STATE.get().archetypes.get(archetypeName);
 	}
 
 	public static IDataConverter getDataConverter(String converterName)
 	{
-		return dataConverters.get(converterName);
+		return STATE.get().dataConverters.get(converterName);
 	}
 
 	public static IMultiDataConverter getMultiConverter(String converterName)
 	{
-		return multiDataConverters.get(converterName);
+		return STATE.get().multiDataConverters.get(converterName);
+	}
+
+	public static IRemoteInterpolator<?> getInterpolator(String interpolatorName)
+	{
+		return STATE.get().interpolators.get(interpolatorName);
+	}
+
+	/**
+	 * Stage a replacement for the archetype bound to a name. The archetype in use
+	 * is only replaced at the start of the next frame.
+	 * 
+	 * @param archetypeName the name the archetype is bound to in the project file.
+	 * @param archetype     the replacement archetype.
+	 * @return true if the replacement was staged, or false if no archetype is
+	 *         bound to the name.
+	 */
+	public static boolean stageArchetype(String archetypeName, IEntityArchetype archetype)
+	{
+		State state = STATE.get();
+
+		return stage("archetype", state.archetypes, state.stagedArchetypes, archetypeName, archetype);
+	}
+
+	/**
+	 * Stage a replacement for the data converter bound to a name. The converter in
+	 * use is only replaced at the start of the next frame.
+	 * 
+	 * @param converterName the name the converter is bound to in the project file.
+	 * @param converter     the replacement converter.
+	 * @return true if the replacement was staged, or false if no data converter
+	 *         is bound to the name.
+	 */
+	public static boolean stageDataConverter(String converterName, IDataConverter converter)
+	{
+		State state = STATE.get();
+
+		return stage("data converter", state.dataConverters, state.stagedDataConverters, converterName, converter);
+	}
+
+	/**
+	 * Stage a replacement for the multi data converter bound to a name. The
+	 * converter in use is only replaced at the start of the next frame.
+	 * 
+	 * @param converterName  the name the converter is bound to in the project
+	 *                       file.
+	 * @param multiConverter the replacement converter.
+	 * @return true if the replacement was staged, or false if no multi data
+	 *         converter is bound to the name.
+	 */
+	public static boolean stageMultiConverter(String converterName, IMultiDataConverter multiConverter)
+	{
+		State state = STATE.get();
+
+		return stage("multi data converter", state.multiDataConverters, state.stagedMultiConverters, converterName, multiConverter);
+	}
+
+	private static <T> boolean stage(String kind, Map<String, T> bindings, Map<String, T> staged, String name, T replacement)
+	{
+		State state = STATE.get();
+
+		if (name == null || replacement == null)
+		{
+			LOGGER.warn("Staging of a replacement {} aborted: The name or the replacement is NULL", kind);
+			return false;
+		}
+
+		if (!bindings.containsKey(name))
+		{
+			LOGGER.warn("Staging of a replacement {} aborted: Nothing is bound to the name \"{}\"", kind, name);
+			return false;
+		}
+
+		synchronized (state.stagingLock)
+		{
+			staged.put(name, replacement);
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Stage new instances of every bound archetype and converter, created from the
+	 * classes visible to a class loader. This is intended for a class loader over
+	 * a rebuilt set of archetypes and converters, so that they can be replaced
+	 * without restarting the federate. Either every reloaded binding is staged
+	 * or, if any of the classes cannot be instantiated, none are.
+	 * </p>
+	 * 
+	 * <p>
+	 * The class loader has to define the archetype and converter classes itself
+	 * and delegate everything else to the class loader of the federate, in
+	 * particular the component classes, the framework, Ashley and the HLA API. A
+	 * conventional parent-first loader returns the classes already in use, so the
+	 * reload would have no effect. A loader that also defines its own copies of
+	 * the component classes makes replacement archetypes create components the
+	 * engine treats as types of their own, which systems and converters never
+	 * see.
+	 * </p>
+	 * 
+	 * <p>
+	 * Bindings whose class resolves to the one already in use, such as the
+	 * converters shipped with the framework, are left as they are. A loader that
+	 * resolves every bound class that way, or that does not share Ashley's
+	 * <code>Component</code> with the federate, is rejected as its reload could
+	 * not take effect.
+	 * </p>
+	 * 
+	 * @param classLoader the class loader to load the replacement classes from.
+	 * @return true if the replacements were staged.
+	 */
+	public static boolean stageBindings(ClassLoader classLoader)
+	{
+		State state = STATE.get();
+
+		Map<String, IEntityArchetype> newArchetypes = new HashMap<String, IEntityArchetype>();
+		Map<String, IDataConverter> newDataConverters = new HashMap<String, IDataConverter>();
+		Map<String, IMultiDataConverter> newMultiConverters = new HashMap<String, IMultiDataConverter>();
+
+		try
+		{
+			if (Class.forName(Component.class.getName(), false, classLoader) != Component.class)
+				throw new IllegalArgumentException("The class loader " + classLoader + " defines its own copy of Ashley, so the engine would not recognize the components created through it");
+
+			for (Map.Entry<String, IEntityArchetype> archetype : state.archetypes.entrySet())
+				stageInstance(newArchetypes, classLoader, archetype.getKey(), IEntityArchetype.class, archetype.getValue());
+
+			for (Map.Entry<String, IDataConverter> converter : state.dataConverters.entrySet())
+				stageInstance(newDataConverters, classLoader, converter.getKey(), IDataConverter.class, converter.getValue());
+
+			for (Map.Entry<String, IMultiDataConverter> converter : state.multiDataConverters.entrySet())
+				stageInstance(newMultiConverters, classLoader, converter.getKey(), IMultiDataConverter.class, converter.getValue());
+
+			if (newArchetypes.isEmpty() && newDataConverters.isEmpty() && newMultiConverters.isEmpty())
+				throw new IllegalArgumentException("The class loader " + classLoader + " resolves every archetype and converter to the class already in use. It has to define them itself rather than delegate them to its parent");
+		}
+		catch (Exception e)
+		{
+			LOGGER.error("Staging of replacement bindings aborted: ", e);
+			return false;
+		}
+
+		synchronized (state.stagingLock)
+		{
+			state.stagedArchetypes.putAll(newArchetypes);
+			state.stagedDataConverters.putAll(newDataConverters);
+			state.stagedMultiConverters.putAll(newMultiConverters);
+		}
+
+		LOGGER.info("Staged {} archetype(s), {} data converter(s) and {} multi data converter(s) for replacement", newArchetypes.size(), newDataConverters.size(), newMultiConverters.size());
+		return true;
+	}
+
+	// Adds a new instance of a bound class unless the class loader resolves it to
+	// the class already in use.
+	private static <T> void stageInstance(Map<String, T> staged, ClassLoader classLoader, String className, Class<T> type, T current) throws ReflectiveOperationException
+	{
+		Class<?> loadedClass = Class.forName(className, true, classLoader);
+
+		if (current != null && loadedClass == current.getClass())
+			return;
+
+		if (!type.isAssignableFrom(loadedClass))
+			throw new ClassCastException("The class <" + className + "> loaded from " + classLoader + " is not of the type <" + type.getSimpleName() + ">");
+
+		staged.put(className, type.cast(loadedClass.getDeclaredConstructor().newInstance()));
+	}
+
+	/**
+	 * Replace the bindings in use with the staged ones. Called by the simulation
+	 * loop between frames, so a frame never observes a partially applied reload.
+	 * Reflections decoded from the reflection buffer are always decoded with the
+	 * bindings of a single frame; those decoded immediately in RTI callbacks see
+	 * each binding replaced atomically.
+	 * 
+	 * @return the number of bindings that were replaced.
+	 */
+	protected static int commitStagedBindings()
+	{
+		State state = STATE.get();
+
+		if (state.stagedArchetypes.isEmpty() && state.stagedDataConverters.isEmpty() && state.stagedMultiConverters.isEmpty())
+			return 0;
+
+		int count;
+
+		synchronized (state.stagingLock)
+		{
+			count = state.stagedArchetypes.size() + state.stagedDataConverters.size() + state.stagedMultiConverters.size();
+
+			state.archetypes = withStaged(state.archetypes, state.stagedArchetypes);
+			state.dataConverters = withStaged(state.dataConverters, state.stagedDataConverters);
+			state.multiDataConverters = withStaged(state.multiDataConverters, state.stagedMultiConverters);
+		}
+
+		LOGGER.info("Replaced {} archetype and converter binding(s)", count);
+		return count;
+	}
+
+	private static <T> Map<String, T> withStaged(Map<String, T> bindings, Map<String, T> staged)
+	{
+		if (staged.isEmpty())
+			return bindings;
+
+		Map<String, T> newBindings = new HashMap<String, T>(bindings);
+		newBindings.putAll(staged);
+		staged.clear();
+
+		return newBindings;
 	}
 
 	/*
@@ -206,11 +579,12 @@ public final record ProjectRegistry()
 	public static void print()
 	{
 		System.out.println(SEPARATOR_STYLE_1);
-		System.out.println("Registry for <" + ProjectSettings.FEDERATE_NAME + ">");
+		System.out.println("Registry for <" + ProjectSettings.current().federateName + ">");
 		System.out.println(SEPARATOR_STYLE_1 + "\n");
 		printRequiredObjects();
 		printObjectClasses();
 		printInteractionClasses();
+		printRegions();
 		printArchetypes();
 		printConverters();
 		printMultiConverters();
@@ -218,17 +592,19 @@ public final record ProjectRegistry()
 
 	private static void printRequiredObjects()
 	{
+		State state = STATE.get();
+
 		System.out.println("Required Objects");
 		System.out.println(SEPARATOR_STYLE_1);
 
-		if (requiredObjects == null || requiredObjects.isEmpty())
+		if (state.requiredObjects == null || state.requiredObjects.isEmpty())
 			System.out.println("None\n");
 		else
 		{
 			int counter = 0;
-			int length = requiredObjects.size();
+			int length = state.requiredObjects.size();
 
-			for (String object : requiredObjects)
+			for (String object : state.requiredObjects)
 			{
 				if (counter == length - 1)
 					System.out.print(object + "\n\n");
@@ -242,14 +618,16 @@ public final record ProjectRegistry()
 
 	private static void printObjectClasses()
 	{
+		State state = STATE.get();
+
 		System.out.println("HLA Object Classes");
 		System.out.println(SEPARATOR_STYLE_1);
 
-		if (objectClassProfiles.isEmpty())
+		if (state.objectClassProfiles.isEmpty())
 			System.out.println("None");
 		else
 		{
-			for (ObjectClassProfile objectClass : objectClassProfiles)
+			for (ObjectClassProfile objectClass : state.objectClassProfiles)
 			{
 				System.out.println("<" + objectClass.name + ">");
 				System.out.println("Archetype: " + trimClassName(objectClass.archetypeName));
@@ -257,6 +635,12 @@ public final record ProjectRegistry()
 				if (!objectClass.declareAutomatically)
 					System.out.println("AUTO-DECLARATION DISABLED");
 
+				if (!objectClass.getSubscriptionRegionNames().isEmpty())
+					System.out.println("Subscription Regions: " + objectClass.getSubscriptionRegionNames());
+
+				if (!objectClass.getUpdateRegionNames().isEmpty())
+					System.out.println("Update Regions: " + objectClass.getUpdateRegionNames());
+
 				System.out.println(SEPARATOR_STYLE_2);
 
 				for (String attributeName : objectClass.attributeNames)
@@ -281,14 +665,16 @@ public final record ProjectRegistry()
 
 	private static void printInteractionClasses()
 	{
+		State state = STATE.get();
+
 		System.out.println("HLA Interaction Classes");
 		System.out.println(SEPARATOR_STYLE_1);
 
-		if (interactionClassProfiles.isEmpty())
+		if (state.interactionClassProfiles.isEmpty())
 			System.out.println("None");
 		else
 		{
-			for (InteractionClassProfile interactionClass : interactionClassProfiles)
+			for (InteractionClassProfile interactionClass : state.interactionClassProfiles)
 			{
 				String pubSub = HLASharingModel.toString(interactionClass.sharingModel);
 				System.out.println("<" + interactionClass.name + ">" + " [" + pubSub + "]");
@@ -296,6 +682,12 @@ public final record ProjectRegistry()
 				if (!interactionClass.declareAutomatically)
 					System.out.println("AUTO-DECLARATION DISABLED");
 
+				if (!interactionClass.getSubscriptionRegionNames().isEmpty())
+					System.out.println("Subscription Regions: " + interactionClass.getSubscriptionRegionNames());
+
+				if (!interactionClass.getUpdateRegionNames().isEmpty())
+					System.out.println("Update Regions: " + interactionClass.getUpdateRegionNames());
+
 				System.out.println(SEPARATOR_STYLE_2);
 
 				for (String parameterName : interactionClass.parameterNames)
@@ -316,15 +708,40 @@ public final record ProjectRegistry()
 		}
 	}
 
+	private static void printRegions()
+	{
+		State state = STATE.get();
+
+		System.out.println("DDM Regions");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		if (state.regionProfiles.isEmpty())
+			System.out.println("None");
+
+		for (RegionProfile region : state.regionProfiles)
+		{
+			System.out.print(region.name + ":");
+
+			for (String dimensionName : region.getDimensionNames())
+				System.out.print(" " + dimensionName + " [" + region.getBounds(dimensionName).lower + ", " + region.getBounds(dimensionName).upper + ")");
+
+			System.out.println();
+		}
+
+		System.out.println();
+	}
+
 	private static void printArchetypes()
 	{
+		State state = STATE.get();
+
 		System.out.println("Entity Archetypes");
 		System.out.println(SEPARATOR_STYLE_1);
 
-		if (archetypes.isEmpty())
+		if (state.archetypes.isEmpty())
 			System.out.println("None");
 
-		for (String archetypeName : archetypes.keySet())
+		for (String archetypeName : state.archetypes.keySet())
 			System.out.println(trimClassName(archetypeName));
 
 		System.out.println();
@@ -332,14 +749,16 @@ public final record ProjectRegistry()
 
 	private static void printConverters()
 	{
+		State state = STATE.get();
+
 		System.out.println("Data Converters in-use");
 		System.out.println(SEPARATOR_STYLE_1);
 
-		if (dataConverters.isEmpty())
+		if (state.dataConverters.isEmpty())
 			System.out.println("None");
 		else
 		{
-			for (String converterName : dataConverters.keySet())
+			for (String converterName : state.dataConverters.keySet())
 				System.out.println(trimClassName(converterName));
 		}
 		System.out.println();
@@ -347,10 +766,12 @@ public final record ProjectRegistry()
 
 	private static void printMultiConverters()
 	{
+		State state = STATE.get();
+
 		System.out.println("Multi Data Converters in-use");
 		System.out.println(SEPARATOR_STYLE_1);
 
-		for (String multiConverterName : multiDataConverters.keySet())
+		for (String multiConverterName : state.multiDataConverters.keySet())
 			System.out.println(trimClassName(multiConverterName));
 
 		System.out.println();
@@ -0,0 +1,100 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import hla.rti1516e.RangeBounds;
+import hla.rti1516e.RegionHandle;
+
+/**
+ * <p>
+ * Internal representation of an HLA Data Distribution Management (DDM) region.
+ * A region spans a range of values along each of its dimensions, which must be
+ * declared in the FOM. Object and interaction classes refer to regions by
+ * name, so that the RTI only delivers updates and interactions whose update
+ * region overlaps a subscription region of the receiving federate.
+ * </p>
+ * 
+ * <p>
+ * Like the {@link io.github.atreia108.vega.core.ObjectClassProfile
+ * ObjectClassProfile}, it is generated at runtime from the simulation project
+ * file and subsequently stored in the
+ * {@link io.github.atreia108.vega.core.ProjectRegistry ProjectRegistry}.
+ * Regions may also be defined at runtime through the
+ * {@link io.github.atreia108.vega.core.HLARegionManager HLARegionManager}.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class RegionProfile
+{
+	public String name;
+	public RegionHandle regionHandle;
+
+	private Map<String, RangeBounds> dimensionBoundsMap;
+
+	public RegionProfile(String name)
+	{
+		this.name = name;
+
+		dimensionBoundsMap = new LinkedHashMap<String, RangeBounds>();
+	}
+
+	public void addDimension(String dimensionName, long lowerBound, long upperBound)
+	{
+		dimensionBoundsMap.put(dimensionName, new RangeBounds(lowerBound, upperBound));
+	}
+
+	public Set<String> getDimensionNames()
+	{
+		return dimensionBoundsMap.keySet();
+	}
+
+	public RangeBounds getBounds(String dimensionName)
+	{
+		return dimensionBoundsMap.get(dimensionName);
+	}
+
+	public boolean hasDimension(String dimensionName)
+	{
+		return dimensionBoundsMap.containsKey(dimensionName);
+	}
+
+	public boolean isCreated()
+	{
+		return regionHandle != null;
+	}
+}
@@ -31,6 +31,8 @@
 
 package io.github.atreia108.vega.core;
 
+import java.util.Set;
+
 import hla.rti1516e.AttributeHandleSet;
 import hla.rti1516e.AttributeHandleValueMap;
 import hla.rti1516e.FederateHandle;
@@ -44,125 +46,208 @@ import hla.rti1516e.OrderType;
 import hla.rti1516e.ParameterHandleValueMap;
 import hla.rti1516e.TransportationTypeHandle;
 import hla.rti1516e.exceptions.FederateInternalError;
+import hla.rti1516e.time.HLAinteger64Time;
 
 /**
  * The federate ambassador used by Vega simulations. It simply redirects all
  * operations to the {@link io.github.atreia108.vega.core.HLACallbackManager
- * HLACallbackManager}.
+ * HLACallbackManager}, in the context of the federate it was created for.
  * 
  * @author Hridyanshu Aatreya
  * @since 1.0.0
  */
+@SuppressWarnings("try")
 public class SpaceFomFederateAmbassador extends NullFederateAmbassador
 {
+	// Callbacks are delivered on threads of the RTI, which belong to no federate.
+	private final FederateContext context = FederateContext.current();
+
 	@Override
 	public void discoverObjectInstance(final ObjectInstanceHandle theObject, ObjectClassHandle theObjectClass, String objectName)
 	{
-		HLACallbackManager.discoverObjectInstance(theObject, theObjectClass, objectName);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.discoverObjectInstance(theObject, theObjectClass, objectName);
+		}
 	}
 
 	@Override
 	public void discoverObjectInstance(ObjectInstanceHandle theObject, ObjectClassHandle theObjectClass, String objectName, FederateHandle producingFederate) throws FederateInternalError
 	{
-		HLACallbackManager.discoverObjectInstance(theObject, theObjectClass, objectName);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.discoverObjectInstance(theObject, theObjectClass, objectName);
+		}
 	}
 
 	@Override
 	public void removeObjectInstance(ObjectInstanceHandle theObject, byte[] userSuppliedTag, OrderType sentOrdering, SupplementalRemoveInfo removeInfo) throws FederateInternalError
 	{
-		HLACallbackManager.removeObjectInstance(theObject);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.removeObjectInstance(theObject);
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void removeObjectInstance(ObjectInstanceHandle theObject, byte[] userSuppliedTag, OrderType sentOrdering, LogicalTime theTime, OrderType receivedOrdering, MessageRetractionHandle retractionHandle, SupplementalRemoveInfo removeInfo) throws FederateInternalError
 	{
-		HLACallbackManager.removeObjectInstance(theObject);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.removeObjectInstance(theObject);
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void removeObjectInstance(ObjectInstanceHandle theObject, byte[] userSuppliedTag, OrderType sentOrdering, LogicalTime theTime, OrderType receivedOrdering, SupplementalRemoveInfo removeInfo) throws FederateInternalError
 	{
-		HLACallbackManager.removeObjectInstance(theObject);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.removeObjectInstance(theObject);
+		}
 	}
 
 	@Override
 	public void reflectAttributeValues(ObjectInstanceHandle theObject, AttributeHandleValueMap theAttributes, byte[] userSuppliedTag, OrderType sentOrdering, TransportationTypeHandle theTransport, SupplementalReflectInfo reflectInfo) throws FederateInternalError
 	{
-		HLACallbackManager.reflectAttributeValues(theObject, theAttributes);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.reflectAttributeValues(theObject, theAttributes, -1L);
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void reflectAttributeValues(ObjectInstanceHandle theObject, AttributeHandleValueMap theAttributes, byte[] userSuppliedTag, OrderType sentOrdering, TransportationTypeHandle theTransport, LogicalTime theTime, OrderType receivedOrdering, MessageRetractionHandle retractionHandle, SupplementalReflectInfo reflectInfo) throws FederateInternalError
 	{
-		HLACallbackManager.reflectAttributeValues(theObject, theAttributes);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.reflectAttributeValues(theObject, theAttributes, timestampOf(theTime, receivedOrdering));
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void reflectAttributeValues(ObjectInstanceHandle theObject, AttributeHandleValueMap theAttributes, byte[] userSuppliedTag, OrderType sentOrdering, TransportationTypeHandle theTransport, LogicalTime theTime, OrderType receivedOrdering, SupplementalReflectInfo reflectInfo) throws FederateInternalError
 	{
-		HLACallbackManager.reflectAttributeValues(theObject, theAttributes);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.reflectAttributeValues(theObject, theAttributes, timestampOf(theTime, receivedOrdering));
+		}
 	}
 
 	@Override
 	public void objectInstanceNameReservationSucceeded(String objectName)
 	{
-		HLACallbackManager.objectInstanceNameReservationSucceeded(objectName);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.objectInstanceNameReservationSucceeded(objectName);
+		}
 	}
 
 	@Override
 	public void objectInstanceNameReservationFailed(String objectName)
 	{
-		HLACallbackManager.objectInstanceNameReservationFailed(objectName);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.objectInstanceNameReservationFailed(objectName);
+		}
+	}
+
+	@Override
+	public void multipleObjectInstanceNameReservationSucceeded(Set<String> objectNames)
+	{
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.multipleObjectInstanceNameReservationSucceeded(objectNames);
+		}
+	}
+
+	@Override
+	public void multipleObjectInstanceNameReservationFailed(Set<String> objectNames)
+	{
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.multipleObjectInstanceNameReservationFailed(objectNames);
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void timeConstrainedEnabled(LogicalTime time) throws FederateInternalError
 	{
-		HLACallbackManager.timeConstrainedEnabled(time);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.timeConstrainedEnabled(time);
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void timeRegulationEnabled(LogicalTime time) throws FederateInternalError
 	{
-		HLACallbackManager.timeRegulationEnabled(time);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.timeRegulationEnabled(time);
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void timeAdvanceGrant(LogicalTime theTime) throws FederateInternalError
 	{
-		HLACallbackManager.timeAdvanceGrant(theTime);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.timeAdvanceGrant(theTime);
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void receiveInteraction(InteractionClassHandle interactionClass, ParameterHandleValueMap theParameters, byte[] userSuppliedTag, OrderType sentOrdering, TransportationTypeHandle theTransport, LogicalTime theTime, OrderType receivedOrdering, SupplementalReceiveInfo receiveInfo) throws FederateInternalError
 	{
-		HLACallbackManager.receiveInteraction(interactionClass, theParameters);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.receiveInteraction(interactionClass, theParameters, timestampOf(theTime, receivedOrdering));
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void receiveInteraction(InteractionClassHandle interactionClass, ParameterHandleValueMap theParameters, byte[] userSuppliedTag, OrderType sentOrdering, TransportationTypeHandle theTransport, LogicalTime theTime, OrderType receivedOrdering, MessageRetractionHandle retractionHandle, SupplementalReceiveInfo receiveInfo) throws FederateInternalError
 	{
-		HLACallbackManager.receiveInteraction(interactionClass, theParameters);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.receiveInteraction(interactionClass, theParameters, timestampOf(theTime, receivedOrdering));
+		}
 	}
 
 	@Override
 	public void receiveInteraction(InteractionClassHandle interactionClass, ParameterHandleValueMap theParameters, byte[] userSuppliedTag, OrderType sentOrdering, TransportationTypeHandle theTransport, SupplementalReceiveInfo receiveInfo) throws FederateInternalError
 	{
-		HLACallbackManager.receiveInteraction(interactionClass, theParameters);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.receiveInteraction(interactionClass, theParameters, -1L);
+		}
 	}
 
 	@Override
 	public void provideAttributeValueUpdate(ObjectInstanceHandle theObject, AttributeHandleSet theAttributes, byte[] userSuppliedTag) throws FederateInternalError
 	{
-		HLACallbackManager.provideAttributeValueUpdate(theObject, theAttributes);
+		try (FederateContext.Scope scope = context.enter())
+		{
+			HLACallbackManager.provideAttributeValueUpdate(theObject, theAttributes);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static long timestampOf(LogicalTime theTime, OrderType receivedOrdering)
+	{
+		if (receivedOrdering != OrderType.TIMESTAMP || !(theTime instanceof HLAinteger64Time))
+			return -1L;
+
+		return ((HLAinteger64Time) theTime).getValue();
 	}
 }
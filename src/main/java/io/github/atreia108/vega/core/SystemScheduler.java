@@ -0,0 +1,478 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+import io.github.atreia108.vega.utils.ProjectSettings;
+import io.github.atreia108.vega.utils.VegaUtilities;
+
+/**
+ * <p>
+ * Updates the systems of the engine in parallel. Each system that implements
+ * {@link io.github.atreia108.vega.core.IComponentAccess IComponentAccess}
+ * declares the component types it reads and writes, from which a dependency
+ * graph is built: a system waits for every system ahead of it in the engine's
+ * priority order that it conflicts with, and otherwise runs alongside the
+ * systems it does not conflict with on the threads of a fork-join pool.
+ * Systems that do not declare their access run on their own.
+ * </p>
+ * 
+ * <p>
+ * Systems marked as {@link io.github.atreia108.vega.core.IRemotePublisher
+ * IRemotePublisher} form the publish phase of the frame and are ordered after
+ * every system that writes components, regardless of their priority.
+ * </p>
+ * 
+ * <p>
+ * The graph is run in stages: every system of a stage depends only on systems
+ * of earlier stages. Systems running on the pool must not add or remove
+ * entities or components directly, as the engine is not thread-safe; they go
+ * through the {@link io.github.atreia108.vega.core.EntityCommandBuffer
+ * EntityCommandBuffer} instead, which is flushed after each stage. When no
+ * system declares its access or the parallelism is one, the systems are
+ * updated by the engine as usual.
+ * </p>
+ * 
+ * <p>
+ * The graph is rebuilt whenever systems are added to or removed from the
+ * engine. The number of threads is set with the <code>Parallelism</code>
+ * attribute of the <code>Scheduler</code> element in the project file.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class SystemScheduler
+{
+	private static final Predicate<EntitySystem> ALL_SYSTEMS = (system) -> true;
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final List<EntitySystem> systems = new ArrayList<EntitySystem>();
+		private final Map<Predicate<EntitySystem>, Graph> graphs = new HashMap<Predicate<EntitySystem>, Graph>();
+		private ForkJoinPool pool;
+	}
+
+	private static final class Graph
+	{
+		private final Node[] nodes;
+		private Node[][] stages;
+		private boolean declared;
+		private final AtomicInteger remaining = new AtomicInteger();
+		private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		private FederateContext context;
+		private Thread waiter;
+		private float deltaTime;
+
+		private Graph(int size)
+		{
+			nodes = new Node[size];
+		}
+
+		// Groups the nodes into stages by the length of the longest chain of
+		// dependencies leading to them. Nodes of the same stage never depend on each
+		// other.
+		private void findStages()
+		{
+			int stageCount = 0;
+			for (Node node : nodes)
+			{
+				for (Node predecessor : node.predecessors)
+					node.stage = Math.max(node.stage, predecessor.stage + 1);
+
+				stageCount = Math.max(stageCount, node.stage + 1);
+				declared |= !node.exclusive;
+			}
+
+			List<List<Node>> grouped = new ArrayList<List<Node>>();
+			for (int i = 0; i < stageCount; ++i)
+				grouped.add(new ArrayList<Node>());
+
+			for (Node node : nodes)
+				grouped.get(node.stage).add(node);
+
+			stages = new Node[stageCount][];
+			for (int i = 0; i < stageCount; ++i)
+				stages[i] = grouped.get(i).toArray(new Node[0]);
+		}
+	}
+
+	private static final class Node implements Runnable
+	{
+		private final Graph graph;
+		private final EntitySystem system;
+		private final Set<Class<? extends Component>> reads;
+		private final Set<Class<? extends Component>> writes;
+		private final boolean exclusive;
+		private final boolean publisher;
+		private final List<Node> predecessors = new ArrayList<Node>();
+		private int stage;
+
+		private Node(Graph graph, EntitySystem system)
+		{
+			this.graph = graph;
+			this.system = system;
+
+			if (system instanceof IComponentAccess access)
+			{
+				reads = Set.copyOf(access.getReadComponents());
+				writes = Set.copyOf(access.getWrittenComponents());
+				exclusive = false;
+			}
+			else
+			{
+				reads = Collections.emptySet();
+				writes = Collections.emptySet();
+				exclusive = true;
+			}
+
+			publisher = system instanceof IRemotePublisher;
+		}
+
+		private boolean conflictsWith(Node other)
+		{
+			if (exclusive || other.exclusive)
+				return true;
+
+			return intersects(writes, other.writes) || intersects(writes, other.reads) || intersects(reads, other.writes);
+		}
+
+		private boolean isWriter()
+		{
+			return exclusive || !writes.isEmpty();
+		}
+
+		@Override
+		@SuppressWarnings("try")
+		public void run()
+		{
+			try (FederateContext.Scope scope = graph.context.enter())
+			{
+				if (graph.failure.get() == null && system.checkProcessing())
+					system.update(graph.deltaTime);
+			}
+			catch (Throwable e)
+			{
+				graph.failure.compareAndSet(null, e);
+			}
+
+			if (graph.remaining.decrementAndGet() == 0)
+				LockSupport.unpark(graph.waiter);
+		}
+	}
+
+	private SystemScheduler()
+	{
+	}
+
+	/**
+	 * Updates every processing system of the engine, running systems that do not
+	 * conflict with each other in parallel. Returns once all of them have finished
+	 * the frame. An exception thrown by a system is rethrown here after its stage
+	 * has drained; the stages that follow are skipped.
+	 * 
+	 * @param deltaTime the time passed since the last frame in seconds.
+	 */
+	public static void update(float deltaTime)
+	{
+		update(deltaTime, ALL_SYSTEMS);
+	}
+
+	/**
+	 * Updates the processing systems of the engine accepted by the filter. Graphs
+	 * are cached per filter, so the same filter instance must be passed every
+	 * frame.
+	 */
+	protected static void update(float deltaTime, Predicate<EntitySystem> filter)
+	{
+		State state = STATE.get();
+		Graph graph = graphFor(state, filter);
+		Node[] nodes = graph.nodes;
+
+		if (nodes.length == 0)
+			return;
+
+		// Without declarations there is nothing to run in parallel, so the engine
+		// updates its systems itself, which also defers the entity operations they
+		// perform until each of them has finished.
+		int parallelism = ProjectSettings.current().schedulerParallelism;
+		if (parallelism <= 1 || !graph.declared || nodes.length == 1)
+		{
+			if (filter == ALL_SYSTEMS)
+			{
+				VegaUtilities.engine().update(deltaTime);
+				return;
+			}
+
+			for (Node node : nodes)
+			{
+				if (node.system.checkProcessing())
+					node.system.update(deltaTime);
+			}
+
+			return;
+		}
+
+		ForkJoinPool pool = pool(state, parallelism);
+
+		graph.context = FederateContext.current();
+		graph.waiter = Thread.currentThread();
+		graph.deltaTime = deltaTime;
+		graph.failure.set(null);
+
+		boolean interrupted = false;
+		for (Node[] stage : graph.stages)
+		{
+			graph.remaining.set(stage.length);
+
+			for (Node node : stage)
+				pool.execute(node);
+
+			while (graph.remaining.get() > 0)
+			{
+				LockSupport.park(graph);
+				if (Thread.interrupted())
+					interrupted = true;
+			}
+
+			// The engine is not safe to modify while systems are running on the pool, so
+			// their entity operations are applied between stages.
+			EntityCommandBuffer.drain();
+
+			if (graph.failure.get() != null)
+				break;
+		}
+
+		if (interrupted)
+			Thread.currentThread().interrupt();
+
+		Throwable failure = graph.failure.get();
+		if (failure instanceof RuntimeException e)
+			throw e;
+		if (failure instanceof Error e)
+			throw e;
+		if (failure != null)
+			throw new IllegalStateException(failure);
+	}
+
+	/**
+	 * Runs the given number of chunks on the pool of the calling federate and
+	 * returns once all of them have completed. When called from a system that the
+	 * scheduler is already running, the chunks are forked into the same pool
+	 * rather than blocking one of its threads. An exception thrown by a chunk is
+	 * rethrown here.
+	 * 
+	 * @see io.github.atreia108.vega.core.AParallelIteratingSystem
+	 */
+	protected static void invokeChunks(int chunkCount, IntConsumer chunk)
+	{
+		int parallelism = ProjectSettings.current().schedulerParallelism;
+
+		if (parallelism <= 1 || chunkCount <= 1)
+		{
+			for (int i = 0; i < chunkCount; ++i)
+				chunk.accept(i);
+
+			return;
+		}
+
+		ForkJoinPool pool = pool(STATE.get(), parallelism);
+		ChunkTask task = new ChunkTask(FederateContext.current(), chunk, 0, chunkCount);
+
+		if (ForkJoinTask.getPool() == pool)
+			task.invoke();
+		else
+			pool.invoke(task);
+	}
+
+	private static final class ChunkTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final transient FederateContext context;
+		private final transient IntConsumer chunk;
+		private final int start;
+		private final int end;
+
+		private ChunkTask(FederateContext context, IntConsumer chunk, int start, int end)
+		{
+			this.context = context;
+			this.chunk = chunk;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		@SuppressWarnings("try")
+		protected void compute()
+		{
+			if (end - start == 1)
+			{
+				try (FederateContext.Scope scope = context.enter())
+				{
+					chunk.accept(start);
+				}
+
+				return;
+			}
+
+			int middle = (start + end) >>> 1;
+			invokeAll(new ChunkTask(context, chunk, start, middle), new ChunkTask(context, chunk, middle, end));
+		}
+	}
+
+	private static Graph graphFor(State state, Predicate<EntitySystem> filter)
+	{
+		ImmutableArray<EntitySystem> systems = VegaUtilities.engine().getSystems();
+
+		if (!sameSystems(state.systems, systems))
+		{
+			state.systems.clear();
+			for (EntitySystem system : systems)
+				state.systems.add(system);
+
+			state.graphs.clear();
+		}
+
+		Graph graph = state.graphs.get(filter);
+		if (graph == null)
+		{
+			graph = buildGraph(state.systems, filter);
+			state.graphs.put(filter, graph);
+		}
+
+		return graph;
+	}
+
+	private static boolean sameSystems(List<EntitySystem> known, ImmutableArray<EntitySystem> systems)
+	{
+		if (known.size() != systems.size())
+			return false;
+
+		for (int i = 0; i < systems.size(); ++i)
+		{
+			if (known.get(i) != systems.get(i))
+				return false;
+		}
+
+		return true;
+	}
+
+	private static Graph buildGraph(List<EntitySystem> systems, Predicate<EntitySystem> filter)
+	{
+		// The engine keeps its systems sorted by priority. Publishers are moved behind
+		// all other systems so that edges only ever point forwards and the graph cannot
+		// contain a cycle.
+		List<EntitySystem> ordered = new ArrayList<EntitySystem>();
+		for (EntitySystem system : systems)
+		{
+			if (filter.test(system) && !(system instanceof IRemotePublisher))
+				ordered.add(system);
+		}
+		for (EntitySystem system : systems)
+		{
+			if (filter.test(system) && system instanceof IRemotePublisher)
+				ordered.add(system);
+		}
+
+		Graph graph = new Graph(ordered.size());
+		Node[] nodes = graph.nodes;
+		for (int i = 0; i < nodes.length; ++i)
+			nodes[i] = new Node(graph, ordered.get(i));
+
+		for (int j = 0; j < nodes.length; ++j)
+		{
+			for (int i = 0; i < j; ++i)
+			{
+				boolean publishAfterWrite = nodes[j].publisher && !nodes[i].publisher && nodes[i].isWriter();
+				if (publishAfterWrite || nodes[i].conflictsWith(nodes[j]))
+					nodes[j].predecessors.add(nodes[i]);
+			}
+		}
+
+		graph.findStages();
+		return graph;
+	}
+
+	private static ForkJoinPool pool(State state, int parallelism)
+	{
+		synchronized (state)
+		{
+			if (state.pool != null)
+				return state.pool;
+
+			AtomicInteger threadCount = new AtomicInteger();
+
+			state.pool = new ForkJoinPool(parallelism, (pool) ->
+			{
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("vega-systems-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}, null, false);
+
+			return state.pool;
+		}
+	}
+
+	private static boolean intersects(Set<Class<? extends Component>> a, Set<Class<? extends Component>> b)
+	{
+		for (Class<? extends Component> type : a)
+		{
+			if (b.contains(type))
+				return true;
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,178 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free traffic counters for a single HLA object or interaction class. Each
+ * {@link io.github.atreia108.vega.core.ObjectClassProfile ObjectClassProfile}
+ * and {@link io.github.atreia108.vega.core.InteractionClassProfile
+ * InteractionClassProfile} owns one of these, which the
+ * {@link io.github.atreia108.vega.core.HLAObjectManager HLAObjectManager} and
+ * {@link io.github.atreia108.vega.core.HLAInteractionManager
+ * HLAInteractionManager} update as messages leave and arrive at the federate.
+ * Byte counts refer to the encoded attribute/parameter values only and exclude
+ * any overhead added by the RTI.
+ * 
+ * @see io.github.atreia108.vega.core.HLATrafficMonitor
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class TrafficCounter
+{
+	public final String className;
+
+	private final LongAdder messagesSent = new LongAdder();
+	private final LongAdder bytesSent = new LongAdder();
+	private final LongAdder messagesReceived = new LongAdder();
+	private final LongAdder bytesReceived = new LongAdder();
+
+	// Keyed by attribute/parameter name. Entries are created once when the field is
+	// added to the class profile so that the hot path only ever performs a lookup.
+	private final Map<String, LongAdder> fieldBytesSent = new ConcurrentHashMap<String, LongAdder>();
+	private final Map<String, LongAdder> fieldBytesReceived = new ConcurrentHashMap<String, LongAdder>();
+
+	public TrafficCounter(String className)
+	{
+		this.className = className;
+	}
+
+	protected void addField(String fieldName)
+	{
+		fieldBytesSent.putIfAbsent(fieldName, new LongAdder());
+		fieldBytesReceived.putIfAbsent(fieldName, new LongAdder());
+	}
+
+	protected void addMessageSent(long encodedBytes)
+	{
+		messagesSent.increment();
+		bytesSent.add(encodedBytes);
+	}
+
+	protected void addMessageReceived(long encodedBytes)
+	{
+		messagesReceived.increment();
+		bytesReceived.add(encodedBytes);
+	}
+
+	protected void addFieldBytesSent(String fieldName, long encodedBytes)
+	{
+		LongAdder counter = fieldBytesSent.get(fieldName);
+
+		if (counter == null)
+			counter = fieldBytesSent.computeIfAbsent(fieldName, (name) -> new LongAdder());
+
+		counter.add(encodedBytes);
+	}
+
+	protected void addFieldBytesReceived(String fieldName, long encodedBytes)
+	{
+		LongAdder counter = fieldBytesReceived.get(fieldName);
+
+		if (counter == null)
+			counter = fieldBytesReceived.computeIfAbsent(fieldName, (name) -> new LongAdder());
+
+		counter.add(encodedBytes);
+	}
+
+	public long getMessagesSent()
+	{
+		return messagesSent.sum();
+	}
+
+	public long getBytesSent()
+	{
+		return bytesSent.sum();
+	}
+
+	public long getMessagesReceived()
+	{
+		return messagesReceived.sum();
+	}
+
+	public long getBytesReceived()
+	{
+		return bytesReceived.sum();
+	}
+
+	/**
+	 * Resets all counters of this class back to zero.
+	 */
+	public void reset()
+	{
+		messagesSent.reset();
+		bytesSent.reset();
+		messagesReceived.reset();
+		bytesReceived.reset();
+		fieldBytesSent.values().forEach((counter) -> counter.reset());
+		fieldBytesReceived.values().forEach((counter) -> counter.reset());
+	}
+
+	/**
+	 * Takes a point-in-time copy of the counters. Since the counters are updated
+	 * concurrently by the RTI callback threads, the values of a snapshot are
+	 * individually exact but not guaranteed to be mutually consistent.
+	 */
+	public Snapshot snapshot()
+	{
+		return new Snapshot(className, getMessagesSent(), getBytesSent(), getMessagesReceived(), getBytesReceived(), sum(fieldBytesSent), sum(fieldBytesReceived));
+	}
+
+	private static Map<String, Long> sum(Map<String, LongAdder> counters)
+	{
+		Map<String, Long> result = new LinkedHashMap<String, Long>();
+		counters.forEach((fieldName, counter) -> result.put(fieldName, counter.sum()));
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * An immutable copy of the counters of an HLA object or interaction class.
+	 * 
+	 * @param className          name of the HLA object or interaction class.
+	 * @param messagesSent       number of updates/interactions sent.
+	 * @param bytesSent          total encoded bytes sent.
+	 * @param messagesReceived   number of reflections/interactions received.
+	 * @param bytesReceived      total encoded bytes received.
+	 * @param fieldBytesSent     encoded bytes sent per attribute/parameter.
+	 * @param fieldBytesReceived encoded bytes received per attribute/parameter.
+	 */
+	public record Snapshot(String className, long messagesSent, long bytesSent, long messagesReceived, long bytesReceived, Map<String, Long> fieldBytesSent, Map<String, Long> fieldBytesReceived)
+	{
+	}
+}
@@ -31,13 +31,33 @@
 
 package io.github.atreia108.vega.utils;
 
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import io.github.atreia108.vega.core.FederateContext;
+
 /**
- * A global CountDownLatch object to resume/pause simulation execution.
+ * <p>
+ * Synchronizes the simulation thread with operations that complete on the RTI
+ * callback threads, such as the discovery of the ExCO object instance or the
+ * grant of a time advance request.
+ * </p>
+ * 
+ * <p>
+ * Each {@link Reason} has its own generation counter that is incremented every
+ * time it is released. A thread that intends to wait first obtains a ticket
+ * with {@link #arm(Reason)} <i>before</i> issuing the request to the RTI and
+ * then waits with {@link #await(Reason, long)} until the generation moves past
+ * that ticket. A release that arrives between the two calls is therefore never
+ * lost, distinct reasons can be pending at the same time, and since waiting
+ * only parks the thread, nothing is allocated per time step.
+ * </p>
  * 
  * @author Hridyanshu Aatreya
  * @since 1.0.0
@@ -46,53 +66,137 @@ public final class ExecutionLatch
 {
 	private static final Logger LOGGER = LogManager.getLogger();
 
-	private static CountDownLatch latch;
+	/**
+	 * The conditions the simulation thread can wait for.
+	 */
+	public enum Reason
+	{
+		EXCO_DISCOVERED, EXCO_INITIALIZED, EXCO_UPDATED, REQUIRED_OBJECTS_DISCOVERED, TIME_CONSTRAINED_ENABLED, TIME_REGULATION_ENABLED, TIME_ADVANCE_GRANT;
+	}
+
+	private static final int REASON_COUNT = Reason.values().length;
+
+	// Upper bound on how long a thread that could not claim the waiter slot of a
+	// reason parks before re-checking the generation.
+	private static final long SHARED_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
+	private static final class State
+	{
+		private final AtomicLongArray generations = new AtomicLongArray(REASON_COUNT);
+		private final AtomicReferenceArray<Thread> waiters = new AtomicReferenceArray<Thread>(REASON_COUNT);
+	}
 
 	/**
-	 * Enables the execution latch causing program execution to halt at that point. Some other operation (possibly on another thread)
-	 * has to disable it for the program to resume past that point.
+	 * Obtains a ticket for the next release of a reason. It must be called before
+	 * the operation that eventually leads to the release is started.
+	 * 
+	 * @param reason the condition that will be waited for.
+	 * @return the ticket to be passed to {@link #await(Reason, long)}.
 	 */
-	public static void enable()
+	public static long arm(Reason reason)
 	{
-		if (isActive())
-			LOGGER.warn("The execution latch cannot be enabled because it is waiting for some operation to terminate and disable it.");
+		return STATE.get().generations.get(reason.ordinal());
+	}
 
-		latch = new CountDownLatch(1);
+	/**
+	 * Halts the calling thread until the reason has been released at least once
+	 * since the ticket was obtained. Returns immediately if that has already
+	 * happened.
+	 * 
+	 * @param reason the condition to wait for.
+	 * @param ticket the ticket obtained from {@link #arm(Reason)}.
+	 */
+	public static void await(Reason reason, long ticket)
+	{
+		await(reason, ticket, null);
+	}
 
-		try
-		{
-			latch.await();
-		}
-		catch (InterruptedException e)
+	/**
+	 * Halts the calling thread until the reason has been released at least once
+	 * since the ticket was obtained, running other work while it would otherwise
+	 * sit idle.
+	 * 
+	 * @param reason   the condition to wait for.
+	 * @param ticket   the ticket obtained from {@link #arm(Reason)}.
+	 * @param idleWork run before every park. It returns whether it did anything,
+	 *                 in which case the generation is checked again instead of
+	 *                 parking, as the work may itself have released the reason.
+	 */
+	public static void await(Reason reason, long ticket, BooleanSupplier idleWork)
+	{
+		int index = reason.ordinal();
+		State state = STATE.get();
+		AtomicLongArray generations = state.generations;
+
+		if (generations.get(index) > ticket)
+			return;
+
+		Thread currentThread = Thread.currentThread();
+		AtomicReferenceArray<Thread> waiters = state.waiters;
+		boolean ownsSlot = waiters.compareAndSet(index, null, currentThread);
+
+		// The waiter must be published before the generation is re-checked. Combined
+		// with release() incrementing the generation before reading the waiter, one
+		// of the two threads is guaranteed to observe the other.
+		while (generations.get(index) <= ticket)
 		{
-			LOGGER.error("Simulation was terminated prematurely\n[REASON]", e);
-			System.exit(1);
+			if (idleWork != null && idleWork.getAsBoolean())
+				continue;
+
+			if (ownsSlot)
+				LockSupport.park(ExecutionLatch.class);
+			else
+				LockSupport.parkNanos(ExecutionLatch.class, SHARED_WAIT_NANOS);
+
+			if (Thread.interrupted())
+			{
+				LOGGER.error("Simulation was terminated prematurely\n[REASON] Interrupted while waiting for {}", reason);
+				System.exit(1);
+			}
 		}
+
+		if (ownsSlot)
+			waiters.compareAndSet(index, currentThread, null);
 	}
 
 	/**
-	 * Disables the execution latch causing the program to resume from where the latch was previously enabled.
+	 * Releases all threads waiting on a reason, causing them to resume from where
+	 * they called {@link #await(Reason, long)}. Threads that have armed the reason
+	 * but not yet started waiting will not block at all.
+	 * 
+	 * @param reason the condition that has been fulfilled.
 	 */
-	public static void disable()
+	public static void release(Reason reason)
 	{
-		if (!isActive())
-			LOGGER.warn("The execution latch cannot be disabled since it has not been enabled yet.");
-		else
-		{
-			latch.countDown();
-			latch = null;
-		}
+		int index = reason.ordinal();
+		State state = STATE.get();
+		state.generations.incrementAndGet(index);
+
+		Thread waiter = state.waiters.get(index);
+		if (waiter != null)
+			LockSupport.unpark(waiter);
+	}
+
+	/**
+	 * Returns whether the reason has been released since the ticket was obtained.
+	 * 
+	 * @param reason the condition to query.
+	 * @param ticket the ticket obtained from {@link #arm(Reason)}.
+	 */
+	public static boolean isReleased(Reason reason, long ticket)
+	{
+		return STATE.get().generations.get(reason.ordinal()) > ticket;
 	}
 
 	/**
-	 * Returns the status of the execution latch.
-	 * @return A boolean value indicating the status of the latch.
+	 * Returns how many times a reason has been released so far.
+	 * 
+	 * @param reason the condition to query.
 	 */
-	public static boolean isActive()
+	public static long generation(Reason reason)
 	{
-		if (latch != null)
-			return true;
-		else
-			return false;
+		return STATE.get().generations.get(reason.ordinal());
 	}
 }
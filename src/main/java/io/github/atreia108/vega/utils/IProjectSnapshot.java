@@ -0,0 +1,83 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.utils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * A precompiled form of a simulation project file. Applying a snapshot fills
+ * the {@link io.github.atreia108.vega.utils.ProjectSettings ProjectSettings}
+ * and the {@link io.github.atreia108.vega.core.ProjectRegistry ProjectRegistry}
+ * with the same contents the {@link io.github.atreia108.vega.utils.ProjectLoader
+ * ProjectLoader} would produce from the project file, without parsing XML or
+ * creating archetypes and converters reflectively.
+ * 
+ * <p>
+ * Snapshots are normally produced at build time with the
+ * {@link io.github.atreia108.vega.utils.ProjectSnapshotGenerator
+ * ProjectSnapshotGenerator}.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public interface IProjectSnapshot
+{
+	public void apply() throws Exception;
+
+	/**
+	 * Locates a FOM module recorded in a snapshot by a relative path. The path is
+	 * first resolved against the working directory, as the project loader does,
+	 * and otherwise looked up as a resource on the class path of the snapshot, so
+	 * that FOM modules packaged with the simulation are found wherever it runs.
+	 * 
+	 * @param snapshotClass the class of the snapshot.
+	 * @param path          the path of the FOM module with '/' as the separator.
+	 * @return the URL of the FOM module.
+	 */
+	public static URL fomModule(Class<? extends IProjectSnapshot> snapshotClass, String path) throws FileNotFoundException, MalformedURLException
+	{
+		File file = new File(path);
+		if (file.exists())
+			return file.toURI().toURL();
+
+		ClassLoader classLoader = snapshotClass.getClassLoader();
+		URL resource = classLoader != null ? classLoader.getResource(path) : null;
+		if (resource == null)
+			throw new FileNotFoundException("The FOM module \"" + path + "\" was found neither in the working directory nor on the class path");
+
+		return resource;
+	}
+}
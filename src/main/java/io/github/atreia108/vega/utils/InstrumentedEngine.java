@@ -0,0 +1,334 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.utils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.ReflectionPool;
+
+/**
+ * <p>
+ * A <code>PooledEngine</code> that keeps statistics on how well its pools
+ * serve the simulation. For the entity pool and the pool of every component
+ * type it counts how many objects were obtained, how many of those were served
+ * from the pool (hits) or had to be allocated (misses), and how many freed
+ * objects were dropped because the pool was full (discards), along with the
+ * peak number of objects in use at once. The engine is used in place of a
+ * plain <code>PooledEngine</code> when the <code>PoolTelemetry</code> element
+ * of the project file is enabled.
+ * </p>
+ * 
+ * <p>
+ * With auto-tuning, a component pool that is about to discard an object grows
+ * instead so that it can hold as many objects as were ever in use at once.
+ * Ashley sizes every component pool with the same bounds and gives no access
+ * to the size of the entity pool, so the entity pool is observed but not
+ * resized. {@link #recommendEngineSettings()} turns the observed peaks into
+ * <code>Engine</code> settings for the project file that avoid both.
+ * </p>
+ * 
+ * <p>
+ * The pools are only ever used by the simulation thread, on which the
+ * statistics are also recorded. Reading them from other threads may yield
+ * slightly stale values.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class InstrumentedEngine extends PooledEngine
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	// Headroom added to the observed peaks when recommending pool bounds.
+	private static final double RECOMMENDED_HEADROOM = 1.25;
+
+	/**
+	 * A snapshot of the statistics of one pool.
+	 * 
+	 * @param name      the simple name of the pooled type, or "Entity".
+	 * @param obtained  the number of objects handed out by the pool.
+	 * @param hits      the number of those that were reused from the pool.
+	 * @param misses    the number of those that had to be allocated.
+	 * @param discarded the number of freed objects dropped because the pool was
+	 *                  full.
+	 * @param peakInUse the largest number of objects in use at the same time.
+	 * @param free      the number of objects currently held by the pool.
+	 * @param capacity  the number of free objects the pool can hold.
+	 */
+	public record PoolStatistics(String name, long obtained, long hits, long misses, long discarded, int peakInUse, int free, int capacity)
+	{
+	}
+
+	private final int minComponents;
+	private final int maxComponents;
+	private final boolean autoTuning;
+
+	private final Map<Class<?>, CountingPool<?>> componentPools = new HashMap<Class<?>, CountingPool<?>>();
+	// Ashley keeps its component pools as ReflectionPools, which libGDX deprecates.
+	@SuppressWarnings("deprecation")
+	private ObjectMap<Class<?>, ReflectionPool<?>> ashleyComponentPools;
+	private Pool<?> entityPool;
+
+	private long entitiesObtained;
+	private long entityMisses;
+	private long entitiesDiscarded;
+	private int entitiesInUse;
+	private int peakEntitiesInUse;
+
+	// Has to be a ReflectionPool to take the place of Ashley's own pools.
+	@SuppressWarnings("deprecation")
+	private final class CountingPool<T> extends ReflectionPool<T>
+	{
+		private final Class<T> type;
+		private int capacity;
+		private long obtained;
+		private long misses;
+		private long discarded;
+		private int inUse;
+		private int peakInUse;
+
+		private CountingPool(Class<T> type, int initialCapacity, int capacity)
+		{
+			// The bound of the superclass is final, so it is lifted and enforced here
+			// instead where it can be changed.
+			super(type, initialCapacity, Integer.MAX_VALUE);
+			this.type = type;
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected T newObject()
+		{
+			++misses;
+			return super.newObject();
+		}
+
+		@Override
+		public T obtain()
+		{
+			++obtained;
+			if (++inUse > peakInUse)
+				peakInUse = inUse;
+
+			return super.obtain();
+		}
+
+		@Override
+		public void free(T object)
+		{
+			--inUse;
+
+			if (getFree() >= capacity && autoTuning && peakInUse > capacity)
+			{
+				LOGGER.debug("Grew the pool of <{}> from {} to {} components", type.getSimpleName(), capacity, peakInUse);
+				capacity = peakInUse;
+			}
+
+			if (getFree() >= capacity)
+			{
+				++discarded;
+				discard(object);
+			}
+			else
+				super.free(object);
+		}
+
+		private PoolStatistics statistics()
+		{
+			return new PoolStatistics(type.getSimpleName(), obtained, obtained - misses, misses, discarded, peakInUse, getFree(), capacity);
+		}
+	}
+
+	public InstrumentedEngine(int minEntities, int maxEntities, int minComponents, int maxComponents, boolean autoTuning)
+	{
+		super(minEntities, maxEntities, minComponents, maxComponents);
+		this.minComponents = minComponents;
+		this.maxComponents = maxComponents;
+		this.autoTuning = autoTuning;
+
+		attachToPools();
+	}
+
+	// Ashley keeps its pools private. They are looked up once so that component
+	// pools can be replaced with counting ones as types are first used.
+	@SuppressWarnings({ "unchecked", "deprecation" })
+	private void attachToPools()
+	{
+		try
+		{
+			Field entityPoolField = PooledEngine.class.getDeclaredField("entityPool");
+			entityPoolField.setAccessible(true);
+			entityPool = (Pool<?>) entityPoolField.get(this);
+
+			Field componentPoolsField = PooledEngine.class.getDeclaredField("componentPools");
+			componentPoolsField.setAccessible(true);
+			Object componentPools = componentPoolsField.get(this);
+
+			Field poolsField = componentPools.getClass().getDeclaredField("pools");
+			poolsField.setAccessible(true);
+			ashleyComponentPools = (ObjectMap<Class<?>, ReflectionPool<?>>) poolsField.get(componentPools);
+		}
+		catch (ReflectiveOperationException | RuntimeException e)
+		{
+			LOGGER.warn("Pool telemetry is limited to the number of objects obtained\n[REASON] The pools of this version of Ashley could not be accessed", e);
+			entityPool = null;
+			ashleyComponentPools = null;
+		}
+	}
+
+	@Override
+	public Entity createEntity()
+	{
+		++entitiesObtained;
+		if (++entitiesInUse > peakEntitiesInUse)
+			peakEntitiesInUse = entitiesInUse;
+
+		if (entityPool != null && entityPool.getFree() == 0)
+			++entityMisses;
+
+		return super.createEntity();
+	}
+
+	@Override
+	protected void removeEntityInternal(Entity entity)
+	{
+		// Only entities obtained from the pool, which are of a private subclass, are
+		// returned to it.
+		if (entity.getClass() != Entity.class)
+		{
+			--entitiesInUse;
+
+			if (entityPool != null && entityPool.getFree() >= entityPool.max)
+				++entitiesDiscarded;
+		}
+
+		super.removeEntityInternal(entity);
+	}
+
+	@Override
+	public <T extends Component> T createComponent(Class<T> componentType)
+	{
+		if (ashleyComponentPools != null && !componentPools.containsKey(componentType))
+		{
+			CountingPool<T> pool = new CountingPool<T>(componentType, minComponents, maxComponents);
+			componentPools.put(componentType, pool);
+			ashleyComponentPools.put(componentType, pool);
+		}
+
+		return super.createComponent(componentType);
+	}
+
+	/**
+	 * Returns the statistics of the entity pool.
+	 */
+	public PoolStatistics getEntityPoolStatistics()
+	{
+		int free = entityPool != null ? entityPool.getFree() : 0;
+		int capacity = entityPool != null ? entityPool.max : 0;
+		long misses = entityPool != null ? entityMisses : entitiesObtained;
+
+		return new PoolStatistics("Entity", entitiesObtained, entitiesObtained - misses, misses, entitiesDiscarded, peakEntitiesInUse, free, capacity);
+	}
+
+	/**
+	 * Returns the statistics of the pool of every component type created so far,
+	 * sorted by the number of misses in descending order.
+	 */
+	public List<PoolStatistics> getComponentPoolStatistics()
+	{
+		List<PoolStatistics> statistics = new ArrayList<PoolStatistics>();
+		for (CountingPool<?> pool : componentPools.values())
+			statistics.add(pool.statistics());
+
+		statistics.sort(Comparator.comparingLong(PoolStatistics::misses).reversed());
+		return Collections.unmodifiableList(statistics);
+	}
+
+	/**
+	 * Returns an <code>Engine</code> element for the project file with pool
+	 * bounds derived from the peaks observed so far, with some headroom.
+	 */
+	public String recommendEngineSettings()
+	{
+		int peakComponents = 0;
+		for (CountingPool<?> pool : componentPools.values())
+			peakComponents = Math.max(peakComponents, pool.peakInUse);
+
+		int minEntities = Math.max(peakEntitiesInUse, 1);
+		int maxEntities = Math.max((int) Math.ceil(minEntities * RECOMMENDED_HEADROOM), minEntities + 1);
+		int minComponents = Math.max(peakComponents, 1);
+		int maxComponents = Math.max((int) Math.ceil(minComponents * RECOMMENDED_HEADROOM), minComponents + 1);
+
+		return "<Engine MinEntities=\"" + minEntities + "\" MaxEntities=\"" + maxEntities + "\" MinComponents=\"" + minComponents + "\" MaxComponents=\"" + maxComponents + "\"/>";
+	}
+
+	/**
+	 * Log the statistics of all pools along with the recommended
+	 * <code>Engine</code> settings.
+	 */
+	public void report()
+	{
+		StringBuilder report = new StringBuilder("Pool telemetry");
+		append(report, getEntityPoolStatistics());
+		for (PoolStatistics statistics : getComponentPoolStatistics())
+			append(report, statistics);
+
+		report.append("\nRecommended settings: ").append(recommendEngineSettings());
+		LOGGER.info(report.toString());
+	}
+
+	private void append(StringBuilder report, PoolStatistics statistics)
+	{
+		report.append("\n  ").append(statistics.name());
+		report.append(": obtained=").append(statistics.obtained());
+		report.append(", hits=").append(statistics.hits());
+		report.append(", misses=").append(statistics.misses());
+		report.append(", discarded=").append(statistics.discarded());
+		report.append(", peak=").append(statistics.peakInUse());
+		report.append(", free=").append(statistics.free()).append('/').append(statistics.capacity());
+	}
+}
@@ -0,0 +1,135 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.utils;
+
+/**
+ * Helper functions for blending reflected values of remote entities, intended
+ * to be used by implementations of
+ * {@link io.github.atreia108.vega.core.IRemoteInterpolator
+ * IRemoteInterpolator}.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class Interpolation
+{
+	// Below this angle between two quaternions, spherical interpolation becomes
+	// numerically unstable and is indistinguishable from a linear blend.
+	private static final double SLERP_THRESHOLD = 0.9995;
+
+	private Interpolation()
+	{
+	}
+
+	/**
+	 * Linear interpolation between two values.
+	 */
+	public static double lerp(double from, double to, double alpha)
+	{
+		return from + (to - from) * alpha;
+	}
+
+	/**
+	 * Linear interpolation between two vectors of equal length, e.g. positions or
+	 * velocities.
+	 * 
+	 * @param from   the start vector.
+	 * @param to     the end vector.
+	 * @param alpha  weight of the end vector in the range [0, 1].
+	 * @param result array receiving the interpolated vector. It may be the same
+	 *               as either of the inputs.
+	 * @return the result array.
+	 */
+	public static double[] lerp(double[] from, double[] to, double alpha, double[] result)
+	{
+		for (int i = 0; i < result.length; ++i)
+			result[i] = lerp(from[i], to[i], alpha);
+
+		return result;
+	}
+
+	/**
+	 * Spherical linear interpolation between two unit quaternions stored as
+	 * <code>{scalar, x, y, z}</code>, i.e. the layout of the SpaceFOM
+	 * <code>AttitudeQuaternion</code>. The shorter of the two arcs is taken.
+	 * 
+	 * @param from   the start quaternion.
+	 * @param to     the end quaternion.
+	 * @param alpha  weight of the end quaternion in the range [0, 1].
+	 * @param result array of length 4 receiving the interpolated quaternion. It
+	 *               may be the same as either of the inputs.
+	 * @return the result array.
+	 */
+	public static double[] slerp(double[] from, double[] to, double alpha, double[] result)
+	{
+		double dot = from[0] * to[0] + from[1] * to[1] + from[2] * to[2] + from[3] * to[3];
+		double sign = 1.0;
+
+		if (dot < 0.0)
+		{
+			dot = -dot;
+			sign = -1.0;
+		}
+
+		double fromWeight;
+		double toWeight;
+
+		if (dot > SLERP_THRESHOLD)
+		{
+			fromWeight = 1.0 - alpha;
+			toWeight = alpha;
+		}
+		else
+		{
+			double theta = Math.acos(dot);
+			double sinTheta = Math.sin(theta);
+			fromWeight = Math.sin((1.0 - alpha) * theta) / sinTheta;
+			toWeight = Math.sin(alpha * theta) / sinTheta;
+		}
+
+		toWeight *= sign;
+
+		double s = fromWeight * from[0] + toWeight * to[0];
+		double x = fromWeight * from[1] + toWeight * to[1];
+		double y = fromWeight * from[2] + toWeight * to[2];
+		double z = fromWeight * from[3] + toWeight * to[3];
+
+		double norm = Math.sqrt(s * s + x * x + y * y + z * z);
+
+		result[0] = s / norm;
+		result[1] = x / norm;
+		result[2] = y / norm;
+		result[3] = z / norm;
+
+		return result;
+	}
+}
@@ -31,32 +31,55 @@
 
 package io.github.atreia108.vega.utils;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.Element;
-import org.dom4j.io.SAXReader;
 
 import io.github.atreia108.vega.core.HLASharingModel;
+import io.github.atreia108.vega.core.HLATrafficMonitor.ExportFormat;
 import io.github.atreia108.vega.core.IDataConverter;
 import io.github.atreia108.vega.core.IEntityArchetype;
 import io.github.atreia108.vega.core.IMultiDataConverter;
+import io.github.atreia108.vega.core.IRemoteInterpolator;
 import io.github.atreia108.vega.core.InteractionClassProfile;
 import io.github.atreia108.vega.core.ObjectClassProfile;
 import io.github.atreia108.vega.core.ProjectRegistry;
+import io.github.atreia108.vega.core.RegionProfile;
 
 /**
+ * <p>
  * Loader capable of parsing files that conform to the Vega Simulation Project
  * Format (VSPF). The project file is passed to the constructor of
  * {@link io.github.atreia108.vega.core.ASpaceFomSimulation AVegaSimulation} which in turn calls this class to load it.
+ * </p>
+ * 
+ * <p>
+ * The file is read in a single streaming pass, so no document tree is held in
+ * memory and errors are reported with the line they were found on. Elements may
+ * appear in any order: references to regions, the creation of archetypes,
+ * converters and interpolators, and the setup of the engine are completed once
+ * the end of the file has been reached.
+ * </p>
  * 
  * @author Hridyanshu Aatreya
  * @since 1.0.0
@@ -65,140 +88,253 @@ public final class ProjectLoader
 {
 	private static final Logger LOGGER = LogManager.getLogger();
 
-	private Document projectFile;
+	private final ProjectSettings settings = ProjectSettings.current();
+
+	private XMLStreamReader reader;
 
-	private Element simulationElement;
-	private Element rtiConfigurationElement;
-	private Element fomModulesElement;
-	private Element requiredObjectsElement;
-	private Element objectClassesElement;
-	private Element interactionClassesElement;
+	private boolean rtiConfigurationLoaded;
+	private boolean engineLoaded;
 
-	private Element engineElement;
+	// Work completed after the whole file has been read, with the line of the
+	// element that requested it.
+	private final List<RegionReference> regionReferences = new ArrayList<RegionReference>();
+	private final Map<String, Integer> archetypeNames = new LinkedHashMap<String, Integer>();
+	private final Map<String, Integer> dataConverterNames = new LinkedHashMap<String, Integer>();
+	private final Map<String, Integer> multiConverterNames = new LinkedHashMap<String, Integer>();
+	private final Map<String, Integer> interpolatorNames = new LinkedHashMap<String, Integer>();
 
 	private static final int DEFAULT_MIN_ENTITIES = 1000;
 	private static final int DEFAULT_MAX_ENTITIES = 5000;
 	private static final int DEFAULT_MIN_COMPONENTS = 75;
 	private static final int DEFAULT_MAX_COMPONENTS = 500;
 
+	private static final int DEFAULT_TRAFFIC_RATE_WINDOW = 2;
+
+	private record RegionReference(String elementName, String attributeName, String regionName, int line, Consumer<String> target)
+	{
+	}
+
+	private record ConverterReference(String converterName, Integer trigger)
+	{
+	}
+
 	public ProjectLoader(String projectFilePath)
 	{
 		long startTime = System.currentTimeMillis();
 		readFile(projectFilePath);
-		loadElements();
-		LOGGER.info("Successfully loaded the project \"{}\" in {}s", ProjectSettings.FEDERATE_NAME, duration(startTime));
+		LOGGER.info("Successfully loaded the project \"{}\" in {}s", settings.federateName, duration(startTime));
 	}
 
-	private void readFile(String filePath)
+	public ProjectLoader(IProjectSnapshot snapshot)
 	{
-		SAXReader reader = new SAXReader();
+		long startTime = System.currentTimeMillis();
 
 		try
 		{
-			projectFile = reader.read(filePath);
-			LOGGER.info("Loading project information from \"{}\"", filePath);
+			snapshot.apply();
+			setupEngine();
 		}
-		catch (DocumentException e)
+		catch (Exception e)
 		{
-			LOGGER.error("Project initialization failed\n[REASON]", e);
+			LOGGER.error("Project initialization failed\n[REASON] The project snapshot <{}> could not be applied", snapshot.getClass().getName(), e);
 			System.exit(1);
 		}
+
+		LOGGER.info("Successfully loaded the project \"{}\" from a snapshot in {}s", settings.federateName, duration(startTime));
 	}
 
-	private void loadElements()
+	private void readFile(String filePath)
 	{
-		// Items to be loaded into project settings
-		loadSimulationElement();
-		loadEngineElement();
-		loadRtiConfigElement();
-		loadFomModulesElement();
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+		try (InputStream input = new BufferedInputStream(new FileInputStream(filePath)))
+		{
+			reader = factory.createXMLStreamReader(input);
+			LOGGER.info("Loading project information from \"{}\"", filePath);
 
-		// Items to be loaded into the project registry
-		loadRequiredObjectsElement();
-		loadObjectClassesElement();
-		loadInteractionClassesElement();
+			loadElements();
+			reader.close();
+		}
+		catch (IOException | XMLStreamException e)
+		{
+			LOGGER.error("Project initialization failed\n[REASON]", e);
+			System.exit(1);
+		}
+
+		completeLoading();
 	}
 
-	private void loadSimulationElement()
+	private void loadElements() throws XMLStreamException
 	{
-		simulationElement = projectFile.getRootElement();
-		String projectName = simulationElement.attributeValue("Name");
-
-		if (simulationElement == null)
+		if (!nextChild() || !reader.getLocalName().equals("Simulation"))
 		{
 			LOGGER.error("Project initialization failed\n[REASON] The project file does not contain a root <Simulation> element");
 			System.exit(1);
 		}
 
-		nullOrEmptyAttribute("Simulation", "Name", projectName);
-		ProjectSettings.FEDERATE_NAME = projectName;
+		loadSimulationElement();
+
+		while (nextChild())
+		{
+			switch (reader.getLocalName())
+			{
+				// Items to be loaded into project settings
+				case "RtiConfiguration":
+					loadRtiConfigElement();
+					break;
+				case "FomModules":
+					loadFomModulesElement();
+					break;
+				case "Engine":
+					loadEngineElement();
+					break;
+				case "TimeManagement":
+					loadTimeManagementElement();
+					break;
+				case "Declaration":
+					loadDeclarationElement();
+					break;
+				case "Scheduler":
+					loadSchedulerElement();
+					break;
+				case "ReflectionBuffer":
+					loadReflectionBufferElement();
+					break;
+				case "ReferenceFrames":
+					loadReferenceFramesElement();
+					break;
+				case "SpaceFom":
+					loadSpaceFomElement();
+					break;
+				case "TrafficMonitor":
+					loadTrafficMonitorElement();
+					break;
+				case "PoolTelemetry":
+					loadPoolTelemetryElement();
+					break;
+
+				// Items to be loaded into the project registry
+				case "RequiredObjects":
+					loadRequiredObjectsElement();
+					break;
+				case "Regions":
+					loadRegionsElement();
+					break;
+				case "ObjectClasses":
+					loadObjectClassesElement();
+					break;
+				case "InteractionClasses":
+					loadInteractionClassesElement();
+					break;
+				default:
+					skipElement();
+					break;
+			}
+		}
 	}
 
-	private void loadRtiConfigElement()
+	private void completeLoading()
 	{
-		rtiConfigurationElement = simulationElement.element("RtiConfiguration");
-
-		if (rtiConfigurationElement == null)
+		if (!rtiConfigurationLoaded)
 		{
 			LOGGER.error("Project initialization failed\n[REASON] The project file does not contain an <RtiConfiguration> element");
 			System.exit(1);
 		}
 
-		String hostName = rtiConfigurationElement.attributeValue("Host");
+		if (settings.fomModules == null)
+			LOGGER.warn("No FOM modules are specified. Assuming no FOM data extensions are used in this simulation");
+
+		if (!engineLoaded)
+		{
+			LOGGER.warn("No parameters are specified for the simulation engine. Using default values instead.");
+			loadEngineElementDefaults();
+		}
+
+		setupEngine();
+
+		if (ProjectRegistry.getRequiredObjects() == null)
+			LOGGER.warn("No required objects are specified. Assuming there are no object instances that must be discovered before starting the simulation.");
+
+		if (ProjectRegistry.getObjectClassProfiles().isEmpty())
+			LOGGER.warn("No HLA object classes are specified. Automatic publish/subscribe will be skipped and no updates will be sent or received for any object");
+
+		if (ProjectRegistry.getInteractionClassProfiles().isEmpty())
+			LOGGER.warn("No HLA interaction classes are specified. Automatic publish/subscribe will be skipped and no interactions will be sent or received");
+
+		for (RegionReference reference : regionReferences)
+		{
+			if (ProjectRegistry.getRegion(reference.regionName()) == null)
+				failAt(reference.line(), "The region \"{}\" referenced by the \"{}\" attribute of the <{}> element is not defined in <Regions>", reference.regionName(), reference.attributeName(), reference.elementName());
+
+			reference.target().accept(reference.regionName());
+		}
+
+		archetypeNames.forEach(this::createArchetype);
+		dataConverterNames.forEach(this::createDataConverter);
+		multiConverterNames.forEach(this::createMultiDataConverter);
+		interpolatorNames.forEach(this::createInterpolator);
+
+		if (!settings.bufferedReflections)
+		{
+			for (ObjectClassProfile objectClass : ProjectRegistry.getObjectClassProfiles())
+			{
+				if (objectClass.interpolatorName != null)
+					LOGGER.warn("The interpolator \"{}\" for the HLA object class <{}> will not be used because the <ReflectionBuffer> is not enabled", objectClass.interpolatorName, objectClass.name);
+			}
+		}
+	}
+
+	private void loadSimulationElement() throws XMLStreamException
+	{
+		String projectName = attribute("Name");
+		nullOrEmptyAttribute("Simulation", "Name", projectName);
+		settings.federateName = projectName;
+	}
+
+	private void loadRtiConfigElement() throws XMLStreamException
+	{
+		String hostName = attribute("Host");
 		nullOrEmptyAttribute("RtiConfiguration", "Host", hostName);
 
-		String portNumber = rtiConfigurationElement.attributeValue("Port");
+		String portNumber = attribute("Port");
 		nullOrEmptyAttribute("RtiConfiguration", "Port", portNumber);
 
-		String federationName = rtiConfigurationElement.attributeValue("Federation");
+		String federationName = attribute("Federation");
 		nullOrEmptyAttribute("RtiConfiguration", "Federation", federationName);
 
-		ProjectSettings.HOST_NAME = hostName;
-		ProjectSettings.PORT_NUMBER = portNumber;
-		ProjectSettings.FEDERATION_NAME = federationName;
+		settings.hostName = hostName;
+		settings.portNumber = portNumber;
+		settings.federationName = federationName;
+
+		rtiConfigurationLoaded = true;
+		skipElement();
 	}
 
 	private void nullOrEmptyAttribute(String elementName, String attributeName, String attributeValue)
 	{
 		if (attributeValue == null || attributeValue.isEmpty())
-		{
-			LOGGER.error("Project initialization failed\n[REASON] The <{}> element is missing the \"{}\" attribute", elementName, attributeName);
-			System.exit(1);
-		}
+			fail("The <{}> element is missing the \"{}\" attribute", elementName, attributeName);
 	}
 
-	private void loadFomModulesElement()
+	private void loadFomModulesElement() throws XMLStreamException
 	{
-		fomModulesElement = simulationElement.element("FomModules");
-
-		if (fomModulesElement == null)
-		{
-			LOGGER.warn("No FOM modules are specified. Assuming no FOM data extensions are used in this simulation");
-			return;
-		}
+		Set<URL> fomFiles = new LinkedHashSet<URL>();
 
-		Iterator<Element> iterator = fomModulesElement.elementIterator();
-
-		if (!iterator.hasNext())
+		while (nextChild())
 		{
-			LOGGER.warn("No FOM modules are specified. Assuming no FOM data extensions are used in this simulation");
-			return;
-		}
-
-		Set<URL> fomFiles = new HashSet<URL>();
-
-		while (iterator.hasNext())
-		{
-			Element fomElement = iterator.next();
-			String filePath = fomElement.attributeValue("FilePath");
+			String filePath = attribute("FilePath");
 			nullOrEmptyAttribute("Fom", "FilePath", filePath);
 
 			URL fomUrl = fomPathToUrl(filePath);
 			fomFiles.add(fomUrl);
+
+			skipElement();
 		}
 
-		URL[] fomModules = toUrlArray(fomFiles);
-		ProjectSettings.FOM_MODULES = fomModules;
+		if (!fomFiles.isEmpty())
+			settings.fomModules = fomFiles.toArray(new URL[fomFiles.size()]);
 	}
 
 	private URL fomPathToUrl(String filePath)
@@ -206,10 +342,7 @@ public final class ProjectLoader
 		File file = new File(filePath);
 
 		if (!file.exists())
-		{
-			LOGGER.error("Project initialization failed\n[REASON] The FOM module \"{}\" was not found", filePath);
-			System.exit(1);
-		}
+			fail("The FOM module \"{}\" was not found", filePath);
 
 		URL fileUrl = null;
 
@@ -225,126 +358,172 @@ public final class ProjectLoader
 		return fileUrl;
 	}
 
-	private URL[] toUrlArray(Set<URL> urlSet)
+	private void loadRequiredObjectsElement() throws XMLStreamException
 	{
-		URL[] fomUrls = new URL[urlSet.size()];
-		int index = 0;
+		Set<String> requiredObjects = new LinkedHashSet<String>();
 
-		for (URL url : urlSet)
+		while (nextChild())
 		{
-			fomUrls[index++] = url;
+			if (elementNameCheck("Object"))
+			{
+				String objectName = attribute("Name");
+				nullOrEmptyAttribute("Object", "Name", objectName);
+				requiredObjects.add(objectName);
+			}
+
+			skipElement();
 		}
 
-		return fomUrls;
+		if (!requiredObjects.isEmpty())
+			ProjectRegistry.setRequiredObjects(requiredObjects);
 	}
 
-	private void loadRequiredObjectsElement()
+	private boolean elementNameCheck(String comparison)
 	{
-		requiredObjectsElement = simulationElement.element("RequiredObjects");
+		return reader.getLocalName().equals(comparison);
+	}
 
-		if (requiredObjectsElement == null)
+	private void loadRegionsElement() throws XMLStreamException
+	{
+		// DDM is optional. Without regions, all subscriptions and updates are
+		// class-wide.
+		while (nextChild())
 		{
-			LOGGER.warn("No required objects are specified. Assuming there are no object instances that must be discovered before starting the simulation.");
-			return;
+			if (elementNameCheck("Region"))
+				createRegion();
+			else
+				skipElement();
 		}
+	}
 
-		Iterator<Element> iterator = requiredObjectsElement.elementIterator();
+	private void createRegion() throws XMLStreamException
+	{
+		int regionLine = line();
+		String regionName = attribute("Name");
+		nullOrEmptyAttribute("Region", "Name", regionName);
 
-		if (!iterator.hasNext())
+		if (ProjectRegistry.getRegion(regionName) != null)
 		{
-			LOGGER.warn("No required objects are specified. Assuming there are no object instances that must be discovered before starting the simulation.");
+			LOGGER.warn("Skipping duplicate definition for the region \"{}\" (line {})", regionName, regionLine);
+			skipElement();
 			return;
 		}
 
-		Set<String> requiredObjects = new HashSet<String>();
+		RegionProfile region = new RegionProfile(regionName);
 
-		while (iterator.hasNext())
+		while (nextChild())
 		{
-			Element requiredObjectElement = iterator.next();
-
-			if (elementNameCheck(requiredObjectElement, "Object"))
+			if (!elementNameCheck("Dimension"))
 			{
-				String objectName = requiredObjectElement.attributeValue("Name");
-				nullOrEmptyAttribute("Object", "Name", objectName);
-				requiredObjects.add(objectName);
+				skipElement();
+				continue;
 			}
+
+			String dimensionName = attribute("Name");
+			nullOrEmptyAttribute("Dimension", "Name", dimensionName);
+
+			String lower = attribute("Lower");
+			nullOrEmptyAttribute("Dimension", "Lower", lower);
+
+			String upper = attribute("Upper");
+			nullOrEmptyAttribute("Dimension", "Upper", upper);
+
+			long lowerBound = toLong("Lower", lower);
+			long upperBound = toLong("Upper", upper);
+
+			if (lowerBound < 0 || !(lowerBound < upperBound))
+				fail("The bounds [{}, {}) of the dimension \"{}\" in the region \"{}\" are invalid", lowerBound, upperBound, dimensionName, regionName);
+
+			region.addDimension(dimensionName, lowerBound, upperBound);
+			skipElement();
 		}
 
-		ProjectRegistry.requiredObjects = requiredObjects;
+		if (region.getDimensionNames().isEmpty())
+			failAt(regionLine, "The region \"{}\" does not contain any <Dimension> element", regionName);
+
+		ProjectRegistry.addRegion(region);
 	}
 
-	private boolean elementNameCheck(Element element, String comparison)
+	private void regionNames(String elementName, String attributeName, String value, int line, Consumer<String> target)
 	{
-		String elementName = element.getName();
+		if (value == null || value.isEmpty())
+			return;
 
-		if (elementName.equals(comparison))
-			return true;
-		else
-			return false;
+		for (String regionName : value.trim().split("\\s*,\\s*"))
+			regionReferences.add(new RegionReference(elementName, attributeName, regionName, line, target));
 	}
 
-	private void loadObjectClassesElement()
+	private void loadObjectClassesElement() throws XMLStreamException
 	{
-		objectClassesElement = simulationElement.element("ObjectClasses");
-
-		if (objectClassesElement == null)
+		while (nextChild())
 		{
-			LOGGER.warn("No HLA object classes are specified. Automatic publish/subscribe will be skipped and no updates will be sent or received for any object");
-			return;
+			if (elementNameCheck("ObjectClass"))
+				createObjectClass();
+			else
+				skipElement();
 		}
+	}
 
-		Iterator<Element> iterator = objectClassesElement.elementIterator();
+	private void createObjectClass() throws XMLStreamException
+	{
+		int classLine = line();
+		String className = attribute("Name");
+		nullOrEmptyAttribute("ObjectClass", "Name", className);
 
-		if (!iterator.hasNext())
+		// Registry lookups are indexed by name, so duplicate detection is constant
+		// time regardless of the number of classes.
+		if (ProjectRegistry.getObjectClass(className) != null)
 		{
-			LOGGER.warn("No HLA object classes are specified. Automatic publish/subscribe will be skipped and no updates will be sent or received for any object");
+			LOGGER.warn("Skipping duplicate definition for the HLA object class <{}> (line {})", className, classLine);
+			skipElement();
 			return;
 		}
 
-		while (iterator.hasNext())
-			createObjectClass(iterator.next());
-	}
-
-	private void createObjectClass(Element objectClassElement)
-	{
-		if (elementNameCheck(objectClassElement, "ObjectClass"))
-		{
-			String className = objectClassElement.attributeValue("Name");
-			nullOrEmptyAttribute("ObjectClass", "Name", className);
+		String archetypeName = attribute("Archetype");
+		String interpolatorName = attribute("Interpolator");
+		String subscriptionRegions = attribute("SubscriptionRegions");
+		String updateRegions = attribute("UpdateRegions");
 
-			if (duplicateObjectClass(className))
-			{
-				LOGGER.warn("Skipping duplicate definition for the HLA object class <{}>", className);
-				return;
-			}
+		ObjectClassProfile newObjectClass = new ObjectClassProfile(className, null, true);
+		boolean hasChildren = false;
 
-			Element declarationElement = objectClassElement.element("DeclarationDisabled");
-			ObjectClassProfile newObjectClass = null;
+		while (nextChild())
+		{
+			hasChildren = true;
 
-			if (declarationElement != null)
-				newObjectClass = new ObjectClassProfile(className, null, false);
+			if (elementNameCheck("Attribute"))
+				loadObjectAttribute(newObjectClass);
 			else
-				newObjectClass = new ObjectClassProfile(className, null, true);
+			{
+				if (elementNameCheck("DeclarationDisabled"))
+					newObjectClass.declareAutomatically = false;
 
-			loadObjectAttributes(objectClassElement, newObjectClass);
+				skipElement();
+			}
+		}
 
-			ProjectRegistry.addObjectClass(newObjectClass);
+		if (!hasChildren)
+			LOGGER.warn("No attributes specified for the HLA object class <" + newObjectClass.name + "> (line {}). Updates for instances of this type will likely not be sent or received", classLine);
+		else if (newObjectClass.getSubscribeableAttributeNames().size() > 0)
+		{
+			// This is when an archetype becomes a necessity for the Object Class.
+			setObjectClassArchetype(newObjectClass, archetypeName, classLine);
+			setObjectClassInterpolator(newObjectClass, interpolatorName, classLine);
 		}
-	}
 
-	private boolean duplicateObjectClass(String className)
-	{
-		if (ProjectRegistry.getObjectClass(className) != null)
-			return true;
-		else
-			return false;
+		regionNames("ObjectClass", "SubscriptionRegions", subscriptionRegions, classLine, newObjectClass::addSubscriptionRegion);
+		regionNames("ObjectClass", "UpdateRegions", updateRegions, classLine, newObjectClass::addUpdateRegion);
+
+		ProjectRegistry.addObjectClass(newObjectClass);
 	}
 
 	private boolean classExists(String className)
 	{
 		try
 		{
-			Class.forName(className);
+			// Classes are only checked here; they are initialized when instantiated
+			// at the end of loading.
+			Class.forName(className, false, ProjectLoader.class.getClassLoader());
 			return true;
 		}
 		catch (Exception e)
@@ -353,8 +532,11 @@ public final class ProjectLoader
 		}
 	}
 
-	private void createArchetype(String archetypeName)
+	private void createArchetype(String archetypeName, int line)
 	{
+		if (ProjectRegistry.getArchetype(archetypeName) != null)
+			return;
+
 		try
 		{
 			Class<?> archetypeClass = Class.forName(archetypeName);
@@ -363,82 +545,86 @@ public final class ProjectLoader
 		}
 		catch (ClassCastException e)
 		{
-			LOGGER.error("Project Initialization failed\n[REASON] Could not create the Entity Archetype \"{}\". The Java class provided as source is not of the type <IEntityArchetype>", archetypeName);
-			System.exit(1);
+			failAt(line, "Could not create the Entity Archetype \"{}\". The Java class provided as source is not of the type <IEntityArchetype>", archetypeName);
 		}
 		catch (Exception e)
 		{
-			LOGGER.error("Project initialization failed\n[REASON]", e);
-			System.exit(1);
+			failAt(line, "Could not create the Entity Archetype \"{}\"", archetypeName, e);
 		}
 	}
 
-	private void loadObjectAttributes(Element objectClassElement, ObjectClassProfile objectClass)
+	private void setObjectClassInterpolator(ObjectClassProfile objectClass, String interpolatorName, int line)
 	{
-		Iterator<Element> iterator = objectClassElement.elementIterator();
-
-		if (!iterator.hasNext())
-		{
-			LOGGER.warn("No attributes specified for the HLA object class <" + objectClass.name + ">. Updates for instances of this type will likely not be sent or received");
+		if (interpolatorName == null || interpolatorName.isEmpty())
 			return;
-		}
 
-		while (iterator.hasNext())
-		{
-			Element nextElement = iterator.next();
-			if (elementNameCheck(nextElement, "Attribute"))
-				loadObjectAttribute(nextElement, objectClass);
-		}
+		if (!classExists(interpolatorName))
+			failAt(line, "The interpolator \"{}\" for the HLA object class <{}> was not found", interpolatorName, objectClass.name);
 
-		// This is when an archetype becomes a necessity for the Object Class.
-		if (objectClass.getSubscribeableAttributeNames().size() > 0)
-			setObjectClassArchetype(objectClassElement, objectClass);
+		interpolatorNames.putIfAbsent(interpolatorName, line);
+		objectClass.interpolatorName = interpolatorName;
 	}
 
-	private void setObjectClassArchetype(Element objectClassElement, ObjectClassProfile objectClass)
+	private void createInterpolator(String interpolatorName, int line)
 	{
-		String archetypeName = objectClassElement.attributeValue("Archetype");
-		nullOrEmptyAttribute("ObjectClass", "Archetype", archetypeName);
+		if (ProjectRegistry.getInterpolator(interpolatorName) != null)
+			return;
 
-		if (!classExists(archetypeName))
+		try
 		{
-			LOGGER.error("Project initialization failed\n[REASON] The archetype \"{}\" for the HLA object class <{}> was not found", archetypeName, objectClass.name);
-			System.exit(1);
+			Class<?> interpolatorClass = Class.forName(interpolatorName);
+			IRemoteInterpolator<?> interpolator = (IRemoteInterpolator<?>) interpolatorClass.getDeclaredConstructor().newInstance();
+			ProjectRegistry.addInterpolator(interpolatorName, interpolator);
+		}
+		catch (ClassCastException e)
+		{
+			failAt(line, "Could not create the interpolator \"{}\". The Java class provided as source is not of the type <IRemoteInterpolator>", interpolatorName);
 		}
+		catch (Exception e)
+		{
+			failAt(line, "Could not create the interpolator \"{}\"", interpolatorName, e);
+		}
+	}
+
+	private void setObjectClassArchetype(ObjectClassProfile objectClass, String archetypeName, int line)
+	{
+		if (archetypeName == null || archetypeName.isEmpty())
+			failAt(line, "The <{}> element is missing the \"{}\" attribute", "ObjectClass", "Archetype");
 
-		if (!archetypeCreated(archetypeName))
-			createArchetype(archetypeName);
+		if (!classExists(archetypeName))
+			failAt(line, "The archetype \"{}\" for the HLA object class <{}> was not found", archetypeName, objectClass.name);
 
+		archetypeNames.putIfAbsent(archetypeName, line);
 		objectClass.archetypeName = archetypeName;
 	}
 
-	private void loadObjectAttribute(Element attributeElement, ObjectClassProfile objectClass)
+	private void loadObjectAttribute(ObjectClassProfile objectClass) throws XMLStreamException
 	{
-		String objectAttributeName = attributeElement.attributeValue("Name");
+		String objectAttributeName = attribute("Name");
 		nullOrEmptyAttribute("Attribute", "Name", objectAttributeName);
 
-		if (duplicateObjectAttribute(objectClass, objectAttributeName))
+		if (objectClass.attributeNames.contains(objectAttributeName))
 		{
-			LOGGER.warn("Skipping duplicate attribute definition \"{}\" in the HLA object class <{}>", objectAttributeName, objectClass.name);
+			LOGGER.warn("Skipping duplicate attribute definition \"{}\" in the HLA object class <{}> (line {})", objectAttributeName, objectClass.name, line());
+			skipElement();
 			return;
 		}
 
-		String sharingIntentValue = attributeElement.attributeValue("Sharing");
-		nullOrEmptyAttribute("Attribute", "Sharing", objectAttributeName);
+		String sharingIntentValue = attribute("Sharing");
+		nullOrEmptyAttribute("Attribute", "Sharing", sharingIntentValue);
 		HLASharingModel sharingModel = sharingModelValue(sharingIntentValue);
 
 		objectClass.addAttribute(objectAttributeName, sharingModel);
 
-		loadAttributeConverter(attributeElement, objectAttributeName, objectClass);
-	}
+		int attributeLine = line();
+		ConverterReference converter = loadConverter();
 
-	private boolean duplicateObjectAttribute(ObjectClassProfile objectClass, String objectAttributeName)
-	{
-		boolean exists = objectClass.attributeNames.contains(objectAttributeName);
-		if (exists)
-			return true;
+		if (converter == null)
+			failAt(attributeLine, "The attribute \"{}\" of the HLA object class <{}> does not contain a <DataConverter> element", objectAttributeName, objectClass.name);
+		else if (converter.trigger() == null)
+			objectClass.addConverter(objectAttributeName, converter.converterName());
 		else
-			return false;
+			objectClass.addMultiConverter(objectAttributeName, converter.converterName(), converter.trigger());
 	}
 
 	private HLASharingModel sharingModelValue(String sharingValue)
@@ -459,44 +645,54 @@ public final class ProjectLoader
 	private void sharingModelCheck(String sharingValue)
 	{
 		if (!(sharingValue.equals("Publish") || sharingValue.equals("Subscribe") || sharingValue.equals("PublishSubscribe")))
-		{
-			LOGGER.error("Project initialization failed\n[REASON] Unrecognized value \"{}\" for the \"Sharing\" attribute. Only \"Publish\", \"Subscribe\" or \"PublishSubscribe\" are considered valid", sharingValue);
-			System.exit(1);
-		}
+			fail("Unrecognized value \"{}\" for the \"Sharing\" attribute. Only \"Publish\", \"Subscribe\" or \"PublishSubscribe\" are considered valid", sharingValue);
 	}
 
-	private void loadAttributeConverter(Element attributeElement, String objectAttributeName, ObjectClassProfile objectClass)
+	/**
+	 * Read the children of an attribute or parameter element, returning the data
+	 * converter declared among them.
+	 */
+	private ConverterReference loadConverter() throws XMLStreamException
 	{
-		Element converterElement = attributeElement.element("DataConverter");
-		String converterClassName = converterElement.attributeValue("Source");
-		nullOrEmptyAttribute("DataConverter", "Source", converterClassName);
+		ConverterReference converter = null;
 
-		String converterTrigger = converterElement.attributeValue("Trigger");
-
-		if (converterTrigger == null)
+		while (nextChild())
 		{
-			if (!converterCreated(converterClassName))
+			if (elementNameCheck("DataConverter") && converter == null)
 			{
-				classExists(converterClassName);
-				createDataConverter(converterClassName);
+				int converterLine = line();
+
+				String converterClassName = attribute("Source");
+				nullOrEmptyAttribute("DataConverter", "Source", converterClassName);
+
+				if (!classExists(converterClassName))
+					fail("The data converter \"{}\" was not found", converterClassName);
+
+				String converterTrigger = attribute("Trigger");
+
+				if (converterTrigger == null)
+				{
+					dataConverterNames.putIfAbsent(converterClassName, converterLine);
+					converter = new ConverterReference(converterClassName, null);
+				}
+				else
+				{
+					multiConverterNames.putIfAbsent(converterClassName, converterLine);
+					converter = new ConverterReference(converterClassName, toInteger("Trigger", converterTrigger));
+				}
 			}
-			objectClass.addConverter(objectAttributeName, converterClassName);
-		}
-		else
-		{
-			int triggerValue = toInteger("Trigger", converterTrigger);
 
-			if (!multiConverterCreated(converterClassName))
-			{
-				classExists(converterClassName);
-				createMultiDataConverter(converterClassName);
-			}
-			objectClass.addMultiConverter(objectAttributeName, converterClassName, triggerValue);
+			skipElement();
 		}
+
+		return converter;
 	}
 
-	private void createDataConverter(String converterName)
+	private void createDataConverter(String converterName, int line)
 	{
+		if (ProjectRegistry.getDataConverter(converterName) != null)
+			return;
+
 		try
 		{
 			Class<?> converterClass = Class.forName(converterName);
@@ -505,18 +701,19 @@ public final class ProjectLoader
 		}
 		catch (ClassCastException e)
 		{
-			LOGGER.error("Project Initialization failed\n[REASON] Could not create the data converter \"{}\". The Java class provided as source is not of the type <IDataConverter>", converterName);
-			System.exit(1);
+			failAt(line, "Could not create the data converter \"{}\". The Java class provided as source is not of the type <IDataConverter>", converterName);
 		}
 		catch (Exception e)
 		{
-			LOGGER.error("Project initialization failed\n[REASON]", e);
-			System.exit(1);
+			failAt(line, "Could not create the data converter \"{}\"", converterName, e);
 		}
 	}
 
-	private void createMultiDataConverter(String converterName)
+	private void createMultiDataConverter(String converterName, int line)
 	{
+		if (ProjectRegistry.getMultiConverter(converterName) != null)
+			return;
+
 		try
 		{
 			Class<?> multiConverterClass = Class.forName(converterName);
@@ -525,284 +722,315 @@ public final class ProjectLoader
 		}
 		catch (ClassCastException e)
 		{
-			LOGGER.error("Project Initialization failed\n[REASON] Could not create the data converter \"{}\". The Java class provided as source is not of the type <IMultiDataConverter>", converterName);
-			System.exit(1);
+			failAt(line, "Could not create the data converter \"{}\". The Java class provided as source is not of the type <IMultiDataConverter>", converterName);
 		}
 		catch (Exception e)
 		{
-			LOGGER.error("Project initialization failed\n[REASON]", e);
-			System.exit(1);
+			failAt(line, "Could not create the data converter \"{}\"", converterName, e);
 		}
 	}
 
-	private void loadInteractionClassesElement()
+	private void loadInteractionClassesElement() throws XMLStreamException
 	{
-		interactionClassesElement = simulationElement.element("InteractionClasses");
-
-		if (interactionClassesElement == null)
+		while (nextChild())
 		{
-			LOGGER.warn("No HLA interaction classes are specified. Automatic publish/subscribe will be skipped and no interactions will be sent or received");
-			return;
+			if (elementNameCheck("InteractionClass"))
+				createInteractionClass();
+			else
+				skipElement();
 		}
+	}
 
-		Iterator<Element> iterator = interactionClassesElement.elementIterator();
+	private void createInteractionClass() throws XMLStreamException
+	{
+		int classLine = line();
+		String className = attribute("Name");
+		nullOrEmptyAttribute("InteractionClass", "Name", className);
 
-		if (!iterator.hasNext())
+		if (ProjectRegistry.getInteractionClass(className) != null)
 		{
-			LOGGER.warn("No HLA interaction classes are specified. Automatic publish/subscribe will be skipped and no interactions will be sent or received");
+			LOGGER.warn("Skipping duplicate definition for the HLA interaction class <{}> (line {})", className, classLine);
+			skipElement();
 			return;
 		}
 
-		while (iterator.hasNext())
-			createInteractionClass(iterator.next());
-	}
+		String sharingIntentValue = attribute("Sharing");
+		nullOrEmptyAttribute("InteractionClass", "Sharing", sharingIntentValue);
+		HLASharingModel sharingModel = sharingModelValue(sharingIntentValue);
 
-	private void createInteractionClass(Element interactionClassElement)
-	{
-		if (elementNameCheck(interactionClassElement, "InteractionClass"))
+		String archetypeName = attribute("Archetype");
+		String subscriptionRegions = attribute("SubscriptionRegions");
+		String updateRegions = attribute("UpdateRegions");
+
+		InteractionClassProfile newInteractionClass = new InteractionClassProfile(className, null, sharingModel, true);
+		boolean hasChildren = false;
+
+		while (nextChild())
 		{
-			String className = interactionClassElement.attributeValue("Name");
-			nullOrEmptyAttribute("InteractionClass", "Name", className);
+			hasChildren = true;
 
-			if (duplicateInteractionClass(className))
+			if (elementNameCheck("Parameter"))
+				createInteractionParameter(newInteractionClass);
+			else
 			{
-				LOGGER.warn("Skipping duplicate definition for the HLA interaction class <{}>", className);
-				return;
+				if (elementNameCheck("DeclarationDisabled"))
+					newInteractionClass.declareAutomatically = false;
+
+				skipElement();
 			}
+		}
 
-			String sharingIntentValue = interactionClassElement.attributeValue("Sharing");
-			nullOrEmptyAttribute("InteractionClass", "Sharing", sharingIntentValue);
-			HLASharingModel sharingModel = sharingModelValue(sharingIntentValue);
+		if (!hasChildren)
+			LOGGER.warn("No parameters specified for the HLA interaction class <" + newInteractionClass.name + "> (line {}). Interactions of this type will likely not be received", classLine);
+		else if (sharingModel == HLASharingModel.PUBLISH_SUBSCRIBE || sharingModel == HLASharingModel.SUBSCRIBE_ONLY)
+			setInteractionClassArchetype(newInteractionClass, archetypeName, classLine);
 
-			Element declarationElement = interactionClassElement.element("DeclarationDisabled");
-			InteractionClassProfile newInteractionClass = null;
+		regionNames("InteractionClass", "SubscriptionRegions", subscriptionRegions, classLine, newInteractionClass::addSubscriptionRegion);
+		regionNames("InteractionClass", "UpdateRegions", updateRegions, classLine, newInteractionClass::addUpdateRegion);
 
-			if (declarationElement != null)
-				newInteractionClass = new InteractionClassProfile(className, null, sharingModel, false);
-			else
-				newInteractionClass = new InteractionClassProfile(className, null, sharingModel, true);
+		ProjectRegistry.addInteractionClass(newInteractionClass);
+	}
 
-			loadInteractionParameters(interactionClassElement, newInteractionClass);
+	private void createInteractionParameter(InteractionClassProfile interactionClass) throws XMLStreamException
+	{
+		String interactionParameterName = attribute("Name");
+		nullOrEmptyAttribute("Parameter", "Name", interactionParameterName);
 
-			ProjectRegistry.addInteractionClass(newInteractionClass);
+		if (interactionClass.parameterNames.contains(interactionParameterName))
+		{
+			LOGGER.warn("Skipping duplicate parameter definition \"{}\" in the HLA interaction class <{}> (line {})", interactionParameterName, interactionClass.name, line());
+			skipElement();
+			return;
 		}
-	}
 
-	private boolean duplicateInteractionClass(String className)
-	{
-		if (ProjectRegistry.getInteractionClass(className) != null)
-			return true;
+		interactionClass.addParameter(interactionParameterName);
+
+		int parameterLine = line();
+		ConverterReference converter = loadConverter();
+
+		if (converter == null)
+			failAt(parameterLine, "The parameter \"{}\" of the HLA interaction class <{}> does not contain a <DataConverter> element", interactionParameterName, interactionClass.name);
+		else if (converter.trigger() == null)
+			interactionClass.addConverter(interactionParameterName, converter.converterName());
 		else
-			return false;
+			interactionClass.addMultiConverter(interactionParameterName, converter.converterName(), converter.trigger());
 	}
 
-	private boolean archetypeCreated(String archetypeName)
+	private void setInteractionClassArchetype(InteractionClassProfile interactionClass, String archetypeName, int line)
 	{
-		if (ProjectRegistry.getArchetype(archetypeName) != null)
-			return true;
-		else
-			return false;
+		if (archetypeName == null || archetypeName.isEmpty())
+			failAt(line, "The <{}> element is missing the \"{}\" attribute", "InteractionClass", "Archetype");
+
+		if (!classExists(archetypeName))
+			failAt(line, "The archetype \"{}\" for the HLA interaction class <{}> was not found", archetypeName, interactionClass.name);
+
+		archetypeNames.putIfAbsent(archetypeName, line);
+		interactionClass.archetypeName = archetypeName;
 	}
 
-	private void loadInteractionParameters(Element interactionClassElement, InteractionClassProfile interactionClass)
+	private void loadEngineElement() throws XMLStreamException
 	{
-		Iterator<Element> iterator = interactionClassElement.elementIterator();
+		String minEntities = attribute("MinEntities");
+		String maxEntities = attribute("MaxEntities");
+		String minComponents = attribute("MinComponents");
+		String maxComponents = attribute("MaxComponents");
 
-		if (!iterator.hasNext())
+		// The ECS world needs to be initialized with certain starting parameters. If
+		// these are absent from the project file, load stored defaults.
+		if (minEntities == null || minEntities.isEmpty())
 		{
-			LOGGER.warn("No parameters specified for the HLA interaction class <" + interactionClass.name + ">. Interactions of this type will likely not be received");
-			return;
+			settings.minEntities = DEFAULT_MIN_ENTITIES;
+			LOGGER.warn("Missing MinEntities attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MIN_ENTITIES);
+		}
+		else
+			settings.minEntities = toInteger("MinEntities", minEntities);
+
+		if (maxEntities == null || maxEntities.isEmpty())
+		{
+			settings.maxEntities = DEFAULT_MAX_ENTITIES;
+			LOGGER.warn("Missing MaxEntities attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MAX_ENTITIES);
+		}
+		else
+			settings.maxEntities = toInteger("MaxEntities", maxEntities);
+
+		if (minComponents == null || minComponents.isEmpty())
+		{
+			settings.minComponents = DEFAULT_MIN_COMPONENTS;
+			LOGGER.warn("Missing MinComponents attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MIN_COMPONENTS);
 		}
+		else
+			settings.minComponents = toInteger("MinComponents", minComponents);
 
-		while (iterator.hasNext())
+		if (maxComponents == null || maxComponents.isEmpty())
 		{
-			Element nextElement = iterator.next();
-			if (elementNameCheck(nextElement, "Parameter"))
-				createInteractionParameter(nextElement, interactionClass);
+			settings.maxComponents = DEFAULT_MAX_COMPONENTS;
+			LOGGER.warn("Missing MaxComponents attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MAX_COMPONENTS);
 		}
+		else
+			settings.maxComponents = toInteger("MaxComponents", maxComponents);
+
+		boundsCheck("MinEntities", "MaxEntities", settings.minEntities, settings.maxEntities);
+		boundsCheck("MinComponents", "MaxComponents", settings.minComponents, settings.maxComponents);
 
-		if (interactionClass.sharingModel == HLASharingModel.PUBLISH_SUBSCRIBE || interactionClass.sharingModel == HLASharingModel.SUBSCRIBE_ONLY)
-			setInteractionClassArchetype(interactionClassElement, interactionClass);
+		engineLoaded = true;
+		skipElement();
 	}
 
-	private void createInteractionParameter(Element parameterElement, InteractionClassProfile interactionClass)
+	private void loadTimeManagementElement() throws XMLStreamException
 	{
-		String interactionParameterName = parameterElement.attributeValue("Name");
-		nullOrEmptyAttribute("Parameter", "Name", interactionParameterName);
-
-		if (duplicateInteractionParameter(interactionClass, interactionParameterName))
+		String pipelined = attribute("Pipelined");
+		if (pipelined != null && !pipelined.isEmpty())
+			settings.pipelinedTimeAdvance = toBoolean("Pipelined", pipelined);
+
+		// Both values are validated against the least common time step (LCTS) once
+		// it is received from the ExCO object instance.
+		String timeStepMultiple = attribute("TimeStepMultiple");
+		if (timeStepMultiple != null && !timeStepMultiple.isEmpty())
 		{
-			LOGGER.warn("Skipping duplicate parameter definition \"{}\" in the HLA interaction class <{}>", interactionParameterName, interactionClass.name);
-			return;
+			settings.timeStepMultiple = toInteger("TimeStepMultiple", timeStepMultiple);
+			positiveCheck("TimeStepMultiple", settings.timeStepMultiple);
 		}
 
-		interactionClass.addParameter(interactionParameterName);
+		String lookAhead = attribute("Lookahead");
+		if (lookAhead != null && !lookAhead.isEmpty())
+		{
+			settings.lookahead = toLong("Lookahead", lookAhead);
+			positiveCheck("Lookahead", settings.lookahead);
+		}
 
-		loadParameterConverter(parameterElement, interactionParameterName, interactionClass);
+		skipElement();
 	}
 
-	private boolean duplicateInteractionParameter(InteractionClassProfile interactionClass, String parameterName)
+	private void loadDeclarationElement() throws XMLStreamException
 	{
-		boolean exists = interactionClass.parameterNames.contains(parameterName);
-		if (exists)
-			return true;
-		else
-			return false;
+		String parallelism = attribute("Parallelism");
+		nullOrEmptyAttribute("Declaration", "Parallelism", parallelism);
+		settings.declarationParallelism = toInteger("Parallelism", parallelism);
+		positiveCheck("Parallelism", settings.declarationParallelism);
+
+		skipElement();
 	}
 
-	private void loadParameterConverter(Element parameterElement, String parameterName, InteractionClassProfile interactionClass)
+	private void loadSchedulerElement() throws XMLStreamException
 	{
-		Element converterElement = parameterElement.element("DataConverter");
-		String converterClassName = converterElement.attributeValue("Source");
-		nullOrEmptyAttribute("DataConverter", "Source", converterClassName);
+		String parallelism = attribute("Parallelism");
+		nullOrEmptyAttribute("Scheduler", "Parallelism", parallelism);
+		settings.schedulerParallelism = toInteger("Parallelism", parallelism);
+		positiveCheck("Parallelism", settings.schedulerParallelism);
 
-		String converterTrigger = converterElement.attributeValue("Trigger");
+		skipElement();
+	}
 
-		if (converterTrigger == null)
-		{
-			if (!converterCreated(converterClassName))
-			{
-				classExists(converterClassName);
-				createDataConverter(converterClassName);
-			}
-			interactionClass.addConverter(parameterName, converterClassName);
-		}
-		else
-		{
-			int triggerValue = toInteger("Trigger", converterTrigger);
+	private void loadReflectionBufferElement() throws XMLStreamException
+	{
+		String enabled = attribute("Enabled");
+		nullOrEmptyAttribute("ReflectionBuffer", "Enabled", enabled);
+		settings.bufferedReflections = toBoolean("Enabled", enabled);
 
-			if (!multiConverterCreated(converterClassName))
-			{
-				classExists(converterClassName);
-				createMultiDataConverter(converterClassName);
-			}
-			interactionClass.addMultiConverter(parameterName, converterClassName, triggerValue);
-		}
+		skipElement();
 	}
 
-	private void setInteractionClassArchetype(Element interactionClassElement, InteractionClassProfile interactionClass)
+	private void loadPoolTelemetryElement() throws XMLStreamException
 	{
-		String archetypeName = interactionClassElement.attributeValue("Archetype");
-		nullOrEmptyAttribute("InteractionClass", "Archetype", archetypeName);
+		String enabled = attribute("Enabled");
+		nullOrEmptyAttribute("PoolTelemetry", "Enabled", enabled);
+		settings.poolTelemetry = toBoolean("Enabled", enabled);
 
-		if (!classExists(archetypeName))
-		{
-			LOGGER.error("Project initialization failed\n[REASON] The archetype \"{}\" for the HLA interaction class <{}> was not found", archetypeName, interactionClass.name);
-			System.exit(1);
-		}
-
-		if (!archetypeCreated(archetypeName))
-			createArchetype(archetypeName);
+		String autoTune = attribute("AutoTune");
+		if (autoTune != null && !autoTune.isEmpty())
+			settings.poolAutoTuning = toBoolean("AutoTune", autoTune);
 
-		interactionClass.archetypeName = archetypeName;
+		skipElement();
 	}
 
-	private boolean converterCreated(String converterName)
+	private void loadReferenceFramesElement() throws XMLStreamException
 	{
-		if (ProjectRegistry.getDataConverter(converterName) != null)
-			return true;
-		else
-			return false;
-	}
+		String enabled = attribute("Enabled");
+		nullOrEmptyAttribute("ReferenceFrames", "Enabled", enabled);
+		settings.referenceFrames = toBoolean("Enabled", enabled);
 
-	private boolean multiConverterCreated(String converterName)
-	{
-		if (ProjectRegistry.getMultiConverter(converterName) != null)
-			return true;
-		else
-			return false;
+		skipElement();
 	}
 
-	private void loadEngineElement()
+	private void loadSpaceFomElement() throws XMLStreamException
 	{
-		engineElement = simulationElement.element("Engine");
+		String byteOrder = attribute("ByteOrder");
+		nullOrEmptyAttribute("SpaceFom", "ByteOrder", byteOrder);
 
-		// The ECS world needs to be initialized with certain starting parameters. If
-		// these are absent from the project file, load stored defaults.
-		if (engineElement == null)
-		{
-			LOGGER.warn("No parameters are specified for the simulation engine. Using default values instead.");
-			loadEngineElementDefaults();
+		if (byteOrder.equalsIgnoreCase("LittleEndian"))
+			settings.spaceFomByteOrder = ByteOrder.LITTLE_ENDIAN;
+		else if (byteOrder.equalsIgnoreCase("BigEndian"))
+			settings.spaceFomByteOrder = ByteOrder.BIG_ENDIAN;
+		else
+			fail("Unrecognized value \"{}\" for the \"ByteOrder\" attribute of the <SpaceFom> element. Only \"LittleEndian\" or \"BigEndian\" are considered valid", byteOrder);
 
-			setupEngine();
-			return;
-		}
+		skipElement();
+	}
 
-		String minEntities = engineElement.attributeValue("MinEntities");
-		String maxEntities = engineElement.attributeValue("MaxEntities");
-		String minComponents = engineElement.attributeValue("MinComponents");
-		String maxComponents = engineElement.attributeValue("MaxComponents");
+	private void positiveCheck(String attributeName, long value)
+	{
+		if (value < 1)
+			fail("Cannot accept a value ({}) for \"{}\" that is not a positive number", value, attributeName);
+	}
 
-		if (minEntities == null || minEntities.isEmpty())
-		{
-			ProjectSettings.MIN_ENTITIES = DEFAULT_MIN_ENTITIES;
-			LOGGER.warn("Missing MinEntities attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MIN_ENTITIES);
-		}
+	private void loadTrafficMonitorElement() throws XMLStreamException
+	{
+		// Traffic counters are always maintained. The element only controls periodic
+		// sampling of rates and exporting of the counters.
+		String interval = attribute("Interval");
+		nullOrEmptyAttribute("TrafficMonitor", "Interval", interval);
+		settings.trafficSamplingInterval = toInteger("Interval", interval);
+
+		if (settings.trafficSamplingInterval < 1)
+			fail("Cannot accept a value ({}) for \"Interval\" in the <TrafficMonitor> element that is less than 1 second", settings.trafficSamplingInterval);
+
+		String window = attribute("Window");
+		if (window == null || window.isEmpty())
+			settings.trafficRateWindow = DEFAULT_TRAFFIC_RATE_WINDOW;
 		else
-			ProjectSettings.MIN_ENTITIES = toInteger("MinEntities", minEntities);
+			settings.trafficRateWindow = toInteger("Window", window);
 
-		if (maxEntities == null || maxEntities.isEmpty())
+		String exportFile = attribute("ExportFile");
+		if (exportFile != null && !exportFile.isEmpty())
 		{
-			ProjectSettings.MAX_ENTITIES = DEFAULT_MAX_ENTITIES;
-			LOGGER.warn("Missing MaxEntities attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MAX_ENTITIES);
-		}
-		else
-			ProjectSettings.MAX_ENTITIES = toInteger("MaxEntities", maxEntities);
+			String format = attribute("Format");
+			ExportFormat exportFormat = (format == null || format.isEmpty()) ? ExportFormat.CSV : ExportFormat.get(format);
 
-		if (minComponents == null || minComponents.isEmpty())
-		{
-			ProjectSettings.MIN_COMPONENTS = DEFAULT_MIN_COMPONENTS;
-			LOGGER.warn("Missing MinComponents attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MIN_COMPONENTS);
-		}
-		else
-			ProjectSettings.MIN_COMPONENTS = toInteger("MinComponents", minComponents);
+			if (exportFormat == null)
+				fail("Unrecognized value \"{}\" for the \"Format\" attribute of the <TrafficMonitor> element. Only \"CSV\" or \"JSON\" are considered valid", format);
 
-		if (maxComponents == null || maxComponents.isEmpty())
-		{
-			ProjectSettings.MAX_COMPONENTS = DEFAULT_MAX_COMPONENTS;
-			LOGGER.warn("Missing MaxComponents attribute for <Engine> element. Using default value ({}) instead", DEFAULT_MAX_COMPONENTS);
+			settings.trafficExportFile = exportFile;
+			settings.trafficExportFormat = exportFormat;
 		}
-		else
-			ProjectSettings.MAX_COMPONENTS = toInteger("MaxComponents", maxComponents);
-
-		boundsCheck("MinEntities", "MaxEntities", ProjectSettings.MIN_ENTITIES, ProjectSettings.MAX_ENTITIES);
-		boundsCheck("MinComponents", "MaxComponents", ProjectSettings.MIN_COMPONENTS, ProjectSettings.MAX_COMPONENTS);
 
-		setupEngine();
+		skipElement();
 	}
 
 	private void loadEngineElementDefaults()
 	{
-		ProjectSettings.MIN_ENTITIES = DEFAULT_MIN_ENTITIES;
-		ProjectSettings.MAX_ENTITIES = DEFAULT_MAX_ENTITIES;
-		ProjectSettings.MIN_COMPONENTS = DEFAULT_MIN_COMPONENTS;
-		ProjectSettings.MAX_COMPONENTS = DEFAULT_MAX_COMPONENTS;
+		settings.minEntities = DEFAULT_MIN_ENTITIES;
+		settings.maxEntities = DEFAULT_MAX_ENTITIES;
+		settings.minComponents = DEFAULT_MIN_COMPONENTS;
+		settings.maxComponents = DEFAULT_MAX_COMPONENTS;
 	}
 
 	private void boundsCheck(String minName, String maxName, int min, int max)
 	{
 		if (min < 0)
-		{
-			LOGGER.error("Project initialization failed\n[REASON] Cannot accept value a value ({}) for \"{}\" that is negative", min, minName);
-			System.exit(1);
-		}
+			fail("Cannot accept value a value ({}) for \"{}\" that is negative", min, minName);
 
 		if (max < 0)
-		{
-			LOGGER.error("Project initialization failed\n[REASON] Cannot accept value a value ({}) for \"{}\" that is negative", max, maxName);
-			System.exit(1);
-		}
+			fail("Cannot accept value a value ({}) for \"{}\" that is negative", max, maxName);
 
 		if (!(min < max))
-		{
-			LOGGER.error("Project initialization failed\n[REASON] Cannot accept a value ({}) for \"{}\" which exceeds the value of \"{}\" ({})", min, minName, maxName, max);
-			System.exit(1);
-		}
+			fail("Cannot accept a value ({}) for \"{}\" which exceeds the value of \"{}\" ({})", min, minName, maxName, max);
 	}
 
 	private void setupEngine()
 	{
-		VegaUtilities.initEngineParameters(ProjectSettings.MIN_ENTITIES, ProjectSettings.MAX_ENTITIES, ProjectSettings.MIN_COMPONENTS, ProjectSettings.MAX_COMPONENTS);
+		ProjectSettings.publishDefaults();
+
+		VegaUtilities.initEngineParameters(settings.minEntities, settings.maxEntities, settings.minComponents, settings.maxComponents, settings.poolTelemetry, settings.poolAutoTuning);
 	}
 
 	private int toInteger(String attributeName, String value)
@@ -815,13 +1043,97 @@ public final class ProjectLoader
 		}
 		catch (NumberFormatException e)
 		{
-			LOGGER.error("Project initialization failed\n[REASON] Encountered unexpected value \"{}\" for \"{}\" that cannot be converted to an integer value", value, attributeName);
-			System.exit(1);
+			fail("Encountered unexpected value \"{}\" for \"{}\" that cannot be converted to an integer value", value, attributeName);
 		}
 
 		return integerValue;
 	}
 
+	private long toLong(String attributeName, String value)
+	{
+		long longValue = -1L;
+
+		try
+		{
+			longValue = Long.parseLong(value);
+		}
+		catch (NumberFormatException e)
+		{
+			fail("Encountered unexpected value \"{}\" for \"{}\" that cannot be converted to an integer value", value, attributeName);
+		}
+
+		return longValue;
+	}
+
+	private boolean toBoolean(String attributeName, String value)
+	{
+		if (!(value.equals("true") || value.equals("false")))
+			fail("Encountered unexpected value \"{}\" for \"{}\". Only \"true\" or \"false\" are considered valid", value, attributeName);
+
+		return Boolean.parseBoolean(value);
+	}
+
+	private String attribute(String attributeName)
+	{
+		return reader.getAttributeValue(null, attributeName);
+	}
+
+	private int line()
+	{
+		return reader.getLocation().getLineNumber();
+	}
+
+	/**
+	 * Advance to the next child of the current element.
+	 * 
+	 * @return true if positioned on the start of a child element, or false if the
+	 *         end of the current element was reached instead.
+	 */
+	private boolean nextChild() throws XMLStreamException
+	{
+		while (reader.hasNext())
+		{
+			int event = reader.next();
+
+			if (event == XMLStreamConstants.START_ELEMENT)
+				return true;
+
+			if (event == XMLStreamConstants.END_ELEMENT)
+				return false;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Skip past the end of the current element, including any of its children.
+	 */
+	private void skipElement() throws XMLStreamException
+	{
+		int depth = 1;
+
+		while (depth > 0 && reader.hasNext())
+		{
+			int event = reader.next();
+
+			if (event == XMLStreamConstants.START_ELEMENT)
+				++depth;
+			else if (event == XMLStreamConstants.END_ELEMENT)
+				--depth;
+		}
+	}
+
+	private void fail(String reason, Object... arguments)
+	{
+		failAt(line(), reason, arguments);
+	}
+
+	private void failAt(int line, String reason, Object... arguments)
+	{
+		LOGGER.error("Project initialization failed\n[REASON] Line " + line + ": " + reason, arguments);
+		System.exit(1);
+	}
+
 	private double duration(long startTime)
 	{
 		long endTime = System.currentTimeMillis();
@@ -829,4 +1141,4 @@ public final class ProjectLoader
 
 		return duration;
 	}
-}
\ No newline at end of file
+}
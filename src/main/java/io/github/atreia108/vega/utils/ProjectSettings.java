@@ -32,6 +32,10 @@
 package io.github.atreia108.vega.utils;
 
 import java.net.URL;
+import java.nio.ByteOrder;
+
+import io.github.atreia108.vega.core.FederateContext;
+import io.github.atreia108.vega.core.HLATrafficMonitor.ExportFormat;
 
 /**
  * The stored settings to be used retrieved from the simulation's project file.
@@ -39,50 +43,165 @@ import java.net.URL;
  * @author Hridyanshu Aatreya
  * @since 1.0.0
  */
-public final record ProjectSettings()
+public final class ProjectSettings
 {
+	private static final FederateContext.Key<ProjectSettings> SETTINGS = FederateContext.key(ProjectSettings::new);
+
+	public static final int DEFAULT_DECLARATION_PARALLELISM = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+	public static final int DEFAULT_SCHEDULER_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	// Mirrors of the settings of the default context, kept for code written before
+	// federates had settings of their own. They are published whenever a project
+	// is loaded in the default context, so single-federate programs read the same
+	// values as before. Co-hosted federates use current() instead.
 	public static String HOST_NAME;
 	public static String PORT_NUMBER;
 	public static String FEDERATION_NAME;
 	public static String FEDERATE_NAME;
 	public static URL[] FOM_MODULES;
-	
+
 	public static int MIN_ENTITIES;
 	public static int MAX_ENTITIES;
 	public static int MIN_COMPONENTS;
 	public static int MAX_COMPONENTS;
+
+	public static boolean PIPELINED_TIME_ADVANCE;
+	public static int TIME_STEP_MULTIPLE = 1;
+	public static long LOOKAHEAD;
+
+	public static int DECLARATION_PARALLELISM = DEFAULT_DECLARATION_PARALLELISM;
+
+	public static boolean BUFFERED_REFLECTIONS;
+	public static boolean REFERENCE_FRAMES;
+
+	public static int TRAFFIC_SAMPLING_INTERVAL;
+	public static int TRAFFIC_RATE_WINDOW;
+	public static String TRAFFIC_EXPORT_FILE;
+	public static ExportFormat TRAFFIC_EXPORT_FORMAT;
+
+	public String hostName;
+	public String portNumber;
+	public String federationName;
+	public String federateName;
+	public URL[] fomModules;
 	
+	public int minEntities;
+	public int maxEntities;
+	public int minComponents;
+	public int maxComponents;
+	public boolean poolTelemetry;
+	public boolean poolAutoTuning;
+
+	public boolean pipelinedTimeAdvance;
+	public int timeStepMultiple = 1;
+	public long lookahead;
+
+	public int declarationParallelism = DEFAULT_DECLARATION_PARALLELISM;
+
+	public int schedulerParallelism = DEFAULT_SCHEDULER_PARALLELISM;
+
+	public boolean bufferedReflections;
+	public boolean referenceFrames;
+
+	public ByteOrder spaceFomByteOrder = ByteOrder.LITTLE_ENDIAN;
+
+	public int trafficSamplingInterval;
+	public int trafficRateWindow;
+	public String trafficExportFile;
+	public ExportFormat trafficExportFormat;
+
 	private static final String SEPARATOR_STYLE_1 = "========================================";
 
+	private ProjectSettings()
+	{
+	}
+
+	/**
+	 * Returns the settings of the federate bound to the calling thread.
+	 */
+	public static ProjectSettings current()
+	{
+		return SETTINGS.get();
+	}
+
+	/**
+	 * Publish the settings of the calling thread's federate to the static fields
+	 * if it is the default context.
+	 */
+	protected static void publishDefaults()
+	{
+		if (FederateContext.current() != FederateContext.getDefault())
+			return;
+
+		ProjectSettings settings = current();
+
+		HOST_NAME = settings.hostName;
+		PORT_NUMBER = settings.portNumber;
+		FEDERATION_NAME = settings.federationName;
+		FEDERATE_NAME = settings.federateName;
+		FOM_MODULES = settings.fomModules;
+
+		MIN_ENTITIES = settings.minEntities;
+		MAX_ENTITIES = settings.maxEntities;
+		MIN_COMPONENTS = settings.minComponents;
+		MAX_COMPONENTS = settings.maxComponents;
+
+		PIPELINED_TIME_ADVANCE = settings.pipelinedTimeAdvance;
+		TIME_STEP_MULTIPLE = settings.timeStepMultiple;
+		LOOKAHEAD = settings.lookahead;
+
+		DECLARATION_PARALLELISM = settings.declarationParallelism;
+
+		BUFFERED_REFLECTIONS = settings.bufferedReflections;
+		REFERENCE_FRAMES = settings.referenceFrames;
+
+		TRAFFIC_SAMPLING_INTERVAL = settings.trafficSamplingInterval;
+		TRAFFIC_RATE_WINDOW = settings.trafficRateWindow;
+		TRAFFIC_EXPORT_FILE = settings.trafficExportFile;
+		TRAFFIC_EXPORT_FORMAT = settings.trafficExportFormat;
+	}
+
 	/**
 	 * Print a summary of the settings for this project to standard output.
 	 */
 	public static void print()
+	{
+		current().printSettings();
+	}
+
+	private void printSettings()
 	{
 		System.out.println(SEPARATOR_STYLE_1);
-		System.out.println("Settings for <" + FEDERATE_NAME + ">");
+		System.out.println("Settings for <" + federateName + ">");
 		System.out.println(SEPARATOR_STYLE_1 + "\n");
 		System.out.println("RTI Connection");
 		System.out.println(SEPARATOR_STYLE_1);
-		System.out.println("Host: " + HOST_NAME);
-		System.out.println("Port: " + PORT_NUMBER);
-		System.out.println("Federation: " + FEDERATION_NAME + "\n");
+		System.out.println("Host: " + hostName);
+		System.out.println("Port: " + portNumber);
+		System.out.println("Federation: " + federationName + "\n");
 		printFomModules();
 		printEngineParameters();
+		printTimeManagement();
+		printDeclaration();
+		printScheduler();
+		printReflectionBuffer();
+		printReferenceFrames();
+		printSpaceFom();
+		printTrafficMonitor();
 	}
 
-	private static void printFomModules()
+	private void printFomModules()
 	{
 		System.out.println("HLA FOM Modules");
 		System.out.println(SEPARATOR_STYLE_1);
 		
-		if (FOM_MODULES == null)
+		if (fomModules == null)
 		{
 			System.out.println("None");
 		}
 		else
 		{
-			for (URL url : FOM_MODULES)
+			for (URL url : fomModules)
 			{
 				System.out.println(url);
 			}
@@ -90,14 +209,81 @@ public final record ProjectSettings()
 		System.out.println();
 	}
 	
-	private static void printEngineParameters()
+	private void printEngineParameters()
 	{
 		System.out.println("Simulation Engine Parameters");
 		System.out.println(SEPARATOR_STYLE_1);
 		
-		System.out.println("Minimum Entities: " + MIN_ENTITIES);
-		System.out.println("Maximum Entities: " + MAX_ENTITIES);
-		System.out.println("Minimum Components: " + MIN_COMPONENTS);
-		System.out.println("Maximum Components: " + MAX_COMPONENTS + "\n");
+		System.out.println("Minimum Entities: " + minEntities);
+		System.out.println("Maximum Entities: " + maxEntities);
+		System.out.println("Minimum Components: " + minComponents);
+		System.out.println("Maximum Components: " + maxComponents);
+		System.out.println("Pool Telemetry: " + (poolTelemetry ? (poolAutoTuning ? "Enabled (Auto-Tuning)" : "Enabled") : "Disabled") + "\n");
+	}
+
+	private void printTimeManagement()
+	{
+		System.out.println("Time Management");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		System.out.println("Time Step Multiple: " + timeStepMultiple);
+		System.out.println("Lookahead: " + (lookahead > 0 ? lookahead : "LCTS"));
+		System.out.println("Pipelined Time Advance: " + (pipelinedTimeAdvance ? "Enabled" : "Disabled") + "\n");
+	}
+
+	private void printDeclaration()
+	{
+		System.out.println("Declaration");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		System.out.println("Parallelism: " + declarationParallelism + "\n");
+	}
+
+	private void printScheduler()
+	{
+		System.out.println("Scheduler");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		System.out.println("Parallelism: " + schedulerParallelism + "\n");
+	}
+
+	private void printReflectionBuffer()
+	{
+		System.out.println("Reflection Buffer");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		System.out.println(bufferedReflections ? "Enabled\n" : "Disabled\n");
+	}
+
+	private void printReferenceFrames()
+	{
+		System.out.println("Reference Frames");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		System.out.println(referenceFrames ? "Enabled\n" : "Disabled\n");
+	}
+
+	private void printSpaceFom()
+	{
+		System.out.println("SpaceFOM Encoding");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		System.out.println("Byte Order: " + (spaceFomByteOrder == ByteOrder.BIG_ENDIAN ? "Big-Endian" : "Little-Endian") + "\n");
+	}
+
+	private void printTrafficMonitor()
+	{
+		System.out.println("Traffic Monitor");
+		System.out.println(SEPARATOR_STYLE_1);
+
+		if (trafficSamplingInterval < 1)
+		{
+			System.out.println("Disabled\n");
+			return;
+		}
+
+		System.out.println("Sampling Interval: " + trafficSamplingInterval + "s");
+		System.out.println("Rate Window: " + trafficRateWindow + " samples");
+		System.out.println("Export File: " + (trafficExportFile != null ? trafficExportFile + " (" + trafficExportFormat + ")" : "None") + "\n");
 	}
 }
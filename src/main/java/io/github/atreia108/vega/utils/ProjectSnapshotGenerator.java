@@ -0,0 +1,441 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.utils;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.atreia108.vega.core.InteractionClassProfile;
+import io.github.atreia108.vega.core.ObjectClassProfile;
+import io.github.atreia108.vega.core.ProjectRegistry;
+import io.github.atreia108.vega.core.RegionProfile;
+
+/**
+ * <p>
+ * Generates the Java source of an
+ * {@link io.github.atreia108.vega.utils.IProjectSnapshot IProjectSnapshot} from
+ * a project file. The project file is loaded once with the
+ * {@link io.github.atreia108.vega.utils.ProjectLoader ProjectLoader}, so it is
+ * validated in exactly the same way, and the resulting settings and registry
+ * are written out as plain assignments and constructor calls. Federates started
+ * from the generated class skip XML parsing and reflective class loading. Each
+ * class and region is written to a method of its own, so that projects with
+ * thousands of classes stay within the size limit of a single method.
+ * </p>
+ * 
+ * <p>
+ * The generator is meant to be run as part of the build of a simulation, for
+ * instance from the <code>generate-sources</code> phase:
+ * </p>
+ * 
+ * <pre>
+ * java io.github.atreia108.vega.utils.ProjectSnapshotGenerator &lt;project file&gt; &lt;source directory&gt; &lt;class name&gt;
+ * </pre>
+ * 
+ * <p>
+ * The generated class has to be regenerated whenever the project file
+ * changes. FOM modules are recorded by their path relative to the directory
+ * the generator is run from, and are found at runtime either relative to the
+ * working directory or on the class path of the generated class.
+ * </p>
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class ProjectSnapshotGenerator
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	// Registrations of archetypes, converters and interpolators written per method.
+	private static final int INSTANCES_PER_METHOD = 256;
+
+	private final StringBuilder source = new StringBuilder();
+	private final List<String> methods = new ArrayList<String>();
+
+	public static void main(String[] args)
+	{
+		if (args.length != 3)
+		{
+			System.err.println("Usage: ProjectSnapshotGenerator <project file> <source directory> <fully qualified class name>");
+			System.exit(1);
+		}
+
+		new ProjectLoader(args[0]);
+
+		try
+		{
+			Path output = new ProjectSnapshotGenerator().write(Path.of(args[1]), args[2]);
+			LOGGER.info("Project snapshot written to \"{}\"", output);
+		}
+		catch (IOException e)
+		{
+			LOGGER.error("Failed to write the project snapshot\n[REASON]", e);
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Write the snapshot of the currently loaded project as a Java source file.
+	 * 
+	 * @param sourceDirectory the root directory of the generated sources.
+	 * @param className       the fully qualified name of the generated class.
+	 * @return the path of the generated file.
+	 */
+	public Path write(Path sourceDirectory, String className) throws IOException
+	{
+		int separator = className.lastIndexOf('.');
+		String packageName = separator > 0 ? className.substring(0, separator) : null;
+		String simpleName = className.substring(separator + 1);
+
+		generate(packageName, simpleName);
+
+		Path output = sourceDirectory.resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(output.getParent());
+		Files.writeString(output, source, StandardCharsets.UTF_8);
+
+		return output;
+	}
+
+	private void generate(String packageName, String simpleName)
+	{
+		source.setLength(0);
+		methods.clear();
+
+		line(0, "// Generated by ProjectSnapshotGenerator from the project \"" + ProjectSettings.current().federateName + "\". Do not edit.");
+		if (packageName != null)
+			line(0, "package " + packageName + ";");
+
+		line(0, "");
+		line(0, "public final class " + simpleName + " implements io.github.atreia108.vega.utils.IProjectSnapshot");
+		line(0, "{");
+		line(1, "@Override");
+		line(1, "public void apply() throws Exception");
+		line(1, "{");
+
+		int applyEnd = source.length();
+
+		generateSettings();
+		generateRegions();
+		generateInstances();
+		generateObjectClasses();
+		generateInteractionClasses();
+
+		line(0, "}");
+
+		// apply() only calls the generated methods in order, which are known once
+		// they have all been written.
+		StringBuilder calls = new StringBuilder();
+		for (String method : methods)
+			calls.append("\t\t").append(method).append("();\n");
+		calls.append("\t}\n");
+
+		source.insert(applyEnd, calls);
+	}
+
+	private void beginMethod(String name)
+	{
+		methods.add(name);
+
+		line(0, "");
+		line(1, "private void " + name + "() throws Exception");
+		line(1, "{");
+	}
+
+	private void endMethod()
+	{
+		line(1, "}");
+	}
+
+	private void generateSettings()
+	{
+		final String settings = "settings.";
+		ProjectSettings projectSettings = ProjectSettings.current();
+
+		beginMethod("settings");
+		line(2, "io.github.atreia108.vega.utils.ProjectSettings settings = io.github.atreia108.vega.utils.ProjectSettings.current();");
+
+		line(2, settings + "hostName = " + literal(projectSettings.hostName) + ";");
+		line(2, settings + "portNumber = " + literal(projectSettings.portNumber) + ";");
+		line(2, settings + "federationName = " + literal(projectSettings.federationName) + ";");
+		line(2, settings + "federateName = " + literal(projectSettings.federateName) + ";");
+
+		if (projectSettings.fomModules != null)
+		{
+			line(2, settings + "fomModules = new java.net.URL[] {");
+			for (URL url : projectSettings.fomModules)
+				line(3, fomModule(url) + ",");
+			line(2, "};");
+		}
+
+		line(2, settings + "minEntities = " + projectSettings.minEntities + ";");
+		line(2, settings + "maxEntities = " + projectSettings.maxEntities + ";");
+		line(2, settings + "minComponents = " + projectSettings.minComponents + ";");
+		line(2, settings + "maxComponents = " + projectSettings.maxComponents + ";");
+		line(2, settings + "poolTelemetry = " + projectSettings.poolTelemetry + ";");
+		line(2, settings + "poolAutoTuning = " + projectSettings.poolAutoTuning + ";");
+		line(2, settings + "pipelinedTimeAdvance = " + projectSettings.pipelinedTimeAdvance + ";");
+		line(2, settings + "timeStepMultiple = " + projectSettings.timeStepMultiple + ";");
+		line(2, settings + "lookahead = " + projectSettings.lookahead + "L;");
+
+		// Left to default at runtime so that it follows the machine the federate runs
+		// on rather than the one it was built on.
+		if (projectSettings.declarationParallelism != ProjectSettings.DEFAULT_DECLARATION_PARALLELISM)
+			line(2, settings + "declarationParallelism = " + projectSettings.declarationParallelism + ";");
+		if (projectSettings.schedulerParallelism != ProjectSettings.DEFAULT_SCHEDULER_PARALLELISM)
+			line(2, settings + "schedulerParallelism = " + projectSettings.schedulerParallelism + ";");
+
+		line(2, settings + "bufferedReflections = " + projectSettings.bufferedReflections + ";");
+		line(2, settings + "referenceFrames = " + projectSettings.referenceFrames + ";");
+		line(2, settings + "spaceFomByteOrder = java.nio.ByteOrder." + projectSettings.spaceFomByteOrder + ";");
+		line(2, settings + "trafficSamplingInterval = " + projectSettings.trafficSamplingInterval + ";");
+		line(2, settings + "trafficRateWindow = " + projectSettings.trafficRateWindow + ";");
+		line(2, settings + "trafficExportFile = " + literal(projectSettings.trafficExportFile) + ";");
+
+		if (projectSettings.trafficExportFormat != null)
+			line(2, settings + "trafficExportFormat = io.github.atreia108.vega.core.HLATrafficMonitor.ExportFormat." + projectSettings.trafficExportFormat.name() + ";");
+
+		endMethod();
+
+		if (ProjectRegistry.getRequiredObjects() != null)
+		{
+			beginMethod("requiredObjects");
+			line(2, "java.util.Set<String> requiredObjects = new java.util.LinkedHashSet<String>();");
+			for (String instanceName : ProjectRegistry.getRequiredObjects())
+				line(2, "requiredObjects.add(" + literal(instanceName) + ");");
+			line(2, "io.github.atreia108.vega.core.ProjectRegistry.setRequiredObjects(requiredObjects);");
+			endMethod();
+		}
+	}
+
+	// FOM modules beneath the working directory are recorded by their relative
+	// path, which the snapshot resolves again at runtime, so that it does not
+	// depend on the machine it was generated on.
+	private String fomModule(URL url)
+	{
+		Path workingDirectory = Path.of("").toAbsolutePath().normalize();
+		Path fomPath;
+
+		try
+		{
+			fomPath = Path.of(url.toURI()).toAbsolutePath().normalize();
+		}
+		catch (URISyntaxException | IllegalArgumentException e)
+		{
+			LOGGER.warn("The FOM module \"{}\" is recorded in the snapshot by its URL\n[REASON] It is not a local file", url);
+			return "java.net.URI.create(" + literal(url.toString()) + ").toURL()";
+		}
+
+		if (!fomPath.startsWith(workingDirectory))
+		{
+			LOGGER.warn("The FOM module \"{}\" is recorded in the snapshot by its absolute path\n[REASON] It lies outside of the working directory \"{}\"", fomPath, workingDirectory);
+			return "new java.io.File(" + literal(fomPath.toString()) + ").toURI().toURL()";
+		}
+
+		String relativePath = workingDirectory.relativize(fomPath).toString().replace(fomPath.getFileSystem().getSeparator(), "/");
+		return "io.github.atreia108.vega.utils.IProjectSnapshot.fomModule(getClass(), " + literal(relativePath) + ")";
+	}
+
+	private void generateRegions()
+	{
+		int index = 0;
+
+		for (RegionProfile region : ProjectRegistry.getRegionProfiles())
+		{
+			String variable = "region";
+
+			beginMethod(variable + index++);
+			line(2, "io.github.atreia108.vega.core.RegionProfile " + variable + " = new io.github.atreia108.vega.core.RegionProfile(" + literal(region.name) + ");");
+
+			for (String dimensionName : region.getDimensionNames())
+				line(2, variable + ".addDimension(" + literal(dimensionName) + ", " + region.getBounds(dimensionName).lower + "L, " + region.getBounds(dimensionName).upper + "L);");
+
+			line(2, "io.github.atreia108.vega.core.ProjectRegistry.addRegion(" + variable + ");");
+			endMethod();
+		}
+	}
+
+	// Archetypes, converters and interpolators are created with their no-argument
+	// constructors, as the loader would do reflectively.
+	private void generateInstances()
+	{
+		List<String> registrations = new ArrayList<String>();
+
+		for (String archetypeName : sorted(ProjectRegistry.getArchetypes()))
+			registrations.add("io.github.atreia108.vega.core.ProjectRegistry.addArchetype(" + literal(archetypeName) + ", new " + archetypeName + "());");
+
+		for (String converterName : sorted(ProjectRegistry.getDataConverters()))
+			registrations.add("io.github.atreia108.vega.core.ProjectRegistry.addDataConverter(" + literal(converterName) + ", new " + converterName + "());");
+
+		for (String converterName : sorted(ProjectRegistry.getMultiConverters()))
+			registrations.add("io.github.atreia108.vega.core.ProjectRegistry.addMultiConverter(" + literal(converterName) + ", new " + converterName + "());");
+
+		for (String interpolatorName : sorted(ProjectRegistry.getInterpolators()))
+			registrations.add("io.github.atreia108.vega.core.ProjectRegistry.addInterpolator(" + literal(interpolatorName) + ", new " + interpolatorName + "());");
+
+		for (int i = 0; i < registrations.size(); i += INSTANCES_PER_METHOD)
+		{
+			beginMethod("instances" + i / INSTANCES_PER_METHOD);
+			for (String registration : registrations.subList(i, Math.min(i + INSTANCES_PER_METHOD, registrations.size())))
+				line(2, registration);
+			endMethod();
+		}
+	}
+
+	private void generateObjectClasses()
+	{
+		int index = 0;
+
+		for (ObjectClassProfile objectClass : ProjectRegistry.getObjectClassProfiles())
+		{
+			String variable = "objectClass";
+
+			beginMethod(variable + index++);
+			line(2, "io.github.atreia108.vega.core.ObjectClassProfile " + variable + " = new io.github.atreia108.vega.core.ObjectClassProfile(" + literal(objectClass.name) + ", " + literal(objectClass.archetypeName) + ", " + objectClass.declareAutomatically + ");");
+
+			if (objectClass.interpolatorName != null)
+				line(2, variable + ".interpolatorName = " + literal(objectClass.interpolatorName) + ";");
+
+			for (String attributeName : objectClass.attributeNames)
+			{
+				line(2, variable + ".addAttribute(" + literal(attributeName) + ", io.github.atreia108.vega.core.HLASharingModel." + objectClass.getSharingModel(attributeName).name() + ");");
+
+				if (objectClass.attributeUsesMultiConverter(attributeName))
+				{
+					String converterName = objectClass.getAttributeMultiConverterName(attributeName);
+					line(2, variable + ".addMultiConverter(" + literal(attributeName) + ", " + literal(converterName) + ", " + objectClass.getAttributeConverterTrigger(attributeName, converterName) + ");");
+				}
+				else if (objectClass.attributeUsesConverter(attributeName))
+					line(2, variable + ".addConverter(" + literal(attributeName) + ", " + literal(objectClass.getAttributeConverterName(attributeName)) + ");");
+			}
+
+			for (String regionName : objectClass.getSubscriptionRegionNames())
+				line(2, variable + ".addSubscriptionRegion(" + literal(regionName) + ");");
+
+			for (String regionName : objectClass.getUpdateRegionNames())
+				line(2, variable + ".addUpdateRegion(" + literal(regionName) + ");");
+
+			line(2, "io.github.atreia108.vega.core.ProjectRegistry.addObjectClass(" + variable + ");");
+			endMethod();
+		}
+	}
+
+	private void generateInteractionClasses()
+	{
+		int index = 0;
+
+		for (InteractionClassProfile interactionClass : ProjectRegistry.getInteractionClassProfiles())
+		{
+			String variable = "interactionClass";
+
+			beginMethod(variable + index++);
+			line(2, "io.github.atreia108.vega.core.InteractionClassProfile " + variable + " = new io.github.atreia108.vega.core.InteractionClassProfile(" + literal(interactionClass.name) + ", " + literal(interactionClass.archetypeName) + ", io.github.atreia108.vega.core.HLASharingModel." + interactionClass.sharingModel.name() + ", " + interactionClass.declareAutomatically + ");");
+
+			for (String parameterName : interactionClass.parameterNames)
+			{
+				line(2, variable + ".addParameter(" + literal(parameterName) + ");");
+
+				if (interactionClass.parameterUsesMultiConverter(parameterName))
+				{
+					String converterName = interactionClass.getParameterMultiConverterName(parameterName);
+					line(2, variable + ".addMultiConverter(" + literal(parameterName) + ", " + literal(converterName) + ", " + interactionClass.getParameterMultiConverterTrigger(parameterName, converterName) + ");");
+				}
+				else if (interactionClass.parameterUsesConverter(parameterName))
+					line(2, variable + ".addConverter(" + literal(parameterName) + ", " + literal(interactionClass.getParameterConverterName(parameterName)) + ");");
+			}
+
+			for (String regionName : interactionClass.getSubscriptionRegionNames())
+				line(2, variable + ".addSubscriptionRegion(" + literal(regionName) + ");");
+
+			for (String regionName : interactionClass.getUpdateRegionNames())
+				line(2, variable + ".addUpdateRegion(" + literal(regionName) + ");");
+
+			line(2, "io.github.atreia108.vega.core.ProjectRegistry.addInteractionClass(" + variable + ");");
+			endMethod();
+		}
+	}
+
+	private Iterable<String> sorted(Map<String, ?> map)
+	{
+		return new TreeMap<String, Object>(map).keySet();
+	}
+
+	private void line(int indentation, String text)
+	{
+		source.append("\t".repeat(indentation)).append(text).append('\n');
+	}
+
+	private static String literal(String value)
+	{
+		if (value == null)
+			return "null";
+
+		StringBuilder literal = new StringBuilder("\"");
+
+		for (char c : value.toCharArray())
+		{
+			switch (c)
+			{
+				case '"':
+					literal.append("\\\"");
+					break;
+				case '\\':
+					literal.append("\\\\");
+					break;
+				case '\n':
+					literal.append("\\n");
+					break;
+				case '\r':
+					literal.append("\\r");
+					break;
+				case '\t':
+					literal.append("\\t");
+					break;
+				default:
+					literal.append(c);
+					break;
+			}
+		}
+
+		return literal.append('"').toString();
+	}
+}
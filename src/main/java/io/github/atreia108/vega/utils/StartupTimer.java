@@ -0,0 +1,105 @@
+/*-
+ * SPDX-License-Identifier: BSD-3-Clause
+ * Copyright (c) 2025 Hridyanshu Aatreya <Hridyanshu.Aatreya2@brunel.ac.uk>
+ * All rights reserved.
+
+ * Redistribution and use in source and binary forms, with or without 
+ * modification, are permitted provided that the following conditions 
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright notice, 
+ *	  this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the 
+ *    documentation and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its 
+ * 	  contributors may be used to endorse or promote products derived from this
+ *    software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR AND CONTRIBUTORS ``AS IS'' AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED.  IN NO EVENT SHALL THE AUTHOR OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS
+ * OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ * 
+ */
+
+package io.github.atreia108.vega.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Measures the time spent in each step of initializing a simulation so that
+ * slow steps during joining can be identified.
+ * 
+ * @author Hridyanshu Aatreya
+ * @since 1.0.0
+ */
+public final class StartupTimer
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final String SEPARATOR_STYLE_1 = "========================================";
+
+	private final int totalSteps;
+	private final List<String> descriptions = new ArrayList<String>();
+	private final List<Long> durations = new ArrayList<Long>();
+
+	private long stepStartTime;
+	private final long startTime;
+
+	public StartupTimer(int totalSteps)
+	{
+		this.totalSteps = totalSteps;
+		startTime = System.nanoTime();
+	}
+
+	/**
+	 * Finish the current step, if any, and begin timing the next one.
+	 */
+	public void begin(String description)
+	{
+		end();
+
+		descriptions.add(description);
+		stepStartTime = System.nanoTime();
+
+		LOGGER.debug("({}/{}) {}", descriptions.size(), totalSteps, description);
+	}
+
+	/**
+	 * Finish timing the current step.
+	 */
+	public void end()
+	{
+		if (durations.size() < descriptions.size())
+			durations.add(System.nanoTime() - stepStartTime);
+	}
+
+	/**
+	 * Finish the current step and log the time taken by every step.
+	 */
+	public void report()
+	{
+		end();
+
+		StringBuilder report = new StringBuilder("Startup Timing\n");
+		report.append(SEPARATOR_STYLE_1).append("\n");
+
+		for (int i = 0; i < descriptions.size(); ++i)
+			report.append(String.format("(%d/%d) %.3fs  %s%n", i + 1, totalSteps, durations.get(i) / 1e9, descriptions.get(i)));
+
+		report.append(String.format("Total: %.3fs", (System.nanoTime() - startTime) / 1e9));
+
+		LOGGER.info(report);
+	}
+}
@@ -42,6 +42,7 @@ import hla.rti1516e.exceptions.RTIinternalError;
 import io.github.atreia108.vega.components.ExCOComponent;
 import io.github.atreia108.vega.components.HLAInteractionComponent;
 import io.github.atreia108.vega.components.HLAObjectComponent;
+import io.github.atreia108.vega.core.FederateContext;
 
 /**
  * A collection of objects that are used internally by the framework and
@@ -53,20 +54,42 @@ import io.github.atreia108.vega.components.HLAObjectComponent;
 public final record VegaUtilities()
 {
 	private static RtiFactory rtiFactory;
-	private static RTIambassador rtiAmbassador;
 	private static EncoderFactory encoderFactory;
 
-	private static PooledEngine engine;
+	private static final FederateContext.Key<State> STATE = FederateContext.key(State::new);
+
 	private static final ComponentMapper<HLAObjectComponent> HLA_OBJECT_MAPPER = ComponentMapper.getFor(HLAObjectComponent.class);
 	private static final ComponentMapper<HLAInteractionComponent> HLA_INTERACTION_MAPPER = ComponentMapper.getFor(HLAInteractionComponent.class);
 	private static final ComponentMapper<ExCOComponent> SPACEFOM_EXCO_MAPPER = ComponentMapper.getFor(ExCOComponent.class);
 
+	private static final class State
+	{
+		private final RTIambassador rtiAmbassador;
+		private PooledEngine engine;
+
+		private State()
+		{
+			RTIambassador ambassador = null;
+
+			try
+			{
+				ambassador = rtiFactory.getRtiAmbassador();
+			}
+			catch (RTIinternalError e)
+			{
+				e.printStackTrace();
+				System.exit(1);
+			}
+
+			rtiAmbassador = ambassador;
+		}
+	}
+
 	static
 	{
 		try
 		{
 			rtiFactory = RtiFactoryFactory.getRtiFactory();
-			rtiAmbassador = rtiFactory.getRtiAmbassador();
 			encoderFactory = rtiFactory.getEncoderFactory();
 		}
 		catch (RTIinternalError e)
@@ -81,9 +104,12 @@ public final record VegaUtilities()
 		return rtiFactory;
 	}
 
+	/**
+	 * Returns the RTI ambassador of the federate bound to the calling thread.
+	 */
 	public static RTIambassador rtiAmbassador()
 	{
-		return rtiAmbassador;
+		return STATE.get().rtiAmbassador;
 	}
 
 	public static EncoderFactory encoderFactory()
@@ -98,7 +124,7 @@ public final record VegaUtilities()
 	 */
 	public static PooledEngine engine()
 	{
-		return engine;
+		return STATE.get().engine;
 	}
 
 	/**
@@ -128,11 +154,16 @@ public final record VegaUtilities()
 		return SPACEFOM_EXCO_MAPPER;
 	}
 
-	protected static void initEngineParameters(int minEntities, int maxEntities, int minComponents, int maxComponents)
+	protected static void initEngineParameters(int minEntities, int maxEntities, int minComponents, int maxComponents, boolean poolTelemetry, boolean poolAutoTuning)
 	{
-		if (engine != null)
+		State state = STATE.get();
+
+		if (state.engine != null)
 			return;
 
-		engine = new PooledEngine(minEntities, maxEntities, minComponents, maxComponents);
+		if (poolTelemetry)
+			state.engine = new InstrumentedEngine(minEntities, maxEntities, minComponents, maxComponents, poolAutoTuning);
+		else
+			state.engine = new PooledEngine(minEntities, maxEntities, minComponents, maxComponents);
 	}
 }